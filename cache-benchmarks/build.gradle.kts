@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    implementation("net.runelite:cache:${project.version}")
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+// ./gradlew :cache-benchmarks:jmh -Pjmh.include=Xtea -Pjmh.args="-f 1"
+// Results are written as json to build/results/jmh/<commit>.json, so that runs
+// of different commits can be compared with each other
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the cache JMH benchmarks"
+
+    val commit = providers.exec {
+        commandLine("git", "rev-parse", "--short=7", "HEAD")
+    }.standardOutput.asText.map { it.trim() }
+    val results = layout.buildDirectory.dir("results/jmh").zip(commit) { dir, c -> dir.file("$c.json") }
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    outputs.upToDateWhen { false }
+
+    argumentProviders.add(CommandLineArgumentProvider {
+        val out = results.get().asFile
+        out.parentFile.mkdirs()
+        listOf(providers.gradleProperty("jmh.include").getOrElse(".*"), "-rf", "json", "-rff", out.absolutePath) +
+            providers.gradleProperty("jmh.args").getOrElse("").split(" ").filter { it.isNotBlank() }
+    })
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.util.Djb2;
+
+/**
+ * Generates small synthetic cache data for the benchmarks. Everything is generated from
+ * a seeded {@link Random}, so every run and every commit benchmarks the same input.
+ */
+final class Fixtures
+{
+	static final int SEED = 42;
+	static final int[] KEYS = {0x5a17c3e9, 0x1f2e3d4c, 0x6b7a8998, 0x0badf00d};
+
+	// lumbridge
+	static final int BASE_REGION_X = 50;
+	static final int BASE_REGION_Y = 50;
+
+	private Fixtures()
+	{
+	}
+
+	/**
+	 * Runs of repeated bytes mixed with noise, which compresses roughly as well as
+	 * typical cache archives do
+	 */
+	static byte[] payload(Random random, int size)
+	{
+		byte[] b = new byte[size];
+		int i = 0;
+		while (i < size)
+		{
+			int len = Math.min(size - i, 1 + random.nextInt(32));
+			if (random.nextBoolean())
+			{
+				Arrays.fill(b, i, i + len, (byte) random.nextInt(16));
+			}
+			else
+			{
+				for (int j = i; j < i + len; ++j)
+				{
+					b[j] = (byte) random.nextInt(256);
+				}
+			}
+			i += len;
+		}
+		return b;
+	}
+
+	/**
+	 * Terrain for one region, in the format read by {@link net.runelite.cache.definitions.loaders.MapLoader}
+	 */
+	static byte[] terrain(Random random)
+	{
+		OutputStream out = new OutputStream();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					// the upper planes are mostly empty
+					if (z > 0 && random.nextInt(8) != 0)
+					{
+						out.writeShort(0);
+						continue;
+					}
+
+					if (random.nextInt(4) == 0)
+					{
+						out.writeShort(2 + random.nextInt(48)); // overlay, path and rotation
+						out.writeShort(1 + random.nextInt(100));
+					}
+					if (random.nextInt(16) == 0)
+					{
+						out.writeShort(50 + random.nextInt(32)); // settings
+					}
+					out.writeShort(82 + random.nextInt(100)); // underlay
+					out.writeShort(1); // height
+					out.writeByte(random.nextInt(64));
+				}
+			}
+		}
+		return out.flip();
+	}
+
+	/**
+	 * Locations for one region, in the format read by {@link net.runelite.cache.definitions.loaders.LocationsLoader}
+	 */
+	static byte[] locations(Random random, int count)
+	{
+		OutputStream out = new OutputStream();
+		while (count > 0)
+		{
+			out.writeShortSmart(1 + random.nextInt(200)); // id offset
+
+			int n = Math.min(count, 1 + random.nextInt(4));
+			TreeSet<Integer> positions = new TreeSet<>();
+			while (positions.size() < n)
+			{
+				positions.add(random.nextInt(Region.Z << 12));
+			}
+
+			int previous = 0;
+			for (int position : positions)
+			{
+				out.writeShortSmart(position - previous + 1);
+				out.writeByte(random.nextInt(23) << 2 | random.nextInt(4)); // type and orientation
+				previous = position;
+			}
+			out.writeShortSmart(0);
+
+			count -= n;
+		}
+		out.writeShortSmart(0);
+		return out.flip();
+	}
+
+	/**
+	 * A terrain-like grid of {@code size * size} vertices in the type 1 model format,
+	 * with face colors and transparencies
+	 */
+	static byte[] model(Random random, int size)
+	{
+		int vertexCount = size * size;
+		int faceCount = (size - 1) * (size - 1) * 2;
+
+		OutputStream vertexFlags = new OutputStream();
+		OutputStream vertexX = new OutputStream();
+		OutputStream vertexY = new OutputStream();
+		OutputStream vertexZ = new OutputStream();
+		int lastX = 0, lastY = 0, lastZ = 0;
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			int x = (i % size) * 32;
+			int y = -random.nextInt(64);
+			int z = (i / size) * 32;
+
+			int flags = 0;
+			if (x != lastX)
+			{
+				flags |= 1;
+				writeSignedSmart(vertexX, x - lastX);
+			}
+			if (y != lastY)
+			{
+				flags |= 2;
+				writeSignedSmart(vertexY, y - lastY);
+			}
+			if (z != lastZ)
+			{
+				flags |= 4;
+				writeSignedSmart(vertexZ, z - lastZ);
+			}
+			vertexFlags.writeByte(flags);
+
+			lastX = x;
+			lastY = y;
+			lastZ = z;
+		}
+
+		OutputStream faceTypes = new OutputStream();
+		OutputStream faceIndices = new OutputStream();
+		OutputStream faceTransparencies = new OutputStream();
+		OutputStream faceColors = new OutputStream();
+		int last = 0;
+		for (int j = 0; j < size - 1; ++j)
+		{
+			for (int i = 0; i < size - 1; ++i)
+			{
+				int a = j * size + i;
+				int b = a + 1;
+				int c = a + size;
+				int d = c + 1;
+				int[][] faces = {{a, b, c}, {b, d, c}};
+				for (int[] face : faces)
+				{
+					faceTypes.writeByte(1);
+					writeSignedSmart(faceIndices, face[0] - last);
+					writeSignedSmart(faceIndices, face[1] - face[0]);
+					writeSignedSmart(faceIndices, face[2] - face[1]);
+					last = face[2];
+
+					faceTransparencies.writeByte(random.nextInt(4) == 0 ? 128 : 0);
+					faceColors.writeShort(random.nextInt(65536));
+				}
+			}
+		}
+
+		byte[] vertexXData = vertexX.flip();
+		byte[] vertexYData = vertexY.flip();
+		byte[] vertexZData = vertexZ.flip();
+		byte[] faceIndexData = faceIndices.flip();
+
+		OutputStream out = new OutputStream();
+		out.writeBytes(vertexFlags.flip());
+		out.writeBytes(faceTypes.flip());
+		out.writeBytes(faceTransparencies.flip());
+		out.writeBytes(faceIndexData);
+		out.writeBytes(faceColors.flip());
+		out.writeBytes(vertexXData);
+		out.writeBytes(vertexYData);
+		out.writeBytes(vertexZData);
+		out.writeByte(0); // no extra data
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // textured faces
+		out.writeByte(0); // face render types
+		out.writeByte(0); // priority
+		out.writeByte(1); // face transparencies
+		out.writeByte(0); // packed transparency vertex groups
+		out.writeByte(0); // face textures
+		out.writeByte(0); // packed vertex groups
+		out.writeShort(vertexXData.length);
+		out.writeShort(vertexYData.length);
+		out.writeShort(vertexZData.length);
+		out.writeShort(faceIndexData.length);
+		out.writeShort(0); // texture coordinates
+		out.writeByte(-1);
+		out.writeByte(-1); // type 1
+		return out.flip();
+	}
+
+	/**
+	 * A store with a maps index of {@code width * height} regions, with xtea encrypted locations
+	 */
+	static Store regionStore(Random random, int width, int height) throws IOException
+	{
+		Store store = new Store(new MemoryStorage());
+		Index index = store.addIndex(IndexType.MAPS.getNumber());
+
+		int archiveId = 0;
+		for (int x = BASE_REGION_X; x < BASE_REGION_X + width; ++x)
+		{
+			for (int y = BASE_REGION_Y; y < BASE_REGION_Y + height; ++y)
+			{
+				addArchive(store, index, archiveId++, "m" + x + "_" + y, terrain(random), null);
+				addArchive(store, index, archiveId++, "l" + x + "_" + y, locations(random, 400), KEYS);
+			}
+		}
+		return store;
+	}
+
+	private static void addArchive(Store store, Index index, int id, String name, byte[] data, int[] keys) throws IOException
+	{
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(data, keys);
+
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(Djb2.hash(name));
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static void writeSignedSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xc000);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+
+/**
+ * Definitions indexed densely by id. The raw file contents are kept until a definition
+ * is first requested, and are then decoded and released.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionRegistry<T>
+{
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		T load(int id, byte[] b);
+	}
+
+	private final Decoder<T> decoder;
+	private final AtomicReferenceArray<byte[]> contents;
+	private final AtomicReferenceArray<T> definitions;
+	private final int size;
+
+	public DefinitionRegistry(ArchiveFiles files, Decoder<T> decoder)
+	{
+		int max = -1;
+		for (FSFile f : files.getFiles())
+		{
+			max = Math.max(max, f.getFileId());
+		}
+
+		this.decoder = decoder;
+		this.contents = new AtomicReferenceArray<>(max + 1);
+		this.definitions = new AtomicReferenceArray<>(max + 1);
+		this.size = files.getFiles().size();
+
+		for (FSFile f : files.getFiles())
+		{
+			contents.set(f.getFileId(), f.getContents());
+		}
+	}
+
+	/**
+	 * Get a definition, decoding it if this is the first time it has been requested.
+	 *
+	 * @param id definition id
+	 * @return the definition, or null if there is no definition with the id
+	 */
+	public T get(int id)
+	{
+		if (id < 0 || id >= definitions.length())
+		{
+			return null;
+		}
+
+		T def = definitions.get(id);
+		if (def != null)
+		{
+			return def;
+		}
+
+		byte[] b = contents.get(id);
+		if (b == null)
+		{
+			// either there is no such definition, or another thread has just decoded it
+			return definitions.get(id);
+		}
+
+		def = decoder.load(id, b);
+		if (!definitions.compareAndSet(id, null, def))
+		{
+			// lost the race, use the other thread's definition so everyone shares one instance
+			return definitions.get(id);
+		}
+
+		contents.set(id, null);
+		return def;
+	}
+
+	/**
+	 * Decode every definition which hasn't been decoded yet, in parallel.
+	 */
+	public void decodeAll()
+	{
+		IntStream.range(0, definitions.length())
+			.parallel()
+			.forEach(this::get);
+	}
+
+	/**
+	 * Get all definitions in id order, decoding any which haven't been decoded yet.
+	 */
+	public List<T> values()
+	{
+		decodeAll();
+
+		List<T> values = new ArrayList<>(size);
+		for (int i = 0; i < definitions.length(); ++i)
+		{
+			T def = definitions.get(i);
+			if (def != null)
+			{
+				values.add(def);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * The number of definitions
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * One more than the highest definition id
+	 */
+	public int capacity()
+	{
+		return definitions.length();
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes models from the cache, keeping recently used models in memory. Concurrent
+ * requests for the same model share a single decode.
+ */
+public class ModelManager implements ModelProvider
+{
+	private static final Logger logger = LoggerFactory.getLogger(ModelManager.class);
+
+	/**
+	 * Default bound on the approximate size of the cached models, in bytes
+	 */
+	public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+	private final Store store;
+	private final ModelLoader loader = new ModelLoader();
+	private final LoadingCache<Integer, Optional<ModelDefinition>> models;
+
+	public ModelManager(Store store)
+	{
+		this(store, DEFAULT_MAXIMUM_WEIGHT);
+	}
+
+	public ModelManager(Store store, long maximumWeight)
+	{
+		this.store = store;
+		this.models = CacheBuilder.newBuilder()
+			.maximumWeight(maximumWeight)
+			.weigher((Integer id, Optional<ModelDefinition> model) -> model.map(ModelManager::weigh).orElse(1))
+			.recordStats()
+			.build(new CacheLoader<Integer, Optional<ModelDefinition>>()
+			{
+				@Override
+				public Optional<ModelDefinition> load(Integer modelId) throws IOException
+				{
+					return Optional.ofNullable(decode(modelId));
+				}
+			});
+	}
+
+	/**
+	 * Get a model. The returned model is shared, and must not be modified; use {@link #provide(int)}
+	 * for a model which can be.
+	 *
+	 * @param modelId model id
+	 * @return the model, or null if there is no such model
+	 */
+	public ModelDefinition getModel(int modelId) throws IOException
+	{
+		try
+		{
+			return models.get(modelId).orElse(null);
+		}
+		catch (ExecutionException | UncheckedExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new IOException(ex.getCause());
+		}
+	}
+
+	/**
+	 * Get a copy of a model, which the caller is free to modify.
+	 */
+	@Override
+	public ModelDefinition provide(int modelId) throws IOException
+	{
+		ModelDefinition model = getModel(modelId);
+		return model == null ? null : model.copy();
+	}
+
+	public CacheStats getStats()
+	{
+		return models.stats();
+	}
+
+	public void logStats()
+	{
+		CacheStats stats = models.stats();
+		logger.info("Model cache: {} requests, {} hits ({}%), {} decodes, {} evictions, {} cached",
+			stats.requestCount(), stats.hitCount(), String.format("%.1f", stats.hitRate() * 100),
+			stats.loadCount(), stats.evictionCount(), models.size());
+	}
+
+	private ModelDefinition decode(int modelId) throws IOException
+	{
+		Index index = store.getIndex(IndexType.MODELS);
+		Archive archive = index.getArchive(modelId);
+		if (archive == null)
+		{
+			return null;
+		}
+
+		byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+		return loader.load(archive.getArchiveId(), contents);
+	}
+
+	private static int weigh(ModelDefinition model)
+	{
+		// vertex coordinates, 3 face indices, and roughly a dozen bytes of other per face data
+		return 64 + model.vertexCount * 12 + model.faceCount * 24;
+	}
+}
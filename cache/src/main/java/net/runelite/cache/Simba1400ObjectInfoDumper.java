@@ -26,15 +26,13 @@ package net.runelite.cache;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.ObjectDefinition;
-import net.runelite.cache.definitions.loaders.ModelLoader;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
-import net.runelite.cache.models.ObjExporter;
+import net.runelite.cache.models.ModelFeatureIndex;
+import net.runelite.cache.models.ModelFeatures;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
@@ -56,13 +54,14 @@ public class Simba1400ObjectInfoDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private final Store store;
-	private static Index index;
 	private static TextureManager textureManager;
 
 	private final RegionLoader regionLoader;
 	private final ObjectManager objectManager;
 
-	private final ModelLoader modelLoader;
+	private ModelFeatureIndex modelFeatures;
+	@Setter
+	private File modelFeaturesFile;
 	public static boolean exportFullMap = false;
 
 	private static boolean exportChunks = true;
@@ -80,7 +79,6 @@ public class Simba1400ObjectInfoDumper
 		this.store = store;
 		this.regionLoader = regionLoader;
 		this.objectManager = new ObjectManager(store);
-		this.modelLoader = new ModelLoader();
 	}
 
 	public static void main(String[] args) throws IOException
@@ -136,6 +134,8 @@ public class Simba1400ObjectInfoDumper
 			store.load();
 
 			Simba1400ObjectInfoDumper dumper = new Simba1400ObjectInfoDumper(store, xteaKeyManager);
+			// model features are keyed by crc, so they can be shared by every cache
+			dumper.setModelFeaturesFile(new File(mainDir, "model-features.dat"));
 			dumper.load();
 
 			ZipOutputStream zip = null;
@@ -168,9 +168,9 @@ public class Simba1400ObjectInfoDumper
 	public Simba1400ObjectInfoDumper load() throws IOException
 	{
 		objectManager.load();
-		index = store.getIndex(IndexType.MODELS);
 		textureManager = new TextureManager(store);
 		textureManager.load();
+		modelFeatures = ModelFeatureIndex.load(store, modelFeaturesFile);
 
 		loadRegions();
 		return this;
@@ -339,13 +339,11 @@ public class Simba1400ObjectInfoDumper
 							height = 0;
 							colors = new ArrayList<>();
 							for (int i = 0; i < object.getObjectModels().length; i++) {
-								Archive archive = index.getArchive(object.getObjectModels()[i]);
-								byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
-								ModelDefinition model = modelLoader.load(archive.getArchiveId(), contents);
+								ModelFeatures features = modelFeatures.get(object.getObjectModels()[i]);
+								if (features == null) continue;
 
-								ObjExporter exporter = new ObjExporter(textureManager, model);
-								if (height == 0) height = exporter.getSimbaHeight();
-								colors.addAll(exporter.getSimbaColors());
+								if (height == 0) height = features.getHeight();
+								colors.addAll(features.getColors(textureManager));
 							}
 							objectCache.put(object.getObjectID(), new CachedObjectData(height, colors));
 						}
@@ -25,11 +25,7 @@
 package net.runelite.cache;
 
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.ModelDefinition;
-import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.providers.ModelProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.item.ItemSpriteFactory;
 import net.runelite.cache.region.Region;
@@ -194,19 +190,7 @@ public class SimbaCacheDumper
 		itemManager.load();
 		itemManager.link();
 
-		ModelProvider modelProvider = new ModelProvider()
-		{
-			@Override
-			public ModelDefinition provide(int modelId) throws IOException
-			{
-				Index models = store.getIndex(IndexType.MODELS);
-				Archive archive = models.getArchive(modelId);
-
-				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
-				ModelDefinition inventoryModel = new ModelLoader().load(modelId, data);
-				return inventoryModel;
-			}
-		};
+		ModelManager modelProvider = new ModelManager(store);
 
 		SpriteManager spriteManager = new SpriteManager(store);
 		spriteManager.load();
@@ -258,5 +242,6 @@ public class SimbaCacheDumper
 
 		zipper.close();
 		itemFile.close();
+		modelProvider.logStats();
 	}
 }
@@ -41,7 +41,7 @@ import java.util.*;
 public class SimbaGearDumper implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private DefinitionRegistry<ItemDefinition> items;
 
 	public SimbaGearDumper(Store store)
 	{
@@ -59,11 +59,7 @@ public class SimbaGearDumper implements ItemProvider
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+		items = new DefinitionRegistry<>(files, loader::load);
 	}
 
 	public void link()
@@ -26,11 +26,7 @@ package net.runelite.cache;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.ModelDefinition;
-import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.providers.ModelProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.item.ItemSpriteFactory;
 import net.runelite.cache.util.XteaKeyManager;
@@ -145,18 +141,7 @@ public class SimbaItemSpritesDumper
 		itemManager.load();
 		itemManager.link();
 
-		ModelProvider modelProvider = new ModelProvider()
-		{
-			@Override
-			public ModelDefinition provide(int modelId) throws IOException
-			{
-				Index models = store.getIndex(IndexType.MODELS);
-				Archive archive = models.getArchive(modelId);
-
-				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
-                return new ModelLoader().load(modelId, data);
-			}
-		};
+		ModelManager modelProvider = new ModelManager(store);
 
 		SpriteManager spriteManager = new SpriteManager(store);
 		spriteManager.load();
@@ -209,5 +194,6 @@ public class SimbaItemSpritesDumper
 
 		zipper.close();
 		itemFile.close();
+		modelProvider.logStats();
 	}
 }
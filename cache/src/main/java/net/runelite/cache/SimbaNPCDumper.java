@@ -28,7 +28,6 @@ import com.google.gson.JsonObject;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
-import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.*;
 import net.runelite.cache.models.ObjExporter;
@@ -42,14 +41,13 @@ import java.util.*;
 public class SimbaNPCDumper
 {
 	private final Store store;
-	private static Index index;
 	private static TextureManager textureManager;
-	private final ModelLoader modelLoader;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final ModelManager modelManager;
+	private DefinitionRegistry<NpcDefinition> npcs;
 
 	public SimbaNPCDumper(Store store) throws IOException {
 		this.store = store;
-		this.modelLoader = new ModelLoader();
+		this.modelManager = new ModelManager(store);
 	}
 
 	public void load() throws IOException
@@ -60,18 +58,13 @@ public class SimbaNPCDumper
 		Index configsIndex = store.getIndex(IndexType.CONFIGS);
 		Archive archive = configsIndex.getArchive(ConfigType.NPC.getId());
 
-		index = store.getIndex(IndexType.MODELS);
 		textureManager = new TextureManager(store);
 		textureManager.load();
 
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition def = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), def);
-		}
+		npcs = new DefinitionRegistry<>(files, loader::load);
 	}
 	
 	public NpcDefinition getNPC(int npcID)
@@ -90,9 +83,7 @@ public class SimbaNPCDumper
 
 			if (def.getModels() != null) {
 				for (int i = 0; i < def.getModels().length; i++) {
-					Archive archive = index.getArchive(def.getModels()[i]);
-					byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
-					ModelDefinition model = modelLoader.load(archive.getArchiveId(), contents);
+					ModelDefinition model = modelManager.getModel(def.getModels()[i]);
 
 					ObjExporter exporter = new ObjExporter(textureManager, model);
 					if (height == 0) height = exporter.getSimbaHeight();
@@ -105,6 +96,8 @@ public class SimbaNPCDumper
 			File targ = new File(out, def.id + ".json");
 			exporter.simbaExportTo(targ, height, colors);
 		}
+
+		modelManager.logStats();
 	}
 
 	public NpcDefinition provide(int npcID)
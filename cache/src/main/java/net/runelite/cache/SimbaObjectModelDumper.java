@@ -27,7 +27,6 @@ package net.runelite.cache;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
-import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.*;
 import net.runelite.cache.models.ObjExporter;
@@ -41,14 +40,13 @@ import java.util.*;
 public class SimbaObjectModelDumper
 {
 	private final Store store;
-	private static Index index;
 	private static TextureManager textureManager;
-	private final ModelLoader modelLoader;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final ModelManager modelManager;
+	private DefinitionRegistry<ObjectDefinition> objects;
 
 	public SimbaObjectModelDumper(Store store) throws IOException {
 		this.store = store;
-		this.modelLoader = new ModelLoader();
+		this.modelManager = new ModelManager(store);
 	}
 
 	public void load() throws IOException
@@ -59,18 +57,13 @@ public class SimbaObjectModelDumper
 		Index configsIndex = store.getIndex(IndexType.CONFIGS);
 		Archive archive = configsIndex.getArchive(ConfigType.OBJECT.getId());
 
-		index = store.getIndex(IndexType.MODELS);
 		textureManager = new TextureManager(store);
 		textureManager.load();
 
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		objects = new DefinitionRegistry<>(files, loader::load);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
@@ -94,13 +87,10 @@ public class SimbaObjectModelDumper
 			if (def.getObjectModels() != null) {
 				for (int i = 0; i < def.getObjectModels().length; i++) {
 					int modelId = def.getObjectModels()[i];
-					Archive archive = index.getArchive(modelId);
-					if (archive == null)
+					ModelDefinition model = modelManager.getModel(modelId);
+					if (model == null)
 						continue;
 
-					byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
-					ModelDefinition model = modelLoader.load(archive.getArchiveId(), contents);
-
 					ObjExporter exporter = new ObjExporter(textureManager, model);
 
 
@@ -119,6 +109,8 @@ public class SimbaObjectModelDumper
 			File targ = new File(out, def.getId() + ".json");
 			exporter.simbaExportTo(targ);
 		}
+
+		modelManager.logStats();
 	}
 
 	public ObjectDefinition provide(int objectID)
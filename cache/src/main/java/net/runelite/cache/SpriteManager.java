@@ -24,14 +24,15 @@
  */
 package net.runelite.cache;
 
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
@@ -46,7 +47,9 @@ import net.runelite.cache.util.Djb2;
 public class SpriteManager implements SpriteProvider
 {
 	private final Store store;
-	private final Multimap<Integer, SpriteDefinition> sprites = LinkedListMultimap.create();
+	// sprite id -> frames, indexed by frame id
+	private SpriteDefinition[][] sprites = new SpriteDefinition[0][];
+	private final List<SpriteDefinition> allSprites = new ArrayList<>();
 	private final Map<Integer, Integer> spriteIdsByArchiveNameHash = new HashMap<>();
 
 	public SpriteManager(Store store)
@@ -59,6 +62,13 @@ public class SpriteManager implements SpriteProvider
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
+		int max = -1;
+		for (Archive a : index.getArchives())
+		{
+			max = Math.max(max, a.getArchiveId());
+		}
+		sprites = new SpriteDefinition[max + 1][];
+
 		for (Archive a : index.getArchives())
 		{
 			byte[] contents = a.decompress(storage.loadArchive(a));
@@ -68,27 +78,50 @@ public class SpriteManager implements SpriteProvider
 
 			for (SpriteDefinition sprite : defs)
 			{
-				sprites.put(sprite.getId(), sprite);
+				add(sprite);
+				allSprites.add(sprite);
 				spriteIdsByArchiveNameHash.put(a.getNameHash(), sprite.getId());
 			}
 		}
 	}
 
+	private void add(SpriteDefinition sprite)
+	{
+		int id = sprite.getId();
+		if (id >= sprites.length)
+		{
+			sprites = Arrays.copyOf(sprites, id + 1);
+		}
+
+		SpriteDefinition[] frames = sprites[id];
+		if (frames == null || sprite.getFrame() >= frames.length)
+		{
+			frames = frames == null
+				? new SpriteDefinition[sprite.getFrame() + 1]
+				: Arrays.copyOf(frames, sprite.getFrame() + 1);
+			sprites[id] = frames;
+		}
+
+		if (frames[sprite.getFrame()] == null)
+		{
+			frames[sprite.getFrame()] = sprite;
+		}
+	}
+
 	public Collection<SpriteDefinition> getSprites()
 	{
-		return Collections.unmodifiableCollection(sprites.values());
+		return Collections.unmodifiableCollection(allSprites);
 	}
 
 	public SpriteDefinition findSprite(int spriteId, int frameId)
 	{
-		for (SpriteDefinition sprite : sprites.get(spriteId))
+		if (spriteId < 0 || spriteId >= sprites.length || frameId < 0)
 		{
-			if (sprite.getFrame() == frameId)
-			{
-				return sprite;
-			}
+			return null;
 		}
-		return null;
+
+		SpriteDefinition[] frames = sprites[spriteId];
+		return frames != null && frameId < frames.length ? frames[frameId] : null;
 	}
 
 	public BufferedImage getSpriteImage(SpriteDefinition sprite)
@@ -112,7 +145,7 @@ public class SpriteManager implements SpriteProvider
 
 	public void export(File outDir) throws IOException
 	{
-		for (SpriteDefinition sprite : sprites.values())
+		for (SpriteDefinition sprite : allSprites)
 		{
 			// Some sprites like ones for non-printable font characters do not have sizes
 			if (sprite.getHeight() <= 0 || sprite.getWidth() <= 0)
@@ -25,14 +25,12 @@
 package net.runelite.cache;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import net.runelite.cache.definitions.TextureDefinition;
 import net.runelite.cache.definitions.loaders.TextureLoader;
 import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -40,7 +38,7 @@ import net.runelite.cache.fs.Store;
 public class TextureManager implements TextureProvider
 {
 	private final Store store;
-	private final List<TextureDefinition> textures = new ArrayList<>();
+	private DefinitionRegistry<TextureDefinition> textures;
 
 	public TextureManager(Store store)
 	{
@@ -58,33 +56,23 @@ public class TextureManager implements TextureProvider
 
 		TextureLoader loader = new TextureLoader();
 
-		for (FSFile file : files.getFiles())
-		{
-			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
-			textures.add(texture);
-		}
+		textures = new DefinitionRegistry<>(files, loader::load);
 	}
 
 	public List<TextureDefinition> getTextures()
 	{
-		return textures;
+		return textures.values();
 	}
 
 	public TextureDefinition findTexture(int id)
 	{
-		for (TextureDefinition td : textures)
-		{
-			if (td.getId() == id)
-			{
-				return td;
-			}
-		}
-		return null;
+		return textures.get(id);
 	}
 
 	@Override
 	public TextureDefinition[] provide()
 	{
-		return textures.toArray(new TextureDefinition[textures.size()]);
+		List<TextureDefinition> values = textures.values();
+		return values.toArray(new TextureDefinition[values.size()]);
 	}
 }
@@ -566,6 +566,43 @@ public class ModelDefinition
 		faceTextureUCoordinates = faceTextureVCoordinates = null;
 	}
 
+	/**
+	 * Copy this model so that it can be transformed, recolored or retextured without
+	 * affecting this model. Arrays which are never modified in place are shared.
+	 */
+	public ModelDefinition copy()
+	{
+		ModelDefinition copy = new ModelDefinition();
+		copy.id = id;
+		copy.vertexCount = vertexCount;
+		copy.vertexX = vertexX == null ? null : vertexX.clone();
+		copy.vertexY = vertexY == null ? null : vertexY.clone();
+		copy.vertexZ = vertexZ == null ? null : vertexZ.clone();
+		copy.faceCount = faceCount;
+		copy.faceIndices1 = faceIndices1;
+		copy.faceIndices2 = faceIndices2;
+		copy.faceIndices3 = faceIndices3;
+		copy.faceTransparencies = faceTransparencies;
+		copy.faceColors = faceColors == null ? null : faceColors.clone();
+		copy.faceRenderPriorities = faceRenderPriorities;
+		copy.faceRenderTypes = faceRenderTypes;
+		copy.numTextureFaces = numTextureFaces;
+		copy.texIndices1 = texIndices1;
+		copy.texIndices2 = texIndices2;
+		copy.texIndices3 = texIndices3;
+		copy.texturePrimaryColors = texturePrimaryColors;
+		copy.faceTextures = faceTextures == null ? null : faceTextures.clone();
+		copy.faceZOffsets = faceZOffsets;
+		copy.textureCoords = textureCoords;
+		copy.textureRenderTypes = textureRenderTypes;
+		copy.packedVertexGroups = packedVertexGroups;
+		copy.packedTransparencyVertexGroups = packedTransparencyVertexGroups;
+		copy.priority = priority;
+		copy.animayaGroups = animayaGroups;
+		copy.animayaScales = animayaScales;
+		return copy;
+	}
+
 	public void resize(int var1, int var2, int var3)
 	{
 		for (int var4 = 0; var4 < this.vertexCount; ++var4)
@@ -43,7 +43,16 @@ public class DataFile implements Closeable
 
 	public DataFile(File file) throws FileNotFoundException
 	{
-		this.dat = new RandomAccessFile(file, "rw");
+		this(file, false);
+	}
+
+	/**
+	 * @param file the data file
+	 * @param readOnly open the file for reading only, in which case it must already exist
+	 */
+	public DataFile(File file, boolean readOnly) throws FileNotFoundException
+	{
+		this.dat = new RandomAccessFile(file, readOnly ? "r" : "rw");
 	}
 
 	@Override
@@ -48,10 +48,20 @@ public class IndexFile implements Closeable
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
+	{
+		this(indexFileId, file, false);
+	}
+
+	/**
+	 * @param indexFileId the id of the index
+	 * @param file the index file
+	 * @param readOnly open the file for reading only, in which case it must already exist
+	 */
+	public IndexFile(int indexFileId, File file, boolean readOnly) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
-		this.idx = new RandomAccessFile(file, "rw");
+		this.idx = new RandomAccessFile(file, readOnly ? "r" : "rw");
 	}
 
 	@Override
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+
+/**
+ * {@link ModelFeatures} for every model in the cache. The features can be persisted to a
+ * sidecar file keyed by each model archive's crc, so that only models which have changed
+ * since the file was written need to be decoded.
+ */
+@Slf4j
+public class ModelFeatureIndex
+{
+	private static final int MAGIC = 0x4d464931; // MFI1
+
+	private final int[] crcs;
+	private final ModelFeatures[] features;
+
+	private ModelFeatureIndex(int size)
+	{
+		crcs = new int[size];
+		features = new ModelFeatures[size];
+	}
+
+	/**
+	 * Get the features of a model
+	 *
+	 * @return the features, or null if there is no such model
+	 */
+	public ModelFeatures get(int modelId)
+	{
+		return modelId >= 0 && modelId < features.length ? features[modelId] : null;
+	}
+
+	/**
+	 * Compute the features of every model, reusing those stored in {@code sidecar} for
+	 * models which haven't changed. The sidecar is rewritten if any models were decoded.
+	 *
+	 * @param store the cache
+	 * @param sidecar sidecar file, or null to not persist the features
+	 */
+	public static ModelFeatureIndex load(Store store, File sidecar) throws IOException
+	{
+		Index index = store.getIndex(IndexType.MODELS);
+		List<Archive> archives = index.getArchives();
+
+		int max = -1;
+		for (Archive archive : archives)
+		{
+			max = Math.max(max, archive.getArchiveId());
+		}
+
+		ModelFeatureIndex featureIndex = new ModelFeatureIndex(max + 1);
+		if (sidecar != null && sidecar.exists())
+		{
+			featureIndex.read(sidecar);
+		}
+
+		// drop models which have been removed from the cache
+		ModelFeatures[] previous = featureIndex.features.clone();
+		Arrays.fill(featureIndex.features, null);
+
+		List<Archive> stale = new ArrayList<>();
+		for (Archive archive : archives)
+		{
+			int id = archive.getArchiveId();
+			if (previous[id] != null && featureIndex.crcs[id] == archive.getCrc())
+			{
+				featureIndex.features[id] = previous[id];
+			}
+			else
+			{
+				stale.add(archive);
+			}
+		}
+
+		ModelLoader loader = new ModelLoader();
+		try
+		{
+			stale.parallelStream().forEach(archive ->
+			{
+				ModelDefinition model;
+				try
+				{
+					byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+					model = loader.load(archive.getArchiveId(), contents);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+
+				featureIndex.crcs[archive.getArchiveId()] = archive.getCrc();
+				featureIndex.features[archive.getArchiveId()] = ModelFeatures.extract(model);
+			});
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+
+		log.info("Model features: {} reused, {} computed", archives.size() - stale.size(), stale.size());
+
+		if (sidecar != null && !stale.isEmpty())
+		{
+			featureIndex.write(sidecar);
+		}
+
+		return featureIndex;
+	}
+
+	private void read(File file)
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(file)))))
+		{
+			if (in.readInt() != MAGIC)
+			{
+				log.warn("Ignoring model feature sidecar {} with unknown format", file);
+				return;
+			}
+
+			int entries = in.readInt();
+			for (int i = 0; i < entries; ++i)
+			{
+				int id = in.readInt();
+				int crc = in.readInt();
+				int height = in.readInt();
+				int[] palette = new int[in.readUnsignedShort()];
+				for (int j = 0; j < palette.length; ++j)
+				{
+					palette[j] = in.readUnsignedShort() | (in.readUnsignedByte() << 16);
+				}
+
+				if (id >= 0 && id < features.length)
+				{
+					crcs[id] = crc;
+					features[id] = new ModelFeatures(height, palette);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to read model feature sidecar {}", file, ex);
+		}
+	}
+
+	private void write(File file) throws IOException
+	{
+		int entries = 0;
+		for (ModelFeatures f : features)
+		{
+			if (f != null)
+			{
+				++entries;
+			}
+		}
+
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tmp)))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(entries);
+			for (int id = 0; id < features.length; ++id)
+			{
+				ModelFeatures f = features[id];
+				if (f == null)
+				{
+					continue;
+				}
+
+				int[] palette = f.getPalette();
+				out.writeInt(id);
+				out.writeInt(crcs[id]);
+				out.writeInt(f.getHeight());
+				out.writeShort(palette.length);
+				for (int entry : palette)
+				{
+					out.writeShort(entry);
+					out.writeByte(entry >>> 16);
+				}
+			}
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		log.info("Wrote model features for {} models to {}", entries, file);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+
+/**
+ * Features of a model used by the Simba exporters: its height, and the distinct face colors
+ * and textures in the order they first appear.
+ */
+@EqualsAndHashCode
+public class ModelFeatures
+{
+	/**
+	 * Set on palette entries which are texture ids rather than HSL colors
+	 */
+	static final int TEXTURED = 1 << 16;
+
+	@Getter
+	private final int height;
+	/**
+	 * Distinct face colors (HSL) and textures ({@link #TEXTURED} | texture id), in face order
+	 */
+	private final int[] palette;
+
+	ModelFeatures(int height, int[] palette)
+	{
+		this.height = height;
+		this.palette = palette;
+	}
+
+	public static ModelFeatures extract(ModelDefinition model)
+	{
+		int hi = 0;
+		int lo = -1;
+		for (int y : model.getVertexY())
+		{
+			int current = -y;
+			if (current > hi) hi = current;
+			if (current < lo) lo = current;
+		}
+
+		short[] faceTextures = model.getFaceTextures();
+		short[] faceColors = model.getFaceColors();
+		BitSet seen = new BitSet(TEXTURED << 1);
+		int[] palette = new int[16];
+		int size = 0;
+		for (int i = 0; i < model.getFaceCount(); ++i)
+		{
+			int textureId = faceTextures != null ? faceTextures[i] : -1;
+			int entry = textureId != -1
+				? TEXTURED | (textureId & 0xffff)
+				: faceColors[i] & 0xffff;
+			if (seen.get(entry))
+			{
+				continue;
+			}
+
+			seen.set(entry);
+			if (size == palette.length)
+			{
+				palette = Arrays.copyOf(palette, size * 2);
+			}
+			palette[size++] = entry;
+		}
+
+		return new ModelFeatures(hi - lo, Arrays.copyOf(palette, size));
+	}
+
+	int[] getPalette()
+	{
+		return palette;
+	}
+
+	/**
+	 * Get the distinct colors of the model's faces as BGR, using the average color of textured faces
+	 */
+	public List<Integer> getColors(TextureManager textureManager)
+	{
+		List<Integer> colors = new ArrayList<>(palette.length);
+		Set<Integer> seen = new HashSet<>(palette.length * 2);
+		for (int entry : palette)
+		{
+			int rgbColor;
+			if ((entry & TEXTURED) != 0)
+			{
+				TextureDefinition texture = textureManager.findTexture((short) entry);
+				rgbColor = JagexColor.adjustForBrightness(texture.getAverageRGB(), JagexColor.BRIGHTNESS_MAX);
+			}
+			else
+			{
+				rgbColor = JagexColor.HSLtoRGB((short) entry, JagexColor.BRIGHTNESS_MAX);
+			}
+
+			int bgr = JagexColor.RGBtoBGR(rgbColor);
+			if (seen.add(bgr))
+			{
+				colors.add(bgr);
+			}
+		}
+		return colors;
+	}
+}
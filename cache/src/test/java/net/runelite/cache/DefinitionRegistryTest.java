@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class DefinitionRegistryTest
+{
+	private final AtomicInteger decoded = new AtomicInteger();
+
+	private DefinitionRegistry<String> registry(int... ids)
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int id : ids)
+		{
+			FSFile file = new FSFile(id);
+			file.setContents(new byte[]{(byte) id});
+			files.addFile(file);
+		}
+
+		return new DefinitionRegistry<>(files, (id, b) ->
+		{
+			decoded.incrementAndGet();
+			return id + ":" + b[0];
+		});
+	}
+
+	@Test
+	public void testLazy()
+	{
+		DefinitionRegistry<String> registry = registry(0, 5, 9);
+		assertEquals(3, registry.size());
+		assertEquals(10, registry.capacity());
+		assertEquals(0, decoded.get());
+
+		String five = registry.get(5);
+		assertEquals("5:5", five);
+		assertSame(five, registry.get(5));
+		assertEquals(1, decoded.get());
+
+		assertNull(registry.get(4));
+		assertNull(registry.get(-1));
+		assertNull(registry.get(10));
+		assertEquals(1, decoded.get());
+	}
+
+	@Test
+	public void testValues()
+	{
+		DefinitionRegistry<String> registry = registry(9, 0, 5);
+		registry.get(0);
+
+		assertEquals(Arrays.asList("0:0", "5:5", "9:9"), registry.values());
+		assertEquals(3, decoded.get());
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.util.Arrays;
+import net.runelite.cache.definitions.ModelDefinition;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ModelFeaturesTest
+{
+	@Test
+	public void testExtract()
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.vertexCount = 3;
+		model.vertexY = new int[]{-50, 10, -20};
+		model.faceCount = 5;
+		model.faceColors = new short[]{100, 200, 100, 300, (short) 40000};
+		model.faceTextures = new short[]{-1, -1, -1, 7, -1};
+
+		ModelFeatures features = ModelFeatures.extract(model);
+		assertEquals(60, features.getHeight());
+		assertArrayEquals(new int[]{100, 200, ModelFeatures.TEXTURED | 7, 40000}, features.getPalette());
+	}
+
+	@Test
+	public void testColors()
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.vertexY = new int[0];
+		model.faceCount = 4;
+		model.faceColors = new short[]{0, 127, 0, 127};
+
+		ModelFeatures features = ModelFeatures.extract(model);
+		assertEquals(Arrays.asList(
+			JagexColor.RGBtoBGR(JagexColor.HSLtoRGB((short) 0, JagexColor.BRIGHTNESS_MAX)),
+			JagexColor.RGBtoBGR(JagexColor.HSLtoRGB((short) 127, JagexColor.BRIGHTNESS_MAX))
+		), features.getColors(null));
+	}
+}
@@ -288,6 +288,193 @@ public class Perspective
 		return null;
 	}
 
+	/**
+	 * Translates a batch of three-dimensional local coordinates within the 3D world to
+	 * their corresponding coordinates on the game screen. This is the batched form of
+	 * {@link #localToCanvas(Client, int, int, int, int)}, without allocating a {@link Point}
+	 * per coordinate.
+	 * <p>
+	 * Coordinates which can not be projected, or whose z is {@link Integer#MIN_VALUE},
+	 * are written as {@link Integer#MIN_VALUE}. The output arrays may be the same arrays
+	 * as the input.
+	 *
+	 * @param client the game client
+	 * @param wv the world view the coordinates are local to
+	 * @param count the number of coordinates to translate
+	 * @param x local coordinates on the x axis
+	 * @param y local coordinates on the y axis
+	 * @param z local coordinates on the z axis
+	 * @param x2d receives the canvas x coordinates
+	 * @param y2d receives the canvas y coordinates
+	 */
+	public static void localToCanvas(@Nonnull Client client, @Nonnull WorldView wv, int count, int[] x, int[] y, int[] z, int[] x2d, int[] y2d)
+	{
+		if (!wv.isTopLevel())
+		{
+			localToCanvasProjection(client, wv, count, x, y, z, x2d, y2d);
+		}
+		else if (client.isGpu())
+		{
+			localToCanvasGpu(client, count, x, y, z, x2d, y2d);
+		}
+		else
+		{
+			localToCanvasCpu(client, count, x, y, z, x2d, y2d);
+		}
+	}
+
+	private static void localToCanvasProjection(Client client, WorldView wv, int count, int[] x, int[] y, int[] z, int[] x2d, int[] y2d)
+	{
+		Projection projection = wv.getCanvasProjection();
+		if (projection == null)
+		{
+			Arrays.fill(x2d, 0, count, Integer.MIN_VALUE);
+			Arrays.fill(y2d, 0, count, Integer.MIN_VALUE);
+			return;
+		}
+
+		final float
+			viewportXMiddle = client.getViewportWidth() / 2f,
+			viewportYMiddle = client.getViewportHeight() / 2f;
+		final int
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset(),
+			scale = client.getScale();
+
+		final float[] p = new float[3];
+		for (int i = 0; i < count; i++)
+		{
+			final int lz = z[i];
+			if (lz == Integer.MIN_VALUE)
+			{
+				x2d[i] = y2d[i] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			// like localToCanvas, points are not clipped against the near plane
+			projection.project(x[i], lz, y[i], p);
+			final float x0 = p[0], y0 = p[1], z0 = p[2];
+			x2d[i] = (int) (viewportXMiddle + x0 * scale / z0) + viewportXOffset;
+			y2d[i] = (int) (viewportYMiddle + y0 * scale / z0) + viewportYOffset;
+		}
+	}
+
+	private static void localToCanvasCpu(Client client, int count, int[] xs, int[] ys, int[] zs, int[] x2d, int[] y2d)
+	{
+		final int
+			cameraPitch = client.getCameraPitch(),
+			cameraYaw = client.getCameraYaw();
+
+		final int
+			pitchSin = SINE14[cameraPitch],
+			pitchCos = COSINE14[cameraPitch],
+			yawSin = SINE14[cameraYaw],
+			yawCos = COSINE14[cameraYaw],
+
+			cameraX = client.getCameraX(),
+			cameraY = client.getCameraY(),
+			cameraZ = client.getCameraZ(),
+
+			viewportXMiddle = client.getViewportWidth() / 2,
+			viewportYMiddle = client.getViewportHeight() / 2,
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset(),
+
+			scale = client.getScale();
+
+		for (int i = 0; i < count; i++)
+		{
+			int x = xs[i];
+			int y = ys[i];
+			int z = zs[i];
+
+			int viewX = Integer.MIN_VALUE, viewY = Integer.MIN_VALUE;
+			if (z != Integer.MIN_VALUE && inExtendedScene(x, y))
+			{
+				x -= cameraX;
+				y -= cameraY;
+				z -= cameraZ;
+
+				final int
+					x1 = x * yawCos + y * yawSin >> 16,
+					y1 = y * yawCos - x * yawSin >> 16,
+					y2 = z * pitchCos - y1 * pitchSin >> 16,
+					z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+				if (z1 >= 50)
+				{
+					viewX = viewportXMiddle + x1 * scale / z1 + viewportXOffset;
+					viewY = viewportYMiddle + y2 * scale / z1 + viewportYOffset;
+				}
+			}
+
+			x2d[i] = viewX;
+			y2d[i] = viewY;
+		}
+	}
+
+	private static void localToCanvasGpu(Client client, int count, int[] xs, int[] ys, int[] zs, int[] x2d, int[] y2d)
+	{
+		final float
+			cameraPitch = client.getCameraFpPitch(),
+			cameraYaw = client.getCameraFpYaw();
+
+		final float
+			pitchSin = (float) Math.sin(cameraPitch),
+			pitchCos = (float) Math.cos(cameraPitch),
+			yawSin = (float) Math.sin(cameraYaw),
+			yawCos = (float) Math.cos(cameraYaw),
+
+			cameraX = client.getCameraFpX(),
+			cameraY = client.getCameraFpY(),
+			cameraZ = client.getCameraFpZ(),
+
+			viewportXMiddle = client.getViewportWidth() / 2f,
+			viewportYMiddle = client.getViewportHeight() / 2f;
+
+		final int
+			viewportXOffset = client.getViewportXOffset(),
+			viewportYOffset = client.getViewportYOffset(),
+			scale = client.getScale();
+
+		for (int i = 0; i < count; i++)
+		{
+			final int x = xs[i];
+			final int y = ys[i];
+			final int z = zs[i];
+
+			int viewX = Integer.MIN_VALUE, viewY = Integer.MIN_VALUE;
+			if (z != Integer.MIN_VALUE && inExtendedScene(x, y))
+			{
+				final float
+					fx = x - cameraX,
+					fy = y - cameraY,
+					fz = z - cameraZ;
+
+				final float
+					x1 = fx * yawCos + fy * yawSin,
+					y1 = fy * yawCos - fx * yawSin,
+					y2 = fz * pitchCos - y1 * pitchSin,
+					z1 = y1 * pitchCos + fz * pitchSin;
+
+				if (z1 >= 50f)
+				{
+					viewX = Math.round(viewportXMiddle + x1 * scale / z1) + viewportXOffset;
+					viewY = Math.round(viewportYMiddle + y2 * scale / z1) + viewportYOffset;
+				}
+			}
+
+			x2d[i] = viewX;
+			y2d[i] = viewY;
+		}
+	}
+
+	private static boolean inExtendedScene(int x, int y)
+	{
+		return x >= -ESCENE_OFFSET << LOCAL_COORD_BITS && y >= -ESCENE_OFFSET << LOCAL_COORD_BITS &&
+			x <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS && y <= SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS;
+	}
+
 	@Deprecated
 	public static void modelToCanvas(Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate, float[] x3d, float[] y3d, float[] z3d, int[] x2d, int[] y2d)
 	{
@@ -821,6 +1008,176 @@ public class Perspective
 		return poly;
 	}
 
+	/**
+	 * Calculates the ground height of a batch of local points, lifting points on bridge
+	 * tiles to the level above the same way {@link #getTileHeight(Client, LocalPoint, int)} does.
+	 * Points outside of the scene are written as {@link Integer#MIN_VALUE}, which
+	 * {@link #localToCanvas(Client, WorldView, int, int[], int[], int[], int[], int[])} skips.
+	 *
+	 * @param wv the world view the points are local to
+	 * @param count the number of points
+	 * @param x local coordinates on the x axis
+	 * @param y local coordinates on the y axis
+	 * @param level the level of the points, or -1 for the world view's current plane
+	 * @param heightOffset offset from ground level
+	 * @param z receives the heights
+	 */
+	public static void getTileHeights(@Nonnull WorldView wv, int count, int[] x, int[] y, int level, int heightOffset, int[] z)
+	{
+		if (level == -1)
+		{
+			level = wv.getPlane();
+		}
+
+		final Scene scene = wv.getScene();
+		final byte[][][] tileSettings = scene.getExtendedTileSettings();
+		final int[][][] tileHeights = scene.getTileHeights();
+		final int offset = wv.isTopLevel() ? ESCENE_OFFSET : 0;
+		final int sizeX = wv.getSizeX() + (offset << 1);
+		final int sizeY = wv.getSizeY() + (offset << 1);
+
+		for (int i = 0; i < count; i++)
+		{
+			final int lx = x[i], ly = y[i];
+			final int msx = (lx >> LOCAL_COORD_BITS) + offset;
+			final int msy = (ly >> LOCAL_COORD_BITS) + offset;
+			if (msx < 0 || msy < 0 || msx >= sizeX || msy >= sizeY)
+			{
+				z[i] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			int mapLevel = level;
+			if (level < Constants.MAX_Z - 1 && (tileSettings[1][msx][msy] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				mapLevel = level + 1;
+			}
+
+			z[i] = interpolateHeight(tileHeights[mapLevel], lx, ly, offset) - heightOffset;
+		}
+	}
+
+	/**
+	 * Calculates the canvas polygons of a batch of areas. This is the batched form of
+	 * {@link #getCanvasTileAreaPoly(Client, LocalPoint, int, int, int, int)}, and picks the
+	 * bridge level from the center tile of each area the same way.
+	 * <p>
+	 * The corners of area {@code i} are written to indices {@code 4 * i} through
+	 * {@code 4 * i + 3} of the output arrays, in the same order as the points of the
+	 * single area polygon. If any corner of an area can not be projected, all four of its
+	 * corners are written as {@link Integer#MIN_VALUE}.
+	 *
+	 * @param client the game client
+	 * @param wv the world view the areas are local to
+	 * @param count the number of areas
+	 * @param x local coordinates of the area centers on the x axis
+	 * @param y local coordinates of the area centers on the y axis
+	 * @param sizeX the size of each area in tiles on the x axis
+	 * @param sizeY the size of each area in tiles on the y axis
+	 * @param level the level of the areas, or -1 for the world view's current plane
+	 * @param heightOffset offset from ground level
+	 * @param x2d receives the canvas x coordinates of the corners, at least {@code 4 * count} long
+	 * @param y2d receives the canvas y coordinates of the corners, at least {@code 4 * count} long
+	 * @param z receives the local heights of the corners, at least {@code 4 * count} long
+	 */
+	public static void getCanvasTileAreaPolys(
+		@Nonnull Client client,
+		@Nonnull WorldView wv,
+		int count,
+		int[] x,
+		int[] y,
+		int sizeX,
+		int sizeY,
+		int level,
+		int heightOffset,
+		int[] x2d,
+		int[] y2d,
+		int[] z)
+	{
+		if (level == -1)
+		{
+			level = wv.getPlane();
+		}
+
+		final Scene scene = wv.getScene();
+		final byte[][][] tileSettings = scene.getExtendedTileSettings();
+		final int[][][] tileHeights = scene.getTileHeights();
+		final int offset = wv.isTopLevel() ? ESCENE_OFFSET : 0;
+		final int esceneX = wv.getSizeX() + (offset << 1);
+		final int esceneY = wv.getSizeY() + (offset << 1);
+		final int halfX = sizeX * LOCAL_TILE_SIZE / 2;
+		final int halfY = sizeY * LOCAL_TILE_SIZE / 2;
+
+		for (int i = 0, c = 0; i < count; i++, c += 4)
+		{
+			final int lx = x[i], ly = y[i];
+			final int msx = (lx >> LOCAL_COORD_BITS) + offset;
+			final int msy = (ly >> LOCAL_COORD_BITS) + offset;
+			if (msx < 0 || msy < 0 || msx >= esceneX || msy >= esceneY)
+			{
+				// out of scene
+				z[c] = z[c + 1] = z[c + 2] = z[c + 3] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			int mapLevel = level;
+			if (level < Constants.MAX_Z - 1 && (tileSettings[1][msx][msy] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				mapLevel = level + 1;
+			}
+
+			final int[][] heights = tileHeights[mapLevel];
+			final int swX = lx - halfX, swY = ly - halfY;
+			final int neX = lx + halfX, neY = ly + halfY;
+
+			// sw, nw, ne, se - matching getCanvasTileAreaPoly
+			x2d[c] = swX;
+			y2d[c] = swY;
+			x2d[c + 1] = neX;
+			y2d[c + 1] = swY;
+			x2d[c + 2] = neX;
+			y2d[c + 2] = neY;
+			x2d[c + 3] = swX;
+			y2d[c + 3] = neY;
+			for (int j = c; j < c + 4; j++)
+			{
+				z[j] = interpolateHeight(heights, x2d[j], y2d[j], offset) - heightOffset;
+			}
+		}
+
+		localToCanvas(client, wv, count * 4, x2d, y2d, z, x2d, y2d);
+
+		for (int c = 0, end = count * 4; c < end; c += 4)
+		{
+			if (x2d[c] == Integer.MIN_VALUE || x2d[c + 1] == Integer.MIN_VALUE
+				|| x2d[c + 2] == Integer.MIN_VALUE || x2d[c + 3] == Integer.MIN_VALUE)
+			{
+				x2d[c] = x2d[c + 1] = x2d[c + 2] = x2d[c + 3] = Integer.MIN_VALUE;
+				y2d[c] = y2d[c + 1] = y2d[c + 2] = y2d[c + 3] = Integer.MIN_VALUE;
+			}
+		}
+	}
+
+	/**
+	 * Bilinearly interpolates the height of a local point from the heights of the
+	 * surrounding tile corners, as {@link WorldView#getTileHeight(int, int, int)} does.
+	 */
+	private static int interpolateHeight(int[][] heights, int x, int y, int offset)
+	{
+		final int sceneX = (x >> LOCAL_COORD_BITS) + offset;
+		final int sceneY = (y >> LOCAL_COORD_BITS) + offset;
+		if (sceneX < 0 || sceneY < 0 || sceneX + 1 >= heights.length || sceneY + 1 >= heights[sceneX].length)
+		{
+			return 0;
+		}
+
+		final int tx = x & (LOCAL_TILE_SIZE - 1);
+		final int ty = y & (LOCAL_TILE_SIZE - 1);
+		final int h0 = tx * heights[sceneX + 1][sceneY] + (LOCAL_TILE_SIZE - tx) * heights[sceneX][sceneY] >> LOCAL_COORD_BITS;
+		final int h1 = heights[sceneX][sceneY + 1] * (LOCAL_TILE_SIZE - tx) + tx * heights[sceneX + 1][sceneY + 1] >> LOCAL_COORD_BITS;
+		return (LOCAL_TILE_SIZE - ty) * h0 + ty * h1 >> LOCAL_COORD_BITS;
+	}
+
 	/**
 	 * Calculates text position and centers depending on string length.
 	 *
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import net.runelite.api.coords.LocalPoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PerspectiveTest
+{
+	private static final int OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
+
+	private final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE + 1][Constants.EXTENDED_SCENE_SIZE + 1];
+	private final byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE];
+
+	private boolean gpu;
+	private Client client;
+	private WorldView wv;
+	private WorldView subWv;
+
+	@Before
+	public void before()
+	{
+		Random random = new Random(42);
+		for (int z = 0; z < Constants.MAX_Z; z++)
+		{
+			for (int x = 0; x <= Constants.EXTENDED_SCENE_SIZE; x++)
+			{
+				for (int y = 0; y <= Constants.EXTENDED_SCENE_SIZE; y++)
+				{
+					tileHeights[z][x][y] = -z * 240 - random.nextInt(400);
+				}
+			}
+		}
+
+		// a bridge running across the middle of the scene
+		for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE; x++)
+		{
+			tileSettings[1][x][OFFSET + 52] = Constants.TILE_FLAG_BRIDGE;
+		}
+
+		Scene scene = stub(Scene.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getTileHeights":
+					return tileHeights;
+				case "getExtendedTileSettings":
+					return tileSettings;
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+
+		wv = stub(WorldView.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getId":
+					return WorldView.TOPLEVEL;
+				case "isTopLevel":
+					return true;
+				case "getPlane":
+					return 0;
+				case "getSizeX":
+				case "getSizeY":
+					return Constants.SCENE_SIZE;
+				case "getScene":
+					return scene;
+				case "getTileHeight":
+					// only tile corners are looked up by the tile area polygons, so no interpolation is needed
+					int x = (int) args[0], y = (int) args[1];
+					if ((x & 127) != 0 || (y & 127) != 0)
+					{
+						throw new UnsupportedOperationException("height between tile corners");
+					}
+					return tileHeights[(int) args[2]][(x >> 7) + OFFSET][(y >> 7) + OFFSET];
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+
+		// a world entity whose projection puts some points behind the camera
+		Projection projection = stub(Projection.class, (name, args) ->
+		{
+			float[] out = args.length == 4 ? (float[]) args[3] : new float[3];
+			out[0] = (float) args[0] - 6000;
+			out[1] = (float) args[1] + 200;
+			out[2] = (float) args[2] - 3000;
+			return out;
+		});
+		subWv = stub(WorldView.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "isTopLevel":
+					return false;
+				case "getCanvasProjection":
+					return projection;
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+		WorldEntity worldEntity = stub(WorldEntity.class, (name, args) ->
+		{
+			if (name.equals("getWorldView"))
+			{
+				return subWv;
+			}
+			throw new UnsupportedOperationException(name);
+		});
+		IndexedObjectSet<WorldEntity> worldEntities = stub(IndexedObjectSet.class, (name, args) ->
+		{
+			if (name.equals("byIndex"))
+			{
+				return (int) args[0] == 1 ? worldEntity : null;
+			}
+			throw new UnsupportedOperationException(name);
+		});
+
+		client = stub(Client.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "isGpu":
+					return gpu;
+				case "getWorldView":
+					return wv;
+				case "getTopLevelWorldView":
+					return stub(WorldView.class, (wvName, wvArgs) ->
+					{
+						if (wvName.equals("worldEntities"))
+						{
+							return worldEntities;
+						}
+						throw new UnsupportedOperationException(wvName);
+					});
+				case "getCameraX":
+					return 52 * 128;
+				case "getCameraY":
+					return 40 * 128;
+				case "getCameraZ":
+					return -1200;
+				case "getCameraFpX":
+					return 52 * 128 + 0.5f;
+				case "getCameraFpY":
+					return 40 * 128 + 0.25f;
+				case "getCameraFpZ":
+					return -1200.75f;
+				case "getCameraPitch":
+					return 2800;
+				case "getCameraYaw":
+					return 1000;
+				case "getCameraFpPitch":
+					return (float) (2800 * Perspective.UNIT14);
+				case "getCameraFpYaw":
+					return (float) (1000 * Perspective.UNIT14);
+				case "getScale":
+					return 512;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+	}
+
+	@Test
+	public void testLocalToCanvasMatchesScalar()
+	{
+		for (boolean gpu : new boolean[]{false, true})
+		{
+			this.gpu = gpu;
+
+			Random random = new Random(7);
+			int count = 1000;
+			int[] x = new int[count], y = new int[count], z = new int[count];
+			for (int i = 0; i < count; i++)
+			{
+				x[i] = random.nextInt(Constants.SCENE_SIZE * 128);
+				y[i] = random.nextInt(Constants.SCENE_SIZE * 128);
+				z[i] = -random.nextInt(1000);
+			}
+			z[0] = Integer.MIN_VALUE;
+
+			int[] x2d = new int[count], y2d = new int[count];
+			Perspective.localToCanvas(client, wv, count, x, y, z, x2d, y2d);
+
+			assertEquals(Integer.MIN_VALUE, x2d[0]);
+			assertEquals(Integer.MIN_VALUE, y2d[0]);
+			for (int i = 1; i < count; i++)
+			{
+				Point p = Perspective.localToCanvas(client, x[i], y[i], z[i]);
+				if (p == null)
+				{
+					assertEquals(Integer.MIN_VALUE, x2d[i]);
+					assertEquals(Integer.MIN_VALUE, y2d[i]);
+				}
+				else
+				{
+					assertEquals(p.getX(), x2d[i]);
+					assertEquals(p.getY(), y2d[i]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testProjectionMatchesScalar()
+	{
+		Random random = new Random(11);
+		int count = 1000;
+		int[] x = new int[count], y = new int[count], z = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			x[i] = random.nextInt(Constants.SCENE_SIZE * 128);
+			y[i] = random.nextInt(Constants.SCENE_SIZE * 128);
+			z[i] = -random.nextInt(1000);
+		}
+		// near the camera, and behind it
+		y[1] = 3020;
+		y[2] = 2000;
+
+		int[] x2d = new int[count], y2d = new int[count];
+		Perspective.localToCanvas(client, subWv, count, x, y, z, x2d, y2d);
+
+		for (int i = 0; i < count; i++)
+		{
+			Point p = Perspective.localToCanvas(client, 1, x[i], y[i], z[i]);
+			assertEquals(p.getX(), x2d[i]);
+			assertEquals(p.getY(), y2d[i]);
+		}
+	}
+
+	@Test
+	public void testCanvasTileAreaPolysMatchScalar()
+	{
+		for (boolean gpu : new boolean[]{false, true})
+		{
+			this.gpu = gpu;
+
+			int count = Constants.SCENE_SIZE * Constants.SCENE_SIZE;
+			int[] x = new int[count], y = new int[count];
+			for (int i = 0; i < count; i++)
+			{
+				x[i] = (i % Constants.SCENE_SIZE) * 128 + 64;
+				y[i] = (i / Constants.SCENE_SIZE) * 128 + 64;
+			}
+
+			int[] x2d = new int[count * 4], y2d = new int[count * 4], z = new int[count * 4];
+			Perspective.getCanvasTileAreaPolys(client, wv, count, x, y, 1, 1, -1, 0, x2d, y2d, z);
+
+			for (int i = 0; i < count; i++)
+			{
+				Polygon poly = Perspective.getCanvasTileAreaPoly(client, new LocalPoint(x[i], y[i], WorldView.TOPLEVEL), 1, 1, -1, 0);
+				if (poly == null)
+				{
+					assertEquals(Integer.MIN_VALUE, x2d[i * 4]);
+					continue;
+				}
+
+				assertEquals(4, poly.npoints);
+				for (int j = 0; j < 4; j++)
+				{
+					assertEquals(poly.xpoints[j], x2d[i * 4 + j]);
+					assertEquals(poly.ypoints[j], y2d[i * 4 + j]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testTileHeights()
+	{
+		setCorners(0, 10, 30, -100, -200, -300, -400);
+		setCorners(1, 20, 52, -500, -600, -700, -800);
+		setCorners(0, 60, 90, -320, -320, -320, -320);
+
+		int bridgeY = 52 * 128 + 64;
+		int[] x = {10 * 128 + 32, 20 * 128, 60 * 128 + 100, -OFFSET * 128 - 1, 20 * 128};
+		int[] y = {30 * 128 + 64, bridgeY, 90 * 128 + 1, 0, 200 * 128};
+		int[] z = new int[x.length];
+		Perspective.getTileHeights(wv, x.length, x, y, -1, 10, z);
+
+		assertEquals(-235, z[0]);
+		// bridge tiles are lifted to the level above
+		assertEquals(-610, z[1]);
+		assertEquals(-330, z[2]);
+		// outside of the scene
+		assertEquals(Integer.MIN_VALUE, z[3]);
+		assertEquals(Integer.MIN_VALUE, z[4]);
+
+		assertNotNull(Perspective.getCanvasTileAreaPoly(client, new LocalPoint(x[1] + 64, y[1], WorldView.TOPLEVEL), 1));
+		assertNull(Perspective.getCanvasTileAreaPoly(client, new LocalPoint(x[4], y[4], WorldView.TOPLEVEL), 1));
+	}
+
+	/**
+	 * Set the corner heights of a tile, given in scene coordinates
+	 */
+	private void setCorners(int level, int x, int y, int sw, int se, int nw, int ne)
+	{
+		int[][] heights = tileHeights[level];
+		heights[x + OFFSET][y + OFFSET] = sw;
+		heights[x + OFFSET + 1][y + OFFSET] = se;
+		heights[x + OFFSET][y + OFFSET + 1] = nw;
+		heights[x + OFFSET + 1][y + OFFSET + 1] = ne;
+	}
+
+	@FunctionalInterface
+	private interface Handler
+	{
+		Object invoke(String name, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Handler handler)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+			(proxy, method, args) -> handler.invoke(method.getName(), args));
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.account.AccountSession;
+import net.runelite.client.account.SessionManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.SessionOpen;
+import net.runelite.client.util.ExecutorServiceExceptionLogger;
+import net.runelite.http.api.RuneLiteAPI;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * A durable queue of uploads to web services.
+ * <p>
+ * Uploads are written to disk, gzipped, when queued and are deleted once sent, so they survive network
+ * outages and client restarts. JSON values queued for the same url and account are combined into a single
+ * request. Each destination sends one request at a time, failed uploads are retried with exponential backoff
+ * per destination, and uploads which the server rejects with a client error are dropped.
+ * <p>
+ * Session ids are never written to the spool. Uploads for a RuneLite account record only its username, and are
+ * sent with the session which is open when they are sent. They are held while logged out, and dropped if a
+ * different account logs in.
+ */
+@Slf4j
+@Singleton
+public class UploadSpool
+{
+	private static final File SPOOL_DIR = new File(RuneLite.CACHE_DIR, "upload-spool");
+	private static final String SUFFIX = ".json.gz";
+	private static final int MAX_FILES = 1000;
+	private static final int MAX_BATCH_FILES = 64;
+	private static final long MAX_BACKOFF_MS = TimeUnit.MINUTES.toMillis(10);
+
+	@Value
+	private static class Upload
+	{
+		String url;
+		// the RuneLite account username, or null if not authenticated
+		@Nullable
+		String account;
+		// null for a GET
+		@Nullable
+		JsonArray body;
+	}
+
+	private static class Backoff
+	{
+		private int failures;
+		private long nextAttempt;
+	}
+
+	private final OkHttpClient okHttpClient;
+	private final Gson gson;
+	private final Supplier<AccountSession> session;
+	private final ScheduledExecutorService executor;
+	private final File dir;
+	private final long minBackoffMs;
+
+	// destination hash -> backoff
+	private final Map<String, Backoff> backoffs = new HashMap<>();
+	// destination hashes with a request in flight
+	private final Set<String> sending = new HashSet<>();
+	// destination hashes waiting for their account to log in
+	private final Set<String> held = new HashSet<>();
+	private long seq;
+
+	@Inject
+	UploadSpool(OkHttpClient okHttpClient, Gson gson, SessionManager sessionManager, EventBus eventBus)
+	{
+		// disk io is kept off of the shared executor
+		this(okHttpClient, gson, sessionManager::getAccountSession,
+			new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+				.setNameFormat("upload-spool")
+				.setDaemon(true)
+				.build())),
+			SPOOL_DIR, TimeUnit.SECONDS.toMillis(5));
+		eventBus.register(this);
+	}
+
+	@VisibleForTesting
+	UploadSpool(OkHttpClient okHttpClient, Gson gson, Supplier<AccountSession> session, ScheduledExecutorService executor,
+		File dir, long minBackoffMs)
+	{
+		this.okHttpClient = okHttpClient;
+		this.gson = gson;
+		this.session = session;
+		this.executor = executor;
+		this.dir = dir;
+		this.minBackoffMs = minBackoffMs;
+
+		// send anything left over from a previous session
+		executor.execute(this::init);
+	}
+
+	/**
+	 * Queue values to be POSTed to a url as a JSON array.
+	 * <p>
+	 * The returned future does not mean the values have been sent, only that they will be. They may be sent
+	 * much later, such as in a later session.
+	 *
+	 * @param url the url
+	 * @param account the RuneLite account to send the values as, or null to send them without a session
+	 * @param values the values, which may be sent along with other values queued for the same url and account
+	 * @return a future which is completed once the values have been written to the spool
+	 */
+	public CompletableFuture<Void> post(HttpUrl url, @Nullable AccountSession account, Collection<?> values)
+	{
+		return queue(new Upload(url.toString(), account != null ? account.getUsername() : null,
+			gson.toJsonTree(values).getAsJsonArray()));
+	}
+
+	/**
+	 * Queue a GET of a url, for requests where only the url is significant.
+	 *
+	 * @param url the url
+	 * @return a future which is completed once the request has been written to the spool
+	 */
+	public CompletableFuture<Void> get(HttpUrl url)
+	{
+		return queue(new Upload(url.toString(), null, null));
+	}
+
+	@Subscribe
+	public void onSessionOpen(SessionOpen sessionOpen)
+	{
+		executor.execute(() ->
+		{
+			synchronized (this)
+			{
+				held.clear();
+				drain();
+			}
+		});
+	}
+
+	private CompletableFuture<Void> queue(Upload upload)
+	{
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		executor.execute(() ->
+		{
+			try
+			{
+				write(upload);
+				future.complete(null);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to spool upload to {}", upload.getUrl(), ex);
+				future.completeExceptionally(ex);
+			}
+
+			drain();
+		});
+		return future;
+	}
+
+	private synchronized void init()
+	{
+		dir.mkdirs();
+		final String[] names = spooled();
+		if (names.length > 0)
+		{
+			seq = Long.parseLong(names[names.length - 1].substring(0, 16), 16) + 1;
+			log.debug("{} uploads left in the spool", names.length);
+		}
+		drain();
+	}
+
+	private synchronized void write(Upload upload) throws IOException
+	{
+		final String[] names = spooled();
+		// drop the oldest uploads if the spool is full, such as after a long outage
+		for (int i = 0; i <= names.length - MAX_FILES; ++i)
+		{
+			log.warn("Upload spool is full, dropping {}", names[i]);
+			new File(dir, names[i]).delete();
+		}
+
+		final String hash = String.format("%08x", Objects.hash(upload.getUrl(), upload.getAccount()));
+		final File file = new File(dir, String.format("%016x-%s%s", seq++, hash, SUFFIX));
+		final File tmp = new File(dir, file.getName() + ".tmp");
+		try (Writer out = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(tmp)), StandardCharsets.UTF_8))
+		{
+			gson.toJson(upload, out);
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * For each destination which is not sending or backing off, send its oldest upload combined with later uploads
+	 * to the same destination.
+	 */
+	private synchronized void drain()
+	{
+		final long now = System.currentTimeMillis();
+		final String[] names = spooled();
+		// destinations skipped or sent during this drain
+		final Set<String> seen = new HashSet<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			final String hash = hash(names[i]);
+			if (sending.contains(hash) || held.contains(hash) || seen.contains(hash))
+			{
+				continue;
+			}
+
+			final Backoff backoff = backoffs.get(hash);
+			if (backoff != null && backoff.nextAttempt > now)
+			{
+				seen.add(hash);
+				continue;
+			}
+
+			final File file = new File(dir, names[i]);
+			final Upload upload = read(file);
+			if (upload == null)
+			{
+				continue;
+			}
+
+			AccountSession accountSession = null;
+			if (upload.getAccount() != null)
+			{
+				accountSession = session.get();
+				if (accountSession == null)
+				{
+					log.debug("Holding uploads to {} until {} logs in", upload.getUrl(), upload.getAccount());
+					held.add(hash);
+					continue;
+				}
+				else if (!upload.getAccount().equals(accountSession.getUsername()))
+				{
+					log.debug("Dropping upload to {} for {}, who is no longer logged in", upload.getUrl(), upload.getAccount());
+					file.delete();
+					continue;
+				}
+			}
+
+			final List<File> batch = new ArrayList<>();
+			batch.add(file);
+
+			JsonArray body = upload.getBody();
+			if (body != null)
+			{
+				body = body.deepCopy();
+				// the hash can collide, so the destination is compared too
+				for (int j = i + 1; j < names.length && batch.size() < MAX_BATCH_FILES; ++j)
+				{
+					if (!hash.equals(hash(names[j])))
+					{
+						continue;
+					}
+
+					final File next = new File(dir, names[j]);
+					final Upload other = read(next);
+					if (other != null && other.getBody() != null
+						&& other.getUrl().equals(upload.getUrl()) && Objects.equals(other.getAccount(), upload.getAccount()))
+					{
+						body.addAll(other.getBody());
+						batch.add(next);
+					}
+				}
+			}
+
+			seen.add(hash);
+			send(upload, body, batch, hash, accountSession);
+		}
+	}
+
+	private void send(Upload upload, @Nullable JsonArray body, List<File> batch, String hash, @Nullable AccountSession accountSession)
+	{
+		final Request.Builder request = new Request.Builder()
+			.url(upload.getUrl());
+		if (accountSession != null)
+		{
+			request.header(RuneLiteAPI.RUNELITE_AUTH, accountSession.getUuid().toString());
+		}
+		if (body != null)
+		{
+			request.post(RequestBody.create(RuneLiteAPI.JSON, gson.toJson(body)));
+		}
+
+		sending.add(hash);
+		okHttpClient.newCall(request.build()).enqueue(new Callback()
+		{
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				log.debug("Error uploading to {}", upload.getUrl(), e);
+				executor.execute(() -> sent(upload, batch, hash, -1));
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				final int code = response.code();
+				response.close();
+				executor.execute(() -> sent(upload, batch, hash, code));
+			}
+		});
+	}
+
+	private synchronized void sent(Upload upload, List<File> batch, String hash, int code)
+	{
+		sending.remove(hash);
+
+		// a client error won't succeed by retrying it, except for timeouts and rate limits
+		final boolean rejected = code >= 400 && code < 500 && code != 408 && code != 429;
+		if ((code >= 200 && code < 300) || rejected)
+		{
+			if (rejected)
+			{
+				log.warn("Upload to {} was rejected: {}", upload.getUrl(), code);
+			}
+			else
+			{
+				log.debug("Uploaded {} spooled uploads to {}", batch.size(), upload.getUrl());
+			}
+
+			batch.forEach(File::delete);
+			backoffs.remove(hash);
+		}
+		else
+		{
+			final Backoff backoff = backoffs.computeIfAbsent(hash, k -> new Backoff());
+			final long delay = Math.min(minBackoffMs << Math.min(backoff.failures, 20), MAX_BACKOFF_MS);
+			++backoff.failures;
+			backoff.nextAttempt = System.currentTimeMillis() + delay;
+			log.debug("Retrying upload to {} in {}ms", upload.getUrl(), delay);
+			executor.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+		}
+
+		drain();
+	}
+
+	@Nullable
+	private Upload read(File file)
+	{
+		try (Reader in = new InputStreamReader(new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))
+		{
+			final Upload upload = gson.fromJson(in, Upload.class);
+			if (upload == null || upload.getUrl() == null)
+			{
+				throw new IOException("invalid upload");
+			}
+			return upload;
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.warn("Dropping unreadable upload {}", file, ex);
+			file.delete();
+			return null;
+		}
+	}
+
+	private String[] spooled()
+	{
+		final String[] names = dir.list((d, name) -> name.endsWith(SUFFIX));
+		if (names == null)
+		{
+			return new String[0];
+		}
+		Arrays.sort(names);
+		return names;
+	}
+
+	private static String hash(String name)
+	{
+		return name.substring(17, 25);
+	}
+}
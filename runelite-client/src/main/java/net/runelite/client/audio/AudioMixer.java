@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.audio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Mixes any number of concurrently playing sounds into a single stream.
+ * <p>
+ * Sounds can be added from any thread, but {@link #mix(byte[], int)} must only be called
+ * from a single thread.
+ */
+class AudioMixer
+{
+	static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+	static final int CHANNELS = 2;
+	static final int FRAME_SIZE = CHANNELS * 2;
+
+	private static class Voice
+	{
+		private final short[] samples;
+		private int pos;
+
+		private Voice(short[] samples)
+		{
+			this.samples = samples;
+		}
+	}
+
+	private final Queue<short[]> pending = new ConcurrentLinkedQueue<>();
+	// only accessed from the mixing thread
+	private final List<Voice> voices = new ArrayList<>();
+	private int[] accum = new int[0];
+
+	/**
+	 * Adds a sound to the mix.
+	 *
+	 * @param samples interleaved samples in {@link #FORMAT}
+	 */
+	void add(short[] samples)
+	{
+		if (samples.length > 0)
+		{
+			pending.add(samples);
+		}
+	}
+
+	/**
+	 * Mixes the next frames of all playing sounds.
+	 *
+	 * @param out the buffer to write the mixed frames to
+	 * @param frames the maximum number of frames to mix
+	 * @return the number of frames written, which is less than requested once all of the sounds have ended
+	 */
+	int mix(byte[] out, int frames)
+	{
+		short[] added;
+		while ((added = pending.poll()) != null)
+		{
+			voices.add(new Voice(added));
+		}
+
+		if (voices.isEmpty())
+		{
+			return 0;
+		}
+
+		final int samples = frames * CHANNELS;
+		if (accum.length < samples)
+		{
+			accum = new int[samples];
+		}
+		Arrays.fill(accum, 0, samples, 0);
+
+		int mixed = 0;
+		for (Iterator<Voice> it = voices.iterator(); it.hasNext(); )
+		{
+			Voice voice = it.next();
+			int n = Math.min(samples, voice.samples.length - voice.pos);
+			for (int i = 0; i < n; ++i)
+			{
+				accum[i] += voice.samples[voice.pos + i];
+			}
+			voice.pos += n;
+			mixed = Math.max(mixed, n);
+
+			if (voice.pos >= voice.samples.length)
+			{
+				it.remove();
+			}
+		}
+
+		// pad a trailing partial frame out with silence
+		mixed = (mixed + CHANNELS - 1) / CHANNELS * CHANNELS;
+		for (int i = 0, j = 0; i < mixed; ++i)
+		{
+			int s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, accum[i]));
+			out[j++] = (byte) s;
+			out[j++] = (byte) (s >> 8);
+		}
+		return mixed / CHANNELS;
+	}
+}
@@ -24,34 +24,81 @@
  */
 package net.runelite.client.audio;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.DataLine;
-import javax.sound.sampled.FloatControl;
-import javax.sound.sampled.Line;
-import javax.sound.sampled.LineEvent;
 import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
 import javax.sound.sampled.UnsupportedAudioFileException;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * General audio playback manager.
  * Not all audio formats are supported. Refer to {@link javax.sound.sampled.AudioFileFormat.Type} for a list of
  * formats supported by the sound system.
+ * <p>
+ * Sounds are decoded once into PCM and cached, and are played by mixing them into a single output line.
+ * The line is closed once no sounds have played for a while, so the next sound opens whichever output
+ * device is the default by then.
  */
 @Singleton
 @Slf4j
 public class AudioPlayer
 {
-	// We RETAIN one line in the "open" state at all times so a gain control persists in output mixing tools.
-	private Line prevLine;
+	// ~45 seconds of stereo audio
+	private static final long CACHE_MAX_SAMPLES = 4_000_000;
+	// ~46ms, which bounds the latency between play() and the sound being heard
+	private static final int BUFFER_FRAMES = 2048;
+	private static final long LINE_IDLE_TIMEOUT_MS = 5000;
+
+	@Value
+	private static class CacheKey
+	{
+		String source;
+		long lastModified;
+		long length;
+		float gain;
+	}
+
+	private final Cache<CacheKey, short[]> cache = CacheBuilder.newBuilder()
+		.maximumWeight(CACHE_MAX_SAMPLES)
+		.<CacheKey, short[]>weigher((k, v) -> v.length)
+		.build();
+
+	private final AudioMixer mixer = new AudioMixer();
+	private final Supplier<AudioSink> sinkFactory;
+	private final long lineIdleTimeoutNanos;
+	private Thread mixerThread;
+
+	@Inject
+	public AudioPlayer()
+	{
+		this(AudioPlayer::openLine, LINE_IDLE_TIMEOUT_MS);
+	}
+
+	@VisibleForTesting
+	AudioPlayer(Supplier<AudioSink> sinkFactory, long lineIdleTimeoutMs)
+	{
+		this.sinkFactory = sinkFactory;
+		this.lineIdleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(lineIdleTimeoutMs);
+	}
 
 	/**
 	 * Plays an audio stream loaded from a file object.
@@ -62,10 +109,17 @@ public class AudioPlayer
 	public void play(File file, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
+		CacheKey key = new CacheKey(file.getAbsolutePath(), file.lastModified(), file.length(), gain);
+		short[] samples = cache.getIfPresent(key);
+		if (samples == null)
 		{
-			play(stream, gain);
+			try (BufferedInputStream stream = new BufferedInputStream(new FileInputStream(file)))
+			{
+				samples = decode(stream, gain);
+			}
+			cache.put(key, samples);
 		}
+		play(samples);
 	}
 
 	/**
@@ -78,14 +132,27 @@ public class AudioPlayer
 	public void play(Class<?> c, String path, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (BufferedInputStream stream = new BufferedInputStream(c.getResourceAsStream(path)))
+		URL url = c.getResource(path);
+		if (url == null)
+		{
+			throw new FileNotFoundException(path);
+		}
+
+		CacheKey key = new CacheKey(url.toString(), 0, 0, gain);
+		short[] samples = cache.getIfPresent(key);
+		if (samples == null)
 		{
-			play(stream, gain);
+			try (BufferedInputStream stream = new BufferedInputStream(url.openStream()))
+			{
+				samples = decode(stream, gain);
+			}
+			cache.put(key, samples);
 		}
+		play(samples);
 	}
 
 	/**
-	 * Plays an audio stream from the provided input stream.
+	 * Plays an audio stream from the provided input stream. The decoded audio is not cached.
 	 *
 	 * @param stream The input stream containing the audio data.
 	 * @param gain   Gain control (in dB) to apply to audio playback.
@@ -93,66 +160,160 @@ public class AudioPlayer
 	public void play(InputStream stream, float gain)
 			throws IOException, UnsupportedAudioFileException, LineUnavailableException
 	{
-		try (AudioInputStream audio = AudioSystem.getAudioInputStream(stream))
-		{
-			DataLine line = getSelfClosingLine(audio);
-
-			if (gain != 0)
-			{
-				trySetGain(line, gain);
-			}
+		play(decode(stream, gain));
+	}
 
-			line.start();
-		}
+	@VisibleForTesting
+	long cacheSize()
+	{
+		return cache.size();
 	}
 
-	private DataLine getSelfClosingLine(AudioInputStream stream) throws IOException, LineUnavailableException
+	private void play(short[] samples)
 	{
-		// Clip is convenient because it will just buffer the entire stream with open(audio) rather than us having to
-		// write() to it.
-		Clip clip = AudioSystem.getClip();
+		mixer.add(samples);
 
-		try
+		Thread thread;
+		synchronized (this)
 		{
-			clip.open(stream);
-		}
-		catch (IOException e)
-		{
-			clip.close();
-			throw e;
+			if (mixerThread == null)
+			{
+				mixerThread = new Thread(this::mix, "RuneLite audio mixer");
+				mixerThread.setDaemon(true);
+				mixerThread.start();
+				return;
+			}
+			thread = mixerThread;
 		}
+		LockSupport.unpark(thread);
+	}
 
-		clip.addLineListener(event ->
+	private void mix()
+	{
+		AudioSink sink = null;
+		long idleSince = 0;
+		byte[] buf = new byte[BUFFER_FRAMES * AudioMixer.FRAME_SIZE];
+		for (;;)
 		{
-			if (event.getType() != LineEvent.Type.STOP)
+			int frames = mixer.mix(buf, BUFFER_FRAMES);
+			if (frames == 0)
 			{
-				return;
+				// play() unparks after queueing, so a sound added after the mix above is not missed
+				if (sink == null)
+				{
+					LockSupport.park(this);
+					continue;
+				}
+
+				long now = System.nanoTime();
+				if (idleSince == 0)
+				{
+					idleSince = now;
+				}
+				else if (now - idleSince >= lineIdleTimeoutNanos)
+				{
+					sink.close();
+					sink = null;
+					continue;
+				}
+				LockSupport.parkNanos(this, lineIdleTimeoutNanos - (now - idleSince));
+				continue;
 			}
 
-			synchronized (this) // We cut off the old line, and this one becomes the new "retainer".
+			idleSince = 0;
+			if (sink == null)
+			{
+				sink = sinkFactory.get();
+			}
+
+			try
+			{
+				sink.write(buf, 0, frames * AudioMixer.FRAME_SIZE);
+			}
+			catch (RuntimeException e)
+			{
+				// the device may have gone away, so discard what is left of the playing sounds and
+				// open the line again for the next sound, once the mixer has been idle
+				log.warn("Error writing to audio line", e);
+				sink.close();
+				sink = AudioSink.NULL;
+			}
+		}
+	}
+
+	/**
+	 * Decodes an audio stream to samples in {@link AudioMixer#FORMAT}, with the gain applied.
+	 */
+	@VisibleForTesting
+	static short[] decode(InputStream stream, float gain) throws IOException, UnsupportedAudioFileException
+	{
+		ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+		try (AudioInputStream audio = AudioSystem.getAudioInputStream(stream))
+		{
+			AudioFormat in = audio.getFormat();
+			AudioFormat decoded = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, in.getSampleRate(), 16,
+				in.getChannels(), in.getChannels() * 2, in.getSampleRate(), false);
+
+			try (AudioInputStream pcmStream = AudioSystem.getAudioInputStream(decoded, audio);
+				AudioInputStream out = AudioSystem.getAudioInputStream(AudioMixer.FORMAT, pcmStream))
 			{
-				if (prevLine != null)
+				byte[] buf = new byte[8192];
+				int n;
+				while ((n = out.read(buf)) != -1)
 				{
-					prevLine.close();
+					pcm.write(buf, 0, n);
 				}
-
-				prevLine = clip;
 			}
-		});
+			catch (IllegalArgumentException e)
+			{
+				throw new UnsupportedAudioFileException("Unable to convert " + in + " to " + AudioMixer.FORMAT);
+			}
+		}
 
-		return clip;
+		byte[] bytes = pcm.toByteArray();
+		// drop a trailing partial frame
+		short[] samples = new short[bytes.length / AudioMixer.FRAME_SIZE * AudioMixer.CHANNELS];
+		float scale = (float) Math.pow(10, gain / 20);
+		for (int i = 0; i < samples.length; ++i)
+		{
+			int s = (bytes[i * 2] & 0xff) | (bytes[i * 2 + 1] << 8);
+			if (gain != 0)
+			{
+				s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(s * scale)));
+			}
+			samples[i] = (short) s;
+		}
+		return samples;
 	}
 
-	private void trySetGain(DataLine line, float gain)
+	private static AudioSink openLine()
 	{
+		SourceDataLine line;
 		try
 		{
-			FloatControl control = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
-			control.setValue(gain);
+			line = AudioSystem.getSourceDataLine(AudioMixer.FORMAT);
+			line.open(AudioMixer.FORMAT, BUFFER_FRAMES * AudioMixer.FRAME_SIZE * 2);
+			line.start();
 		}
-		catch (Exception e)
+		catch (LineUnavailableException | IllegalArgumentException | SecurityException e)
 		{
-			log.warn("Failed to set gain: {}", e.getMessage());
+			log.warn("Unable to open audio line, sounds will not be played", e);
+			return AudioSink.NULL;
 		}
+
+		return new AudioSink()
+		{
+			@Override
+			public void write(byte[] buf, int off, int len)
+			{
+				line.write(buf, off, len);
+			}
+
+			@Override
+			public void close()
+			{
+				line.close();
+			}
+		};
 	}
 }
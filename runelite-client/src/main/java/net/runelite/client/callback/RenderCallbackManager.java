@@ -49,6 +49,11 @@ public class RenderCallbackManager
 		callbacks.remove(cb);
 	}
 
+	public boolean isEmpty()
+	{
+		return callbacks.isEmpty();
+	}
+
 	public boolean addEntity(Renderable renderable, boolean ui)
 	{
 		if (callbacks.isEmpty())
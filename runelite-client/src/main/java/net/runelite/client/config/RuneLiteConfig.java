@@ -423,6 +423,20 @@ public interface RuneLiteConfig extends Config
 		return ComponentConstants.STANDARD_BACKGROUND_COLOR;
 	}
 
+	@ConfigItem(
+		keyName = "overlayRenderBudget",
+		name = "Overlay render budget",
+		description = "Overlays which repeatedly take longer than this to render are only drawn every few frames.<br>"
+			+ "Set to 0 to disable.",
+		position = 45,
+		section = overlaySettings
+	)
+	@Units(Units.MILLISECONDS)
+	default int overlayRenderBudget()
+	{
+		return 0;
+	}
+
 	@ConfigItem(
 		keyName = "sidebarToggleKey",
 		name = "Sidebar toggle key",
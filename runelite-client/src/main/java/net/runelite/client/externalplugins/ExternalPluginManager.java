@@ -28,9 +28,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.hash.Hashing;
-import com.google.common.hash.HashingInputStream;
-import com.google.common.io.Files;
 import com.google.gson.Gson;
 import java.io.File;
 import java.io.IOException;
@@ -66,13 +63,9 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.ui.SplashScreen;
-import net.runelite.client.util.CountingInputStream;
 import net.runelite.client.util.Text;
 import net.runelite.client.util.VerificationException;
-import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
 @Singleton
 @Slf4j
@@ -183,6 +176,8 @@ public class ExternalPluginManager
 			Set<PluginHubManifest.JarData> externalPlugins = new HashSet<>();
 
 			RuneLite.PLUGINS_DIR.mkdirs();
+			File verificationFile = new File(RuneLite.PLUGINS_DIR, JarVerificationManifest.FILE_NAME);
+			JarVerificationManifest verificationManifest = new JarVerificationManifest(verificationFile, gson);
 
 			try
 			{
@@ -192,6 +187,7 @@ public class ExternalPluginManager
 
 				Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 				Set<File> keep = new HashSet<>();
+				keep.add(verificationFile);
 
 				for (String name : installedIDs)
 				{
@@ -200,14 +196,15 @@ public class ExternalPluginManager
 					{
 						externalPlugins.add(jarData);
 
-						jarData.getJarFile().setLastModified(now.toEpochMilli());
-						if (!jarData.isValid())
+						File jarFile = jarData.getJarFile();
+						if (!verificationManifest.isValid(jarFile, jarData.getJarHash()))
 						{
 							needsDownload.add(jarData);
 						}
 						else
 						{
-							keep.add(jarData.getJarFile());
+							verificationManifest.touch(jarFile, now.toEpochMilli());
+							keep.add(jarFile);
 						}
 					}
 				}
@@ -225,40 +222,23 @@ public class ExternalPluginManager
 					}
 				}
 
-				int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
-				int downloaded = 0;
-
-				for (PluginHubManifest.JarData jarData : needsDownload)
-				{
-					HttpUrl url = externalPluginClient.getJarURL(jarData);
-
-					try (Response res = okHttpClient.newCall(new Request.Builder().url(url).build()).execute())
-					{
-						int fdownloaded = downloaded;
-						downloaded += jarData.getJarSize();
-						HashingInputStream his = new HashingInputStream(Hashing.sha256(),
-							new CountingInputStream(res.body().byteStream(), i ->
-								SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
-									null, "Downloading " + jarData.getDisplayName(),
-									i + fdownloaded, toDownload, true)));
-						Files.asByteSink(jarData.getJarFile()).writeFrom(his);
-						if (!PluginHubManifest.HASH_ENCODER.encodeToString(his.hash().asBytes()).equals(jarData.getJarHash()))
-						{
-							throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
-						}
-					}
-					catch (IOException | VerificationException e)
-					{
-						externalPlugins.remove(jarData);
-						log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
-					}
-				}
+				PluginHubDownloader downloader = new PluginHubDownloader(okHttpClient, externalPluginClient::getJarURL,
+					RuneLite.PLUGINS_DIR, verificationManifest);
+				Set<PluginHubManifest.JarData> failed = downloader.download(needsDownload, (jarData, downloaded, total) ->
+					SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
+						null, "Downloading " + jarData.getDisplayName(),
+						downloaded, total, true));
+				externalPlugins.removeAll(failed);
 			}
 			catch (IOException | VerificationException e)
 			{
 				log.error("Unable to download external plugins", e);
 				return;
 			}
+			finally
+			{
+				verificationManifest.save();
+			}
 
 			SplashScreen.stage(splashStart + (splashLength * .8), null, "Starting external plugins");
 
@@ -301,7 +281,7 @@ public class ExternalPluginManager
 			for (PluginHubManifest.JarData jarData : add)
 			{
 				// I think this can't happen, but just in case
-				if (!jarData.isValid())
+				if (!verificationManifest.isValid(jarData.getJarFile(), jarData.getJarHash()))
 				{
 					log.warn("Invalid plugin for validated manifest: {}", jarData);
 					continue;
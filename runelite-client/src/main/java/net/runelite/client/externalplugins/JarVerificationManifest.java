@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records which plugin hub jars have been verified against their expected hash, along with the size and
+ * modification time they had when they were, so unchanged jars are not hashed again on every start.
+ */
+@Slf4j
+class JarVerificationManifest
+{
+	static final String FILE_NAME = "verified.json";
+
+	private static final Type TYPE = new TypeToken<Map<String, Entry>>()
+	{
+	}.getType();
+
+	@Value
+	private static class Entry
+	{
+		long size;
+		long lastModified;
+		String hash;
+	}
+
+	private final File file;
+	private final Gson gson;
+	private final Map<String, Entry> entries = new HashMap<>();
+	private boolean dirty;
+
+	JarVerificationManifest(File file, Gson gson)
+	{
+		this.file = file;
+		this.gson = gson;
+
+		if (file.exists())
+		{
+			try (Reader in = Files.newReader(file, StandardCharsets.UTF_8))
+			{
+				Map<String, Entry> loaded = gson.fromJson(in, TYPE);
+				if (loaded != null)
+				{
+					entries.putAll(loaded);
+				}
+			}
+			catch (IOException | JsonParseException ex)
+			{
+				log.warn("unable to read jar verification manifest", ex);
+			}
+		}
+	}
+
+	/**
+	 * Check that a jar exists and has the expected hash. The jar is only hashed if it has not been verified
+	 * before, or has changed since it was.
+	 */
+	synchronized boolean isValid(File jar, String expectedHash)
+	{
+		if (!jar.isFile())
+		{
+			return false;
+		}
+
+		Entry entry = entries.get(jar.getName());
+		if (entry != null && matches(entry, jar) && entry.getHash().equals(expectedHash))
+		{
+			return true;
+		}
+
+		try
+		{
+			HashCode hash = Files.asByteSource(jar).hash(Hashing.sha256());
+			if (expectedHash.equals(PluginHubManifest.HASH_ENCODER.encodeToString(hash.asBytes())))
+			{
+				verified(jar, expectedHash);
+				return true;
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to hash {}", jar, e);
+		}
+
+		if (entries.remove(jar.getName()) != null)
+		{
+			dirty = true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record that a jar has been verified to have the given hash in its current state
+	 */
+	synchronized void verified(File jar, String hash)
+	{
+		entries.put(jar.getName(), new Entry(jar.length(), jar.lastModified(), hash));
+		dirty = true;
+	}
+
+	/**
+	 * Set the modification time of a jar, keeping its verification if it has not changed since it was verified
+	 */
+	synchronized void touch(File jar, long time)
+	{
+		Entry entry = entries.get(jar.getName());
+		boolean verified = entry != null && matches(entry, jar);
+		if (jar.setLastModified(time) && verified)
+		{
+			entries.put(jar.getName(), new Entry(entry.getSize(), jar.lastModified(), entry.getHash()));
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Forget jars which no longer exist, and save the manifest if it has changed
+	 */
+	synchronized void save()
+	{
+		File dir = file.getParentFile();
+		dirty |= entries.keySet().removeIf(name -> !new File(dir, name).isFile());
+		if (!dirty)
+		{
+			return;
+		}
+
+		File tmp = new File(dir, file.getName() + ".tmp");
+		try
+		{
+			try (Writer out = Files.newWriter(tmp, StandardCharsets.UTF_8))
+			{
+				gson.toJson(entries, TYPE, out);
+			}
+			java.nio.file.Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			dirty = false;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write jar verification manifest", ex);
+		}
+	}
+
+	private static boolean matches(Entry entry, File jar)
+	{
+		return entry.getSize() == jar.length() && entry.getLastModified() == jar.lastModified();
+	}
+}
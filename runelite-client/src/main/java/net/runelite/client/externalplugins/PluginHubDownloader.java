@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.CountingInputStream;
+import net.runelite.client.util.VerificationException;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Downloads plugin hub jars a few at a time, verifying each against its expected hash before moving it into place.
+ */
+@Slf4j
+class PluginHubDownloader
+{
+	private static final int DOWNLOAD_THREADS = 4;
+
+	interface Progress
+	{
+		void update(PluginHubManifest.JarData jar, int downloaded, int total);
+	}
+
+	private final OkHttpClient okHttpClient;
+	private final Function<PluginHubManifest.JarData, HttpUrl> jarUrl;
+	private final File pluginsDir;
+	private final JarVerificationManifest verificationManifest;
+
+	PluginHubDownloader(OkHttpClient okHttpClient, Function<PluginHubManifest.JarData, HttpUrl> jarUrl,
+		File pluginsDir, JarVerificationManifest verificationManifest)
+	{
+		this.okHttpClient = okHttpClient;
+		this.jarUrl = jarUrl;
+		this.pluginsDir = pluginsDir;
+		this.verificationManifest = verificationManifest;
+	}
+
+	/**
+	 * Download jars
+	 *
+	 * @param jars the jars to download
+	 * @param progress called with the total number of bytes downloaded so far
+	 * @return the jars which could not be downloaded
+	 */
+	Set<PluginHubManifest.JarData> download(Collection<PluginHubManifest.JarData> jars, Progress progress)
+	{
+		if (jars.isEmpty())
+		{
+			return Collections.emptySet();
+		}
+
+		int total = jars.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
+		AtomicInteger downloaded = new AtomicInteger();
+
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(DOWNLOAD_THREADS, jars.size()), new ThreadFactoryBuilder()
+			.setNameFormat("plugin-hub-download-%d")
+			.setDaemon(true)
+			.build());
+		try
+		{
+			Map<PluginHubManifest.JarData, Future<?>> downloads = new LinkedHashMap<>();
+			for (PluginHubManifest.JarData jarData : jars)
+			{
+				downloads.put(jarData, pool.submit(() ->
+				{
+					download(jarData, downloaded, total, progress);
+					return null;
+				}));
+			}
+
+			Set<PluginHubManifest.JarData> failed = new HashSet<>();
+			for (Map.Entry<PluginHubManifest.JarData, Future<?>> entry : downloads.entrySet())
+			{
+				try
+				{
+					entry.getValue().get();
+				}
+				catch (ExecutionException e)
+				{
+					failed.add(entry.getKey());
+					log.error("Unable to download external plugin \"{}\"", entry.getKey().getInternalName(), e.getCause());
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					failed.add(entry.getKey());
+				}
+			}
+			return failed;
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+
+	private void download(PluginHubManifest.JarData jarData, AtomicInteger downloaded, int total, Progress progress)
+		throws IOException, VerificationException
+	{
+		File jarFile = jarData.getJarFile(pluginsDir);
+		File tmp = new File(pluginsDir, jarFile.getName() + ".tmp");
+		try (Response res = okHttpClient.newCall(new Request.Builder().url(jarUrl.apply(jarData)).build()).execute())
+		{
+			if (!res.isSuccessful())
+			{
+				throw new IOException("Unable to download " + jarData.getInternalName() + ": " + res.code());
+			}
+
+			int[] counted = {0};
+			HashingInputStream his = new HashingInputStream(Hashing.sha256(),
+				new CountingInputStream(res.body().byteStream(), i ->
+				{
+					int done = downloaded.addAndGet(i - counted[0]);
+					counted[0] = i;
+					progress.update(jarData, done, total);
+				}));
+			Files.asByteSink(tmp).writeFrom(his);
+
+			String hash = PluginHubManifest.HASH_ENCODER.encodeToString(his.hash().asBytes());
+			if (!hash.equals(jarData.getJarHash()))
+			{
+				throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
+			}
+
+			Files.move(tmp, jarFile);
+			verificationManifest.verified(jarFile, hash);
+		}
+		finally
+		{
+			tmp.delete();
+		}
+	}
+}
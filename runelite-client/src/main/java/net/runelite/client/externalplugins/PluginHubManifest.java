@@ -24,11 +24,7 @@
  */
 package net.runelite.client.externalplugins;
 
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hashing;
-import com.google.common.io.Files;
 import java.io.File;
-import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
 import javax.annotation.Nullable;
@@ -50,28 +46,12 @@ public class PluginHubManifest
 
 		File getJarFile()
 		{
-			return new File(RuneLite.PLUGINS_DIR, internalName + "_" + jarHash + ".jar");
+			return getJarFile(RuneLite.PLUGINS_DIR);
 		}
 
-		boolean isValid()
+		File getJarFile(File pluginsDir)
 		{
-			File file = getJarFile();
-
-			try
-			{
-				if (file.exists())
-				{
-					HashCode hash = Files.asByteSource(file).hash(Hashing.sha256());
-					if (this.jarHash.equals(HASH_ENCODER.encodeToString(hash.asBytes())))
-					{
-						return true;
-					}
-				}
-			}
-			catch (IOException e)
-			{
-			}
-			return false;
+			return new File(pluginsDir, internalName + "_" + jarHash + ".jar");
 		}
 	}
 
@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
@@ -62,22 +63,40 @@ public class ItemClient
 		this.gson = gson;
 	}
 
-	public ItemPrice[] getPrices() throws IOException
+	/**
+	 * Fetch the item prices, unless they have not changed since a previous fetch.
+	 *
+	 * @param previous the previously fetched prices, used to make a conditional request
+	 * @return the new prices, {@code previous} if they have not changed, or null on error
+	 */
+	@Nullable
+	ItemPriceTable getPrices(ItemPriceTable previous) throws IOException
 	{
-		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
+		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("item")
-			.addPathSegment("prices.js");
-
-		HttpUrl url = urlBuilder.build();
+			.addPathSegment("prices.js")
+			.build();
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder request = new Request.Builder()
+			.url(url);
+		if (previous.getEtag() != null)
+		{
+			request.header("If-None-Match", previous.getEtag());
+		}
+		if (previous.getLastModified() != null)
+		{
+			request.header("If-Modified-Since", previous.getLastModified());
+		}
 
-		try (Response response = client.newCall(request).execute())
+		try (Response response = client.newCall(request.build()).execute())
 		{
+			if (response.code() == 304)
+			{
+				return previous;
+			}
+
 			if (!response.isSuccessful())
 			{
 				log.warn("Error looking up prices: {}", response);
@@ -85,7 +104,13 @@ public class ItemClient
 			}
 
 			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			ItemPrice[] prices = gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			if (prices == null)
+			{
+				return null;
+			}
+
+			return new ItemPriceTable(prices, response.header("ETag"), response.header("Last-Modified"));
 		}
 		catch (JsonParseException ex)
 		{
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+
+/**
+ * Stores rendered item images on disk, so they are available without rendering them on the client thread.
+ * <p>
+ * Images are stored in a directory per version of the game cache data they are rendered from, and the
+ * directories of other versions are deleted when the version changes. The version is only determined
+ * once, the first time the cache is used. When the cache is full, the least recently used images are
+ * deleted to make room.
+ */
+@Slf4j
+class ItemImageDiskCache
+{
+	// ~1.5kb per image
+	private static final int MAX_FILES = 16384;
+	private static final int EVICT_FILES = MAX_FILES / 4;
+	private static final String PNG = ".png";
+
+	private final File root;
+	private final Supplier<String> versionSupplier;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private boolean initialized;
+	@Nullable
+	private File dir;
+	private int files;
+
+	/**
+	 * @param root the directory to store the images in
+	 * @param versionSupplier supplies the version of the game cache data, or null if it is not known,
+	 *                        in which case nothing is cached
+	 */
+	ItemImageDiskCache(File root, Supplier<String> versionSupplier)
+	{
+		this.root = root;
+		this.versionSupplier = versionSupplier;
+	}
+
+	/**
+	 * Read an item image into the given image
+	 *
+	 * @return true if the image was cached
+	 */
+	boolean read(int itemId, int quantity, boolean stackable, BufferedImage into)
+	{
+		final File dir = dir();
+		if (dir == null)
+		{
+			misses.incrementAndGet();
+			return false;
+		}
+
+		final File file = new File(dir, fileName(itemId, quantity, stackable));
+		if (!file.exists())
+		{
+			misses.incrementAndGet();
+			return false;
+		}
+
+		try
+		{
+			BufferedImage image = ImageIO.read(file);
+			if (image == null || image.getWidth() != into.getWidth() || image.getHeight() != into.getHeight())
+			{
+				throw new IOException("invalid image");
+			}
+
+			final int w = image.getWidth(), h = image.getHeight();
+			into.setRGB(0, 0, w, h, image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+			// the modification time is used as the access time for eviction
+			file.setLastModified(System.currentTimeMillis());
+			hits.incrementAndGet();
+			return true;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read cached item image {}", file, ex);
+			file.delete();
+			misses.incrementAndGet();
+			return false;
+		}
+	}
+
+	void write(int itemId, int quantity, boolean stackable, BufferedImage image)
+	{
+		final File dir = dir();
+		if (dir == null)
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			if (files >= MAX_FILES)
+			{
+				evict(dir);
+			}
+			++files;
+		}
+
+		final File file = new File(dir, fileName(itemId, quantity, stackable));
+		final File tmp = new File(dir, file.getName() + ".tmp");
+		try
+		{
+			ImageIO.write(image, "png", tmp);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to write cached item image {}", file, ex);
+			tmp.delete();
+		}
+	}
+
+	/**
+	 * Get the hit and miss counts of the cache. Only the hit and miss counts are populated.
+	 */
+	CacheStats stats()
+	{
+		return new CacheStats(hits.get(), misses.get(), 0, 0, 0, 0);
+	}
+
+	@Nullable
+	private synchronized File dir()
+	{
+		if (!initialized)
+		{
+			initialized = true;
+
+			String version = null;
+			try
+			{
+				version = versionSupplier.get();
+			}
+			catch (RuntimeException ex)
+			{
+				log.debug("unable to determine the item image cache version", ex);
+			}
+
+			if (version == null)
+			{
+				log.debug("game cache version is unknown, item images will not be cached on disk");
+				return null;
+			}
+
+			dir = new File(root, version);
+			dir.mkdirs();
+			deleteOtherVersions();
+
+			final String[] names = dir.list();
+			files = names != null ? names.length : 0;
+		}
+		return dir;
+	}
+
+	private void evict(File dir)
+	{
+		final File[] images = dir.listFiles((d, name) -> name.endsWith(PNG));
+		if (images == null)
+		{
+			return;
+		}
+
+		// least recently used first
+		final long[] lastModified = new long[images.length];
+		final Integer[] order = new Integer[images.length];
+		for (int i = 0; i < images.length; ++i)
+		{
+			lastModified[i] = images[i].lastModified();
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingLong(i -> lastModified[i]));
+
+		final int evict = Math.min(images.length, images.length - MAX_FILES + EVICT_FILES);
+		for (int i = 0; i < evict; ++i)
+		{
+			images[order[i]].delete();
+		}
+		files = images.length - evict;
+		log.debug("Evicted {} cached item images", evict);
+	}
+
+	private void deleteOtherVersions()
+	{
+		final File[] dirs = root.listFiles();
+		if (dirs == null)
+		{
+			return;
+		}
+
+		for (File other : dirs)
+		{
+			if (other.equals(dir))
+			{
+				continue;
+			}
+
+			try (Stream<Path> paths = Files.walk(other.toPath()))
+			{
+				paths.sorted(Comparator.reverseOrder())
+					.map(Path::toFile)
+					.forEach(File::delete);
+			}
+			catch (IOException ex)
+			{
+				log.debug("unable to delete item image cache {}", other, ex);
+			}
+		}
+	}
+
+	/**
+	 * Compute a version of the game cache data item images are rendered from, which are the item
+	 * definitions, and the models, textures, sprites and fonts.
+	 *
+	 * @param jagexCache the game cache directory
+	 * @return the version, or null if the game cache could not be read
+	 */
+	@Nullable
+	static String cacheVersion(File jagexCache)
+	{
+		// read only, since the game may be updating the cache
+		try (DiskStorage storage = new DiskStorage(jagexCache, true))
+		{
+			final Hasher hasher = Hashing.sha256().newHasher();
+
+			// only the item archive of the config index, since the other configs change much more often
+			final IndexData configs = new IndexData();
+			configs.load(Container.decompress(readIndex(storage, IndexType.CONFIGS), null).data);
+			final ArchiveData items = Arrays.stream(configs.getArchives())
+				.filter(a -> a.getId() == ConfigType.ITEM.getId())
+				.findAny()
+				.orElseThrow(() -> new IOException("no item archive"));
+			hasher.putInt(items.getCrc());
+
+			// the reference tables hold the crc and revision of every archive in the index
+			for (IndexType type : new IndexType[]{IndexType.MODELS, IndexType.TEXTURES, IndexType.SPRITES, IndexType.FONTS})
+			{
+				hasher.putBytes(readIndex(storage, type));
+			}
+			return hasher.hash().toString().substring(0, 16);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read game cache {}", jagexCache, ex);
+			return null;
+		}
+	}
+
+	private static byte[] readIndex(DiskStorage storage, IndexType type) throws IOException
+	{
+		final byte[] data = storage.readIndex(type.getNumber());
+		if (data == null)
+		{
+			throw new IOException("missing index " + type);
+		}
+		return data;
+	}
+
+	private static String fileName(int itemId, int quantity, boolean stackable)
+	{
+		return itemId + "-" + quantity + (stackable ? "-s" : "") + PNG;
+	}
+}
@@ -26,21 +26,27 @@ package net.runelite.client.game;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -57,6 +63,7 @@ import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.ItemQuantityMode;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
@@ -100,12 +107,25 @@ public class ItemManager
 	@SuppressWarnings("PMD.ImmutableField")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private static final File PRICES_FILE = new File(RuneLite.CACHE_DIR, "prices.bin");
+	private static final File ITEM_IMAGES_DIR = new File(RuneLite.CACHE_DIR, "item-images");
+	private static final File JAGEX_CACHE_DIR = new File(new File(new File(RuneLite.RUNELITE_DIR, "jagexcache"), "oldschool"), "LIVE");
+	private static final int ITEM_IMAGES_DISK_QUEUE_SIZE = 512;
+	// in bytes of pixels, ~3600 item images
+	private static final long MAX_IMAGE_CACHE_WEIGHT = 16L << 20;
+
+	private ItemPriceTable itemPrices = ItemPriceTable.EMPTY;
+	private ItemSearchIndex itemSearchIndex = ItemSearchIndex.EMPTY;
 	private Instant itemPricesTime; // last attempted fetch time
 
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
+	private final ItemImageDiskCache itemImagesDisk;
+	// the disk tier has its own thread, so reading and encoding images doesn't hold up the shared executor
+	private final ExecutorService itemImagesDiskExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+		new LinkedBlockingQueue<>(ITEM_IMAGES_DISK_QUEUE_SIZE),
+		new ThreadFactoryBuilder().setNameFormat("item-image-cache").setDaemon(true).build());
 
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
@@ -212,15 +232,25 @@ public class ItemManager
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
 		this.executor = scheduledExecutorService;
+		// the images also depend on how the client renders them
+		this.itemImagesDisk = new ItemImageDiskCache(ITEM_IMAGES_DIR, () ->
+		{
+			String version = ItemImageDiskCache.cacheVersion(JAGEX_CACHE_DIR);
+			return version != null ? client.getRevision() + "-" + version : null;
+		});
 
 		eventBus.register(this);
 
+		// the last fetched prices are used until the refresh completes
+		loadCachedPrices();
 		scheduledExecutorService.scheduleWithFixedDelay(this::refreshPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(MAX_IMAGE_CACHE_WEIGHT)
+			.<ImageKey, AsyncBufferedImage>weigher((k, img) -> imageWeight(img))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
@@ -231,8 +261,10 @@ public class ItemManager
 			});
 
 		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(MAX_IMAGE_CACHE_WEIGHT)
+			.<OutlineKey, BufferedImage>weigher((k, img) -> imageWeight(img))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
@@ -266,19 +298,47 @@ public class ItemManager
 		}
 	}
 
+	private void loadCachedPrices()
+	{
+		if (!PRICES_FILE.exists())
+		{
+			return;
+		}
+
+		try
+		{
+			setPrices(ItemPriceTable.read(PRICES_FILE));
+			log.debug("Loaded {} cached prices", itemPrices.size());
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.debug("unable to read cached prices from {}", PRICES_FILE, e);
+		}
+	}
+
 	private void loadPrices()
 	{
 		try
 		{
-			ItemPrice[] prices = itemClient.getPrices();
+			ItemPriceTable prices = itemClient.getPrices(itemPrices);
+			if (prices == itemPrices)
+			{
+				log.debug("Prices are unchanged");
+				return;
+			}
+
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
+				setPrices(prices);
+
+				try
+				{
+					prices.write(PRICES_FILE);
+				}
+				catch (IOException e)
 				{
-					map.put(price.getId(), price);
+					log.warn("unable to write cached prices to {}", PRICES_FILE, e);
 				}
-				itemPrices = map.build();
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -289,6 +349,12 @@ public class ItemManager
 		}
 	}
 
+	private void setPrices(ItemPriceTable prices)
+	{
+		itemSearchIndex = new ItemSearchIndex(prices.getItems());
+		itemPrices = prices;
+	}
+
 	private void loadStats()
 	{
 		try
@@ -349,12 +415,9 @@ public class ItemManager
 
 		if (mappedItems == null)
 		{
-			final ItemPrice ip = itemPrices.get(itemID);
-
-			if (ip != null)
-			{
-				price = useWikiPrice ? getWikiPrice(ip) : ip.getPrice();
-			}
+			final ItemPriceTable prices = itemPrices;
+			final int jagPrice = prices.getPrice(itemID);
+			price = useWikiPrice ? getWikiPrice(jagPrice, prices.getWikiPrice(itemID)) : jagPrice;
 		}
 		else
 		{
@@ -374,8 +437,11 @@ public class ItemManager
 	 */
 	public int getWikiPrice(ItemPrice itemPrice)
 	{
-		final int wikiPrice = itemPrice.getWikiPrice();
-		final int jagPrice = itemPrice.getPrice();
+		return getWikiPrice(itemPrice.getPrice(), itemPrice.getWikiPrice());
+	}
+
+	private int getWikiPrice(int jagPrice, int wikiPrice)
+	{
 		if (wikiPrice <= 0)
 		{
 			return jagPrice;
@@ -428,25 +494,16 @@ public class ItemManager
 	}
 
 	/**
-	 * Search for tradeable items based on item name
+	 * Search for tradeable items based on item name. Results are ordered with exact matches first,
+	 * followed by names starting with the search, then names containing a word starting with it,
+	 * then any other names containing it.
 	 *
 	 * @param itemName item name
 	 * @return
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return itemSearchIndex.search(itemName);
 	}
 
 	/**
@@ -490,6 +547,38 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		// render it now on the client thread so that the image is loaded when returned. Before the login
+		// screen the game cache may still be updating, so the disk tier can't tell which version it has.
+		if (client.isClientThread() || client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			renderImage(img, itemId, quantity, stackable);
+			return img;
+		}
+
+		try
+		{
+			itemImagesDiskExecutor.execute(() ->
+			{
+				if (itemImagesDisk.read(itemId, quantity, stackable, img))
+				{
+					// listeners expect to be notified on the client thread
+					clientThread.invokeLater(img::loaded);
+				}
+				else
+				{
+					renderImage(img, itemId, quantity, stackable);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex)
+		{
+			renderImage(img, itemId, quantity, stackable);
+		}
+		return img;
+	}
+
+	private void renderImage(AsyncBufferedImage img, int itemId, int quantity, boolean stackable)
+	{
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
@@ -504,9 +593,47 @@ public class ItemManager
 			}
 			sprite.toBufferedImage(img);
 			img.loaded();
+
+			try
+			{
+				itemImagesDiskExecutor.execute(() -> itemImagesDisk.write(itemId, quantity, stackable, img));
+			}
+			catch (RejectedExecutionException ex)
+			{
+				// the disk tier is backed up, the image will be rendered again next session
+			}
 			return true;
 		});
-		return img;
+	}
+
+	private static int imageWeight(BufferedImage img)
+	{
+		return img.getWidth() * img.getHeight() * 4;
+	}
+
+	/**
+	 * Get the hit and miss statistics of the in-memory item image cache
+	 */
+	public CacheStats getImageCacheStats()
+	{
+		return itemImages.stats();
+	}
+
+	/**
+	 * Get the hit and miss statistics of the on-disk item image cache, which is checked
+	 * when an image is not in memory. Only the hit and miss counts are populated.
+	 */
+	public CacheStats getImageDiskCacheStats()
+	{
+		return itemImagesDisk.stats();
+	}
+
+	/**
+	 * Get the hit and miss statistics of the item outline cache
+	 */
+	public CacheStats getOutlineCacheStats()
+	{
+		return itemOutlines.stats();
 	}
 
 	/**
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable snapshot of the item prices, with the prices indexed by item id.
+ */
+class ItemPriceTable
+{
+	static final ItemPriceTable EMPTY = new ItemPriceTable(new ItemPrice[0], null, null);
+
+	private static final int MAGIC = 0x49505431; // IPT1
+	private static final int VERSION = 1;
+	// item ids are unsigned shorts
+	private static final int MAX_ITEM_ID = 0xFFFF;
+
+	@Getter
+	private final List<ItemPrice> items;
+	private final int[] prices;
+	private final int[] wikiPrices;
+
+	/**
+	 * The ETag of the response the prices were from
+	 */
+	@Getter
+	@Nullable
+	private final String etag;
+
+	/**
+	 * The Last-Modified time of the response the prices were from
+	 */
+	@Getter
+	@Nullable
+	private final String lastModified;
+
+	ItemPriceTable(ItemPrice[] items, @Nullable String etag, @Nullable String lastModified)
+	{
+		this.items = Collections.unmodifiableList(Arrays.asList(items));
+		this.etag = etag;
+		this.lastModified = lastModified;
+
+		int maxId = -1;
+		for (ItemPrice item : items)
+		{
+			maxId = Math.max(maxId, item.getId());
+		}
+
+		prices = new int[maxId + 1];
+		wikiPrices = new int[maxId + 1];
+		for (ItemPrice item : items)
+		{
+			if (item.getId() >= 0)
+			{
+				prices[item.getId()] = item.getPrice();
+				wikiPrices[item.getId()] = item.getWikiPrice();
+			}
+		}
+	}
+
+	/**
+	 * @return the price of the item, or 0 if it has no price
+	 */
+	int getPrice(int itemId)
+	{
+		return itemId >= 0 && itemId < prices.length ? prices[itemId] : 0;
+	}
+
+	/**
+	 * @return the wiki price of the item, or 0 if it has no price
+	 */
+	int getWikiPrice(int itemId)
+	{
+		return itemId >= 0 && itemId < wikiPrices.length ? wikiPrices[itemId] : 0;
+	}
+
+	int size()
+	{
+		return items.size();
+	}
+
+	static ItemPriceTable read(File file) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				throw new IOException("item price table header mismatch");
+			}
+
+			final String etag = in.readBoolean() ? in.readUTF() : null;
+			final String lastModified = in.readBoolean() ? in.readUTF() : null;
+
+			final int count = in.readInt();
+			if (count < 0 || count > MAX_ITEM_ID + 1)
+			{
+				throw new IOException("item price table has invalid size " + count);
+			}
+
+			final ItemPrice[] items = new ItemPrice[count];
+			for (int i = 0; i < items.length; ++i)
+			{
+				ItemPrice item = new ItemPrice();
+				int id = in.readInt();
+				if (id < 0 || id > MAX_ITEM_ID)
+				{
+					throw new IOException("item price table has invalid item id " + id);
+				}
+				item.setId(id);
+				item.setName(in.readUTF());
+				item.setPrice(in.readInt());
+				item.setWikiPrice(in.readInt());
+				items[i] = item;
+			}
+			return new ItemPriceTable(items, etag, lastModified);
+		}
+	}
+
+	void write(File file) throws IOException
+	{
+		file.getParentFile().mkdirs();
+
+		final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			writeNullableUTF(out, etag);
+			writeNullableUTF(out, lastModified);
+
+			out.writeInt(items.size());
+			for (ItemPrice item : items)
+			{
+				out.writeInt(item.getId());
+				out.writeUTF(item.getName());
+				out.writeInt(item.getPrice());
+				out.writeInt(item.getWikiPrice());
+			}
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void writeNullableUTF(DataOutputStream out, @Nullable String s) throws IOException
+	{
+		out.writeBoolean(s != null);
+		if (s != null)
+		{
+			out.writeUTF(s);
+		}
+	}
+}
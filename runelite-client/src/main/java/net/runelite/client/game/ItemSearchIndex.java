@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable index of item names for substring searches.
+ * <p>
+ * Names are indexed by their trigrams. A query is answered by intersecting the postings of its trigrams and
+ * then verifying the candidates, so only items sharing every trigram with the query are compared.
+ */
+class ItemSearchIndex
+{
+	static final ItemSearchIndex EMPTY = new ItemSearchIndex(List.of());
+
+	private static final int EXACT = 0;
+	private static final int PREFIX = 1;
+	private static final int WORD_PREFIX = 2;
+	private static final int SUBSTRING = 3;
+
+	private final ItemPrice[] items;
+	private final String[] names;
+	// trigram -> ascending indexes of the items whose name contains it
+	private final Map<String, int[]> postings;
+
+	ItemSearchIndex(Collection<ItemPrice> prices)
+	{
+		items = prices.toArray(new ItemPrice[0]);
+		names = new String[items.length];
+
+		Map<String, List<Integer>> lists = new HashMap<>();
+		for (int i = 0; i < items.length; ++i)
+		{
+			String name = items[i].getName().toLowerCase();
+			names[i] = name;
+
+			for (int j = 0; j + 3 <= name.length(); ++j)
+			{
+				List<Integer> list = lists.computeIfAbsent(name.substring(j, j + 3), k -> new ArrayList<>());
+				// a name can contain the same trigram more than once
+				if (list.isEmpty() || list.get(list.size() - 1) != i)
+				{
+					list.add(i);
+				}
+			}
+		}
+
+		postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+		for (Map.Entry<String, List<Integer>> entry : lists.entrySet())
+		{
+			postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	/**
+	 * Finds the items whose name contains the query, ignoring case.
+	 * <p>
+	 * Results are ordered by how well the name matches: exact matches first, then names starting
+	 * with the query, then names with a word starting with the query, then any other match.
+	 * Equally ranked results are in index order.
+	 */
+	List<ItemPrice> search(String query)
+	{
+		query = query.toLowerCase();
+
+		int[] candidates = candidates(query);
+		if (candidates != null && candidates.length == 0)
+		{
+			return new ArrayList<>();
+		}
+
+		// rank in the high bits, index in the low bits, so sorting orders by rank then index
+		long[] matches = new long[candidates != null ? candidates.length : items.length];
+		int count = 0;
+		for (int i = 0; i < matches.length; ++i)
+		{
+			int idx = candidates != null ? candidates[i] : i;
+			int rank = rank(names[idx], query);
+			if (rank != -1)
+			{
+				matches[count++] = (long) rank << 32 | idx;
+			}
+		}
+
+		Arrays.sort(matches, 0, count);
+		List<ItemPrice> result = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			result.add(items[(int) matches[i]]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the indexes of the items whose name contains every trigram in the query,
+	 * or null if the query is too short to have any
+	 */
+	private int[] candidates(String query)
+	{
+		if (query.length() < 3)
+		{
+			return null;
+		}
+
+		int[][] lists = new int[query.length() - 2][];
+		for (int i = 0; i < lists.length; ++i)
+		{
+			int[] list = postings.get(query.substring(i, i + 3));
+			if (list == null)
+			{
+				return new int[0];
+			}
+			lists[i] = list;
+		}
+
+		// intersect starting from the smallest list, so the result only shrinks
+		Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+		int[] result = lists[0];
+		for (int i = 1; i < lists.length && result.length > 0; ++i)
+		{
+			result = intersect(result, lists[i]);
+		}
+		return result;
+	}
+
+	private static int[] intersect(int[] a, int[] b)
+	{
+		int[] result = new int[a.length];
+		int n = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length; )
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				result[n++] = a[i];
+				++i;
+				++j;
+			}
+		}
+		return n == result.length ? result : Arrays.copyOf(result, n);
+	}
+
+	private static int rank(String name, String query)
+	{
+		int idx = name.indexOf(query);
+		if (idx == -1)
+		{
+			return -1;
+		}
+		if (idx == 0)
+		{
+			return name.length() == query.length() ? EXACT : PREFIX;
+		}
+
+		for (; idx != -1; idx = name.indexOf(query, idx + 1))
+		{
+			if (!Character.isLetterOrDigit(name.charAt(idx - 1)))
+			{
+				return WORD_PREFIX;
+			}
+		}
+		return SUBSTRING;
+	}
+}
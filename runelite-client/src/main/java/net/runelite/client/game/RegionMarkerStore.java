@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.util.RunnableExceptionLogger;
+
+/**
+ * A cache of markers which are stored in the config as a json list per map region, such as
+ * ground markers and object indicators.
+ * <p>
+ * Each region is decoded from the config once and then kept sorted by tile, so the markers
+ * on a tile can be found with a binary search instead of decoding and scanning the region.
+ * Changes apply to the cache immediately and are written back to the config in batches on
+ * the executor. {@link #flush()} writes pending changes immediately, and should be called
+ * when the config is synced and when the owning plugin shuts down. Markers may be serialized
+ * on the executor at any time, so they must not be modified in place once added; use
+ * {@link #replace(int, Object, Object)} instead.
+ * <p>
+ * The owning plugin should forward its {@link ConfigChanged} events to
+ * {@link #configChanged(ConfigChanged)}, so regions written by something else, such as
+ * another client through config sync, are decoded again.
+ *
+ * @param <T> the type of marker
+ */
+@Slf4j
+public class RegionMarkerStore<T>
+{
+	private static final String REGION_PREFIX = "region_";
+	private static final long WRITE_DELAY_MS = 1000;
+
+	/**
+	 * The markers of a region, sorted by their packed tile. Regions are replaced rather than
+	 * modified, so views of them stay valid after the lock is released.
+	 */
+	private static class Region
+	{
+		private final int[] tiles;
+		private final Object[] markers;
+
+		private Region(int[] tiles, Object[] markers)
+		{
+			this.tiles = tiles;
+			this.markers = markers;
+		}
+	}
+
+	private static final Region EMPTY = new Region(new int[0], new Object[0]);
+
+	private final ConfigManager configManager;
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+	private final String group;
+	private final Type listType;
+	private final ToIntFunction<T> tile;
+	@Nullable
+	private final Predicate<T> filter;
+
+	private final Map<Integer, Region> regions = new HashMap<>();
+	private final Set<Integer> dirty = new TreeSet<>();
+	private ScheduledFuture<?> pendingWrite;
+	// serializes writes to the config so that an older snapshot of a region can't overwrite a newer one
+	private final Object writeLock = new Object();
+	// the thread writing to the config, so the config changes it causes aren't mistaken for external ones
+	private volatile Thread writer;
+
+	/**
+	 * @param configManager the config manager the markers are stored in
+	 * @param gson the gson used to encode and decode the markers
+	 * @param executor the executor to write changes back to the config on
+	 * @param group the config group of the markers
+	 * @param type the type of marker
+	 * @param tile returns the packed tile of a marker, see {@link #packTile(int, int, int)}
+	 * @param filter if not null, markers which do not match are dropped when a region is loaded
+	 */
+	public RegionMarkerStore(ConfigManager configManager, Gson gson, ScheduledExecutorService executor,
+		String group, Class<T> type, ToIntFunction<T> tile, @Nullable Predicate<T> filter)
+	{
+		this.configManager = configManager;
+		this.gson = gson;
+		this.executor = executor;
+		this.group = group;
+		this.listType = TypeToken.getParameterized(List.class, type).getType();
+		this.tile = tile;
+		this.filter = filter;
+	}
+
+	/**
+	 * Packs a tile within a region into an int, ordered by plane, then x, then y.
+	 *
+	 * @param regionX the x coordinate within the region, 0-63
+	 * @param regionY the y coordinate within the region, 0-63
+	 * @param plane the plane
+	 * @return the packed tile
+	 */
+	public static int packTile(int regionX, int regionY, int plane)
+	{
+		return plane << 12 | (regionX & 63) << 6 | (regionY & 63);
+	}
+
+	/**
+	 * Gets all markers in a region.
+	 *
+	 * @return an unmodifiable view of the markers
+	 */
+	public synchronized List<T> getMarkers(int regionId)
+	{
+		Region region = region(regionId);
+		return view(region.markers, 0, region.markers.length);
+	}
+
+	/**
+	 * Gets the markers on a tile.
+	 *
+	 * @return an unmodifiable view of the markers
+	 */
+	public synchronized List<T> getMarkers(int regionId, int regionX, int regionY, int plane)
+	{
+		Region region = region(regionId);
+		int packed = packTile(regionX, regionY, plane);
+		int start = lowerBound(region.tiles, packed);
+		int end = start;
+		while (end < region.tiles.length && region.tiles[end] == packed)
+		{
+			++end;
+		}
+		return view(region.markers, start, end);
+	}
+
+	/**
+	 * Gets the number of markers in a region.
+	 */
+	public synchronized int size(int regionId)
+	{
+		return region(regionId).markers.length;
+	}
+
+	/**
+	 * Replaces all markers in a region.
+	 */
+	public synchronized void setMarkers(int regionId, @Nullable Collection<T> markers)
+	{
+		regions.put(regionId, markers == null || markers.isEmpty() ? EMPTY : build(new ArrayList<>(markers)));
+		markDirty(regionId);
+	}
+
+	/**
+	 * Adds a marker to a region.
+	 */
+	public synchronized void add(int regionId, T marker)
+	{
+		Region region = region(regionId);
+		int packed = tile.applyAsInt(marker);
+		// insert after any markers already on the tile, to keep the order markers were added in
+		int pos = lowerBound(region.tiles, packed + 1);
+
+		int length = region.tiles.length;
+		int[] tiles = new int[length + 1];
+		Object[] markers = new Object[length + 1];
+		System.arraycopy(region.tiles, 0, tiles, 0, pos);
+		System.arraycopy(region.markers, 0, markers, 0, pos);
+		tiles[pos] = packed;
+		markers[pos] = marker;
+		System.arraycopy(region.tiles, pos, tiles, pos + 1, length - pos);
+		System.arraycopy(region.markers, pos, markers, pos + 1, length - pos);
+
+		regions.put(regionId, new Region(tiles, markers));
+		markDirty(regionId);
+	}
+
+	/**
+	 * Removes the markers in a region which match a predicate.
+	 *
+	 * @return true if any markers were removed
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized boolean removeIf(int regionId, Predicate<? super T> predicate)
+	{
+		Region region = region(regionId);
+		int length = region.markers.length;
+		int[] tiles = new int[length];
+		Object[] markers = new Object[length];
+		int count = 0;
+		for (int i = 0; i < length; i++)
+		{
+			if (!predicate.test((T) region.markers[i]))
+			{
+				tiles[count] = region.tiles[i];
+				markers[count++] = region.markers[i];
+			}
+		}
+
+		if (count == length)
+		{
+			return false;
+		}
+
+		regions.put(regionId, count == 0 ? EMPTY : new Region(Arrays.copyOf(tiles, count), Arrays.copyOf(markers, count)));
+		markDirty(regionId);
+		return true;
+	}
+
+	/**
+	 * Replaces a marker in a region with a modified copy of it. The copy must be on the same tile.
+	 *
+	 * @return true if the marker was found and replaced
+	 */
+	public synchronized boolean replace(int regionId, T marker, T replacement)
+	{
+		Region region = region(regionId);
+		for (int i = 0; i < region.markers.length; i++)
+		{
+			if (region.markers[i] == marker)
+			{
+				Preconditions.checkArgument(tile.applyAsInt(replacement) == region.tiles[i], "replacement is on a different tile");
+
+				Object[] markers = region.markers.clone();
+				markers[i] = replacement;
+				regions.put(regionId, new Region(region.tiles, markers));
+				markDirty(regionId);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes all pending changes to the config.
+	 */
+	public void flush()
+	{
+		synchronized (writeLock)
+		{
+			Map<Integer, String> writes = new LinkedHashMap<>();
+			synchronized (this)
+			{
+				if (pendingWrite != null)
+				{
+					pendingWrite.cancel(false);
+					pendingWrite = null;
+				}
+
+				for (int regionId : dirty)
+				{
+					Region region = regions.get(regionId);
+					writes.put(regionId, region == null || region.markers.length == 0 ? null
+						: gson.toJson(view(region.markers, 0, region.markers.length), listType));
+				}
+				dirty.clear();
+			}
+
+			writer = Thread.currentThread();
+			try
+			{
+				for (Map.Entry<Integer, String> entry : writes.entrySet())
+				{
+					if (entry.getValue() == null)
+					{
+						configManager.unsetConfiguration(group, REGION_PREFIX + entry.getKey());
+					}
+					else
+					{
+						configManager.setConfiguration(group, REGION_PREFIX + entry.getKey(), entry.getValue());
+					}
+				}
+			}
+			finally
+			{
+				writer = null;
+			}
+
+			if (!writes.isEmpty())
+			{
+				log.debug("Wrote {} regions of {}", writes.size(), group);
+			}
+		}
+	}
+
+	/**
+	 * Writes pending changes and then drops all decoded regions, so they are decoded from
+	 * the config again on next use. This should be called when the config profile changes.
+	 */
+	public void invalidate()
+	{
+		flush();
+		synchronized (this)
+		{
+			regions.clear();
+		}
+	}
+
+	/**
+	 * Drops a region, along with any of its pending changes, when its config key is changed
+	 * by something other than this store.
+	 *
+	 * @return true if a region of this store was changed externally
+	 */
+	public boolean configChanged(ConfigChanged event)
+	{
+		if (!group.equals(event.getGroup()) || event.getProfile() != null
+			|| !event.getKey().startsWith(REGION_PREFIX) || writer == Thread.currentThread())
+		{
+			return false;
+		}
+
+		int regionId;
+		try
+		{
+			regionId = Integer.parseInt(event.getKey().substring(REGION_PREFIX.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			return false;
+		}
+
+		synchronized (this)
+		{
+			regions.remove(regionId);
+			dirty.remove(regionId);
+		}
+		return true;
+	}
+
+	private void markDirty(int regionId)
+	{
+		dirty.add(regionId);
+		if (pendingWrite == null)
+		{
+			pendingWrite = executor.schedule(RunnableExceptionLogger.wrap(this::flush), WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private Region region(int regionId)
+	{
+		Region region = regions.get(regionId);
+		if (region == null)
+		{
+			region = load(regionId);
+			regions.put(regionId, region);
+		}
+		return region;
+	}
+
+	private Region load(int regionId)
+	{
+		String json = configManager.getConfiguration(group, REGION_PREFIX + regionId);
+		if (Strings.isNullOrEmpty(json))
+		{
+			return EMPTY;
+		}
+
+		List<T> markers;
+		try
+		{
+			markers = gson.fromJson(json, listType);
+		}
+		catch (JsonParseException ex)
+		{
+			log.warn("Unable to parse markers for region {} of {}", regionId, group, ex);
+			return EMPTY;
+		}
+
+		if (markers == null)
+		{
+			return EMPTY;
+		}
+
+		if (filter != null)
+		{
+			markers.removeIf(filter.negate());
+		}
+		return markers.isEmpty() ? EMPTY : build(markers);
+	}
+
+	private Region build(List<T> markers)
+	{
+		// stable, so markers on the same tile keep their order
+		markers.sort(Comparator.comparingInt(tile));
+
+		int[] tiles = new int[markers.size()];
+		for (int i = 0; i < tiles.length; i++)
+		{
+			tiles[i] = tile.applyAsInt(markers.get(i));
+		}
+		return new Region(tiles, markers.toArray());
+	}
+
+	private static int lowerBound(int[] tiles, int packed)
+	{
+		int lo = 0, hi = tiles.length;
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (tiles[mid] < packed)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private static <T> List<T> view(Object[] markers, int start, int end)
+	{
+		if (start == end)
+		{
+			return Collections.emptyList();
+		}
+
+		return new AbstractList<T>()
+		{
+			@Override
+			@SuppressWarnings("unchecked")
+			public T get(int index)
+			{
+				if (index < 0 || index >= end - start)
+				{
+					throw new IndexOutOfBoundsException();
+				}
+				return (T) markers[start + index];
+			}
+
+			@Override
+			public int size()
+			{
+				return end - start;
+			}
+		};
+	}
+}
@@ -31,8 +31,12 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import lombok.Value;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.NPCComposition;
@@ -49,9 +53,19 @@ import net.runelite.client.util.Text;
 
 class NpcOverlay extends Overlay
 {
+	@Value
+	private static class OutlineStyle
+	{
+		int width;
+		Color color;
+		int feather;
+	}
+
 	private final Client client;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final Map<NPC, HighlightedNpc> highlightedNpcs;
+	// NPCs to outline this frame, grouped by style so that each group is outlined in a single pass
+	private final Map<OutlineStyle, List<NPC>> outlines = new HashMap<>();
 
 	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, Map<NPC, HighlightedNpc> highlightedNpcs)
 	{
@@ -75,6 +89,13 @@ class NpcOverlay extends Overlay
 			renderNpcOverlay(graphics, highlightedNpc);
 		}
 
+		for (Map.Entry<OutlineStyle, List<NPC>> entry : outlines.entrySet())
+		{
+			OutlineStyle style = entry.getKey();
+			modelOutlineRenderer.drawOutlines(entry.getValue(), style.getWidth(), style.getColor(), style.getFeather());
+		}
+		outlines.clear();
+
 		return null;
 	}
 
@@ -146,7 +167,8 @@ class NpcOverlay extends Overlay
 
 		if (highlightedNpc.isOutline())
 		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
+			OutlineStyle style = new OutlineStyle((int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
+			outlines.computeIfAbsent(style, k -> new ArrayList<>()).add(actor);
 		}
 
 		if (highlightedNpc.isName() && actor.getName() != null)
@@ -24,17 +24,47 @@
  */
 package net.runelite.client.hiscore;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 
+/**
+ * Looks up hiscores with caching. Concurrent lookups of the same player and endpoint share a single request,
+ * requests are rate limited, and results are persisted to disk so that they survive restarts.
+ */
+@Slf4j
 @Singleton
 public class HiscoreManager
 {
@@ -46,20 +76,79 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
-	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
+	@AllArgsConstructor
+	private static class CachedResult
+	{
+		private final long time;
+		// null if the player is not on the hiscores
+		@Nullable
+		private final HiscoreResult result;
+	}
+
+	@AllArgsConstructor
+	private static class FailedLookup
+	{
+		private final long time;
+		// the failed future, which is shared by lookups until the failure expires
+		private final CompletableFuture<HiscoreResult> future;
+	}
+
+	@AllArgsConstructor
+	private static class PersistedResult
+	{
+		private String username;
+		private HiscoreEndpoint endpoint;
+		private long time;
+		@Nullable
+		private HiscoreResult result;
+	}
+
+	private static final File CACHE_FILE = new File(RuneLite.CACHE_DIR, "hiscores.json.gz");
+	private static final int MAX_CACHED = 128;
+	private static final long EXPIRY_MS = TimeUnit.HOURS.toMillis(1);
+	// how long to wait before retrying a failed lookup
+	private static final long ERROR_EXPIRY_MS = TimeUnit.MINUTES.toMillis(1);
+	private static final long SAVE_DELAY_MS = TimeUnit.SECONDS.toMillis(10);
+	private static final long LOOKUP_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
 	private final HiscoreClient hiscoreClient;
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+	private final File cacheFile;
+	private final long minRequestIntervalMs;
+	private final long lookupTimeoutMs;
+
+	private final Map<HiscoreKey, CachedResult> cache = new LinkedHashMap<HiscoreKey, CachedResult>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<HiscoreKey, CachedResult> eldest)
+		{
+			return size() > MAX_CACHED;
+		}
+	};
+	private final Map<HiscoreKey, FailedLookup> failures = new HashMap<>();
+	private final Map<HiscoreKey, CompletableFuture<HiscoreResult>> inFlight = new ConcurrentHashMap<>();
+	private long nextRequest;
+	private boolean saveScheduled;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, Gson gson)
+	{
+		this(executor, hiscoreClient, gson, CACHE_FILE, 250, LOOKUP_TIMEOUT_MS);
+	}
+
+	@VisibleForTesting
+	HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, Gson gson, File cacheFile,
+		long minRequestIntervalMs, long lookupTimeoutMs)
 	{
 		this.hiscoreClient = hiscoreClient;
-		hiscoreCache = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+		this.gson = gson;
+		this.executor = executor;
+		this.cacheFile = cacheFile;
+		this.minRequestIntervalMs = minRequestIntervalMs;
+		this.lookupTimeoutMs = lookupTimeoutMs;
+
+		executor.execute(this::loadCache);
 	}
 
 	/**
@@ -72,22 +161,23 @@ public class HiscoreManager
 	 */
 	public HiscoreResult lookup(String username, HiscoreEndpoint endpoint) throws IOException
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		try
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			return fetch(username, endpoint).get();
 		}
-
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
-		if (hiscoreResult == null)
+		catch (InterruptedException ex)
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted looking up hiscore");
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
 		}
-
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
 	}
 
 	/**
@@ -95,18 +185,220 @@ public class HiscoreManager
 	 *
 	 * @param username Players username
 	 * @param endpoint Hiscore endpoint
-	 * @return HiscoreResult or null
+	 * @return HiscoreResult, or null if the player is not on the hiscores or the lookup has not completed yet
 	 */
 	public HiscoreResult lookupAsync(String username, HiscoreEndpoint endpoint)
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		CompletableFuture<HiscoreResult> future = fetch(username, endpoint);
+		return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+	}
+
+	/**
+	 * Look up a players hiscore from a specified endpoint, using the cached result if there is one
+	 *
+	 * @param username Players username
+	 * @param endpoint Hiscore endpoint
+	 * @return a future completed with the HiscoreResult, or null if the player is not on the hiscores
+	 */
+	public CompletableFuture<HiscoreResult> fetch(String username, HiscoreEndpoint endpoint)
+	{
+		HiscoreKey key = new HiscoreKey(username, endpoint);
+		long now = System.currentTimeMillis();
+		synchronized (this)
+		{
+			CachedResult cached = cache.get(key);
+			if (cached != null && now - cached.time < EXPIRY_MS)
+			{
+				return CompletableFuture.completedFuture(cached.result);
+			}
+
+			FailedLookup failed = failures.get(key);
+			if (failed != null && now - failed.time < ERROR_EXPIRY_MS)
+			{
+				return failed.future;
+			}
+		}
+
+		return request(key);
+	}
+
+	/**
+	 * Look up a players hiscore from a specified endpoint, ignoring any cached result
+	 *
+	 * @param username Players username
+	 * @param endpoint Hiscore endpoint
+	 * @return a future completed with the HiscoreResult, or null if the player is not on the hiscores
+	 */
+	public CompletableFuture<HiscoreResult> refresh(String username, HiscoreEndpoint endpoint)
+	{
+		return request(new HiscoreKey(username, endpoint));
+	}
+
+	private CompletableFuture<HiscoreResult> request(HiscoreKey key)
+	{
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		CompletableFuture<HiscoreResult> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		long delay = reserveRequest();
+		log.debug("Submitting hiscore lookup for {} type {} in {}ms", key.getUsername(), key.getType(), delay);
+
+		CompletableFuture.runAsync(() ->
+		{
+			try
+			{
+				hiscoreClient.lookupAsync(key.getUsername(), key.getType())
+					.whenComplete((result, ex) -> complete(key, future, result, ex));
+			}
+			catch (RuntimeException ex)
+			{
+				complete(key, future, null, ex);
+			}
+		}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+
+		// time out lookups which the client never completes, so they aren't left in flight
+		CompletableFuture.delayedExecutor(delay + lookupTimeoutMs, TimeUnit.MILLISECONDS)
+			.execute(() -> complete(key, future, null, new TimeoutException("hiscore lookup timed out")));
+		return future;
+	}
+
+	private void complete(HiscoreKey key, CompletableFuture<HiscoreResult> future, HiscoreResult result, Throwable ex)
+	{
+		synchronized (this)
+		{
+			// the lookup may have already timed out, or completed before timing out
+			if (inFlight.get(key) != future)
+			{
+				return;
+			}
+
+			if (ex == null)
+			{
+				cache.put(key, new CachedResult(System.currentTimeMillis(), result));
+				failures.remove(key);
+				scheduleSave();
+			}
+			else
+			{
+				log.warn("Unable to look up hiscore!", ex);
+				failures.put(key, new FailedLookup(System.currentTimeMillis(), future));
+			}
+
+			inFlight.remove(key);
+		}
+
+		if (ex == null)
+		{
+			future.complete(result);
+		}
+		else
+		{
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Reserve the next request slot
+	 *
+	 * @return the delay until the slot, in milliseconds
+	 */
+	private synchronized long reserveRequest()
+	{
+		long now = System.currentTimeMillis();
+		long start = Math.max(now, nextRequest);
+		nextRequest = start + minRequestIntervalMs;
+		return start - now;
+	}
+
+	private void scheduleSave()
+	{
+		assert Thread.holdsLock(this);
+		if (!saveScheduled)
+		{
+			saveScheduled = true;
+			executor.schedule(this::saveCache, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void loadCache()
+	{
+		if (!cacheFile.exists())
+		{
+			return;
+		}
+
+		PersistedResult[] persisted;
+		try (Reader in = new InputStreamReader(new GZIPInputStream(new FileInputStream(cacheFile)), StandardCharsets.UTF_8))
+		{
+			persisted = gson.fromJson(in, PersistedResult[].class);
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.warn("unable to load hiscore cache", ex);
+			return;
+		}
+
+		if (persisted == null)
+		{
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		int loaded = 0;
+		synchronized (this)
+		{
+			for (PersistedResult p : persisted)
+			{
+				if (p == null || p.username == null || p.endpoint == null || now - p.time >= EXPIRY_MS)
+				{
+					continue;
+				}
+
+				// results looked up since the start take precedence
+				if (cache.putIfAbsent(new HiscoreKey(p.username, p.endpoint), new CachedResult(p.time, p.result)) == null)
+				{
+					++loaded;
+				}
+			}
+		}
+
+		log.debug("Loaded {} cached hiscores", loaded);
+	}
+
+	@VisibleForTesting
+	void saveCache()
+	{
+		List<PersistedResult> persisted = new ArrayList<>();
+		long now = System.currentTimeMillis();
+		synchronized (this)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			saveScheduled = false;
+			for (Map.Entry<HiscoreKey, CachedResult> entry : cache.entrySet())
+			{
+				CachedResult cached = entry.getValue();
+				if (now - cached.time < EXPIRY_MS)
+				{
+					persisted.add(new PersistedResult(entry.getKey().getUsername(), entry.getKey().getType(), cached.time, cached.result));
+				}
+			}
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
-		return null;
+		File tmp = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+		try
+		{
+			try (Writer out = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(tmp)), StandardCharsets.UTF_8))
+			{
+				gson.toJson(persisted, out);
+			}
+
+			Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save hiscore cache", ex);
+		}
 	}
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
+import net.runelite.client.util.Text;
+
+/**
+ * In-memory index of the item tags stored in the config. Tags for an item are parsed once
+ * on first access, and the tag to item mapping is built on first use. Both are kept up to
+ * date from {@link ConfigChanged} events rather than being rebuilt.
+ * <p>
+ * Ids are the ids used in the config keys, which are negative for variation tags.
+ */
+@Singleton
+class BankTagIndex
+{
+	private static final String[] NO_TAGS = new String[0];
+
+	private final ConfigManager configManager;
+
+	private final Map<Integer, String[]> itemTags = new HashMap<>();
+	private final Map<String, TaggedItems> tagItems = new HashMap<>();
+	private boolean tagItemsLoaded;
+
+	private static class TaggedItems
+	{
+		private final BitSet items = new BitSet();
+		private final BitSet variations = new BitSet();
+
+		void set(int id, boolean value)
+		{
+			if (id < 0)
+			{
+				variations.set(-id, value);
+			}
+			else
+			{
+				items.set(id, value);
+			}
+		}
+
+		boolean isEmpty()
+		{
+			return items.isEmpty() && variations.isEmpty();
+		}
+	}
+
+	@Inject
+	BankTagIndex(ConfigManager configManager, EventBus eventBus)
+	{
+		this.configManager = configManager;
+		eventBus.register(this);
+	}
+
+	/**
+	 * Get the tags on a config id. The returned array must not be modified.
+	 */
+	synchronized String[] getTags(int id)
+	{
+		String[] tags = itemTags.get(id);
+		if (tags == null)
+		{
+			tags = parse(configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + id));
+			itemTags.put(id, tags);
+		}
+		return tags;
+	}
+
+	synchronized boolean hasTagStartingWith(int id, String prefix)
+	{
+		for (String tag : getTags(id))
+		{
+			if (tag.startsWith(prefix))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	synchronized List<Integer> getItemsForTag(String tag)
+	{
+		loadTagItems();
+
+		final TaggedItems tagged = tagItems.get(tag);
+		if (tagged == null)
+		{
+			return new ArrayList<>();
+		}
+
+		final List<Integer> ids = new ArrayList<>(tagged.items.cardinality() + tagged.variations.cardinality());
+		for (int id = tagged.items.nextSetBit(0); id >= 0; id = tagged.items.nextSetBit(id + 1))
+		{
+			ids.add(id);
+		}
+		for (int id = tagged.variations.nextSetBit(0); id >= 0; id = tagged.variations.nextSetBit(id + 1))
+		{
+			ids.add(-id);
+		}
+		return ids;
+	}
+
+	/**
+	 * Update the tags of a config id
+	 *
+	 * @param id config id
+	 * @param value the new csv tag string, or null if the item no longer has tags
+	 */
+	synchronized void update(int id, @Nullable String value)
+	{
+		final String[] tags = parse(value);
+		final String[] oldTags = itemTags.put(id, tags);
+
+		if (!tagItemsLoaded)
+		{
+			return;
+		}
+
+		if (oldTags != null)
+		{
+			for (String tag : oldTags)
+			{
+				final TaggedItems tagged = tagItems.get(tag);
+				if (tagged != null)
+				{
+					tagged.set(id, false);
+					if (tagged.isEmpty())
+					{
+						tagItems.remove(tag);
+					}
+				}
+			}
+		}
+
+		for (String tag : tags)
+		{
+			tagItems.computeIfAbsent(tag, k -> new TaggedItems()).set(id, true);
+		}
+	}
+
+	synchronized void invalidate()
+	{
+		itemTags.clear();
+		tagItems.clear();
+		tagItemsLoaded = false;
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (!configChanged.getGroup().equals(CONFIG_GROUP) || configChanged.getProfile() != null
+			|| !configChanged.getKey().startsWith(ITEM_KEY_PREFIX))
+		{
+			return;
+		}
+
+		final int id;
+		try
+		{
+			id = Integer.parseInt(configChanged.getKey().substring(ITEM_KEY_PREFIX.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			return;
+		}
+
+		update(id, configChanged.getNewValue());
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		invalidate();
+	}
+
+	private void loadTagItems()
+	{
+		if (tagItemsLoaded)
+		{
+			return;
+		}
+
+		// itemTags for every tagged item is fully populated by this, which update() relies on
+		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
+		for (String key : configManager.getConfigurationKeys(prefix))
+		{
+			final int id;
+			try
+			{
+				id = Integer.parseInt(key.substring(prefix.length()));
+			}
+			catch (NumberFormatException ex)
+			{
+				continue;
+			}
+
+			for (String tag : getTags(id))
+			{
+				tagItems.computeIfAbsent(tag, k -> new TaggedItems()).set(id, true);
+			}
+		}
+
+		tagItemsLoaded = true;
+	}
+
+	private static String[] parse(@Nullable String value)
+	{
+		if (value == null || value.isEmpty())
+		{
+			return NO_TAGS;
+		}
+
+		return Text.fromCSV(value.toLowerCase()).stream()
+			.distinct()
+			.toArray(String[]::new);
+	}
+}
@@ -26,12 +26,12 @@
 package net.runelite.client.plugins.banktags;
 
 import com.google.common.base.Strings;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.client.config.ConfigManager;
@@ -47,33 +47,23 @@ public class TagManager
 {
 	private final ConfigManager configManager;
 	private final ItemManager itemManager;
+	private final BankTagIndex bankTagIndex;
 	private final Map<String, BankTag> customTags = new HashMap<>();
 
 	@Inject
 	private TagManager(
 		final ItemManager itemManager,
-		final ConfigManager configManager)
+		final ConfigManager configManager,
+		final BankTagIndex bankTagIndex)
 	{
 		this.itemManager = itemManager;
 		this.configManager = configManager;
-	}
-
-	String getTagString(int itemId, boolean variation)
-	{
-		itemId = getItemId(itemId, variation);
-
-		String config = configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + itemId);
-		if (config == null)
-		{
-			return "";
-		}
-
-		return config;
+		this.bankTagIndex = bankTagIndex;
 	}
 
 	Collection<String> getTags(int itemId, boolean variation)
 	{
-		return new LinkedHashSet<>(Text.fromCSV(getTagString(itemId, variation).toLowerCase()));
+		return new LinkedHashSet<>(Arrays.asList(bankTagIndex.getTags(getItemId(itemId, variation))));
 	}
 
 	void setTagString(int itemId, String tags, boolean variation)
@@ -88,6 +78,8 @@ public class TagManager
 		{
 			configManager.setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + itemId, tags);
 		}
+
+		bankTagIndex.update(itemId, tags);
 	}
 
 	public void addTags(int itemId, final Collection<String> t, boolean variation)
@@ -115,28 +107,19 @@ public class TagManager
 
 	boolean findTag(int itemId, String search)
 	{
-		Collection<String> tags = getTags(itemId, false);
-		tags.addAll(getTags(itemId, true));
-		return tags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search)));
+		final String prefix = Text.standardize(search);
+		return bankTagIndex.hasTagStartingWith(getItemId(itemId, false), prefix)
+			|| bankTagIndex.hasTagStartingWith(getItemId(itemId, true), prefix);
 	}
 
 	public List<Integer> getItemsForTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		return configManager.getConfigurationKeys(prefix).stream()
-			.map(item -> Integer.parseInt(item.replace(prefix, "")))
-			.filter(item -> getTags(item, false).contains(tag) || getTags(item, true).contains(tag))
-			.collect(Collectors.toList());
+		return bankTagIndex.getItemsForTag(tag);
 	}
 
 	public void removeTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		configManager.getConfigurationKeys(prefix).forEach(item ->
-		{
-			int id = Integer.parseInt(item.replace(prefix, ""));
-			removeTag(id, tag);
-		});
+		getItemsForTag(Text.standardize(tag)).forEach(id -> removeTag(id, tag));
 
 		setHidden(tag, false);
 	}
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.devtools;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import com.formdev.flatlaf.extras.FlatInspector;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Ints;
@@ -76,6 +77,7 @@ import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.ClientToolbar;
@@ -141,6 +143,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private DevToolsConfig config;
 
+	@Inject
+	private ItemManager itemManager;
+
 	private DevToolsButton players;
 	private DevToolsButton npcs;
 	private DevToolsButton groundItems;
@@ -173,6 +178,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton menus;
 	private DevToolsButton uiDefaultsInspector;
 	private DevToolsButton worldEntities;
+	private DevToolsButton overlayInspector;
 	private NavigationButton navButton;
 
 	private final HotkeyListener swingInspectorHotkeyListener = new HotkeyListener(() -> config.swingInspectorHotkey())
@@ -277,6 +283,7 @@ public class DevToolsPlugin extends Plugin
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
 		worldEntities = new DevToolsButton("World Entities");
+		overlayInspector = new DevToolsButton("Overlay Inspector");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -558,6 +565,16 @@ public class DevToolsPlugin extends Plugin
 					.build());
 				break;
 			}
+			case "itemcache":
+			{
+				final CacheStats memory = itemManager.getImageCacheStats();
+				final CacheStats disk = itemManager.getImageDiskCacheStats();
+				final CacheStats outlines = itemManager.getOutlineCacheStats();
+				final String message = String.format("Item images: memory %d hits/%d misses, disk %d hits/%d misses; outlines: %d hits/%d misses",
+					memory.hitCount(), memory.missCount(), disk.hitCount(), disk.missCount(), outlines.hitCount(), outlines.missCount());
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
+				break;
+			}
 			case "modicons":
 			{
 				final ChatMessageBuilder builder = new ChatMessageBuilder();
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayProfiler;
+
+class OverlayInspector extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+	private static final String[] COLUMNS = {"Overlay", "Plugin", "Layer", "p50 (us)", "p95 (us)", "p99 (us)", "Max (us)", "Skipped"};
+
+	private final OverlayProfiler overlayProfiler;
+	private final TimingTableModel tableModel = new TimingTableModel();
+	private final JLabel layerSummary = new JLabel();
+	private final Timer refreshTimer;
+
+	@Inject
+	OverlayInspector(OverlayProfiler overlayProfiler)
+	{
+		this.overlayProfiler = overlayProfiler;
+
+		setTitle("RuneLite Overlay Inspector");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(700, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		layerSummary.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+		add(layerSummary, BorderLayout.SOUTH);
+
+		refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		tableModel.setStats(overlayProfiler.getOverlayStats());
+
+		final StringBuilder sb = new StringBuilder("<html>Per-frame p95 (us):");
+		for (Map.Entry<OverlayLayer, OverlayProfiler.Stats> entry : overlayProfiler.getLayerStats().entrySet())
+		{
+			if (entry.getValue().getSamples() > 0)
+			{
+				sb.append(' ').append(entry.getKey().name()).append('=').append(micros(entry.getValue().getP95()));
+			}
+		}
+		layerSummary.setText(sb.toString());
+	}
+
+	private static long micros(long nanos)
+	{
+		return nanos / 1000;
+	}
+
+	private static class TimingTableModel extends AbstractTableModel
+	{
+		private List<OverlayProfiler.Stats> stats = Collections.emptyList();
+
+		void setStats(List<OverlayProfiler.Stats> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return col < 3 ? String.class : Long.class;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int rowIndex, int columnIndex)
+		{
+			final OverlayProfiler.Stats s = stats.get(rowIndex);
+			switch (columnIndex)
+			{
+				case 0:
+					return s.getName();
+				case 1:
+					return s.getPlugin();
+				case 2:
+					return s.getLayer() != null ? s.getLayer().name() : null;
+				case 3:
+					return micros(s.getP50());
+				case 4:
+					return micros(s.getP95());
+				case 5:
+					return micros(s.getP99());
+				case 6:
+					return micros(s.getMax());
+				case 7:
+					return s.getSkipped();
+				default:
+					return null;
+			}
+		}
+	}
+}
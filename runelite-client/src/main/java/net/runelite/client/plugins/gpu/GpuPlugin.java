@@ -180,7 +180,8 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	private VAOList vaoO;
 	private VAOList vaoA;
 
-	private SceneUploader clientUploader, mapUploader;
+	private SceneUploader clientUploader;
+	private ZoneUploader zoneUploader;
 	private FacePrioritySorter facePrioritySorter;
 
 	static class SceneContext
@@ -192,7 +193,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 		private int cameraX, cameraY, cameraZ;
 		private int minLevel, level, maxLevel;
-		private Set<Integer> hideRoofIds;
+		private final RoofMask hideRoofIds = new RoofMask();
 
 		SceneContext(int sizeX, int sizeZ)
 		{
@@ -277,7 +278,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		root = new SceneContext(NUM_ZONES, NUM_ZONES);
 		subs = new SceneContext[MAX_WORLDVIEWS];
 		clientUploader = new SceneUploader(renderCallbackManager);
-		mapUploader = new SceneUploader(renderCallbackManager);
+		zoneUploader = new ZoneUploader(renderCallbackManager);
 		facePrioritySorter = new FacePrioritySorter(clientUploader);
 		clientThread.invoke(() ->
 		{
@@ -464,6 +465,8 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			// force main buffer provider rebuild to turn off alpha channel
 			client.resizeCanvas();
 		});
+
+		zoneUploader.shutdown();
 	}
 
 	@Provides
@@ -805,7 +808,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		ctx.minLevel = minLevel;
 		ctx.level = level;
 		ctx.maxLevel = maxLevel;
-		ctx.hideRoofIds = hideRoofIds;
+		ctx.hideRoofIds.set(hideRoofIds);
 
 		if (scene.getWorldViewId() == WorldView.TOPLEVEL)
 		{
@@ -1764,6 +1767,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 		// size the zones which require upload
 		Stopwatch sw = Stopwatch.createStarted();
+		zoneUploader.sizeZones(scene, newZones, NUM_ZONES, NUM_ZONES);
 		int len = 0, lena = 0;
 		int reused = 0, newzones = 0;
 		for (int x = 0; x < NUM_ZONES; ++x)
@@ -1775,7 +1779,6 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 				{
 					assert zone.glVao == 0;
 					assert zone.glVaoA == 0;
-					mapUploader.zoneSize(scene, zone, x, z);
 					len += zone.sizeO;
 					lena += zone.sizeA;
 					newzones++;
@@ -1840,18 +1843,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 		// upload zones
 		sw = Stopwatch.createStarted();
-		for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE >> 3; ++x)
-		{
-			for (int z = 0; z < Constants.EXTENDED_SCENE_SIZE >> 3; ++z)
-			{
-				Zone zone = newZones[x][z];
-
-				if (!zone.initialized)
-				{
-					mapUploader.uploadZone(scene, zone, x, z);
-				}
-			}
-		}
+		zoneUploader.uploadZones(scene, newZones, NUM_ZONES, NUM_ZONES);
 		log.debug("Scene upload time {}", sw);
 
 		nextZones = newZones;
@@ -1905,14 +1897,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		final SceneContext ctx = new SceneContext(worldView.getSizeX() >> 3, worldView.getSizeY() >> 3);
 		subs[worldViewId] = ctx;
 
-		for (int x = 0; x < ctx.sizeX; ++x)
-		{
-			for (int z = 0; z < ctx.sizeZ; ++z)
-			{
-				Zone zone = ctx.zones[x][z];
-				mapUploader.zoneSize(scene, zone, x, z);
-			}
-		}
+		zoneUploader.sizeZones(scene, ctx.zones, ctx.sizeX, ctx.sizeZ);
 
 		// allocate buffers for zones which require upload
 		CountDownLatch latch = new CountDownLatch(1);
@@ -1956,15 +1941,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			throw new RuntimeException(e);
 		}
 
-		for (int x = 0; x < ctx.sizeX; ++x)
-		{
-			for (int z = 0; z < ctx.sizeZ; ++z)
-			{
-				Zone zone = ctx.zones[x][z];
-
-				mapUploader.uploadZone(scene, zone, x, z);
-			}
-		}
+		zoneUploader.uploadZones(scene, ctx.zones, ctx.sizeX, ctx.sizeZ);
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A bitmap of roof ids, for checking whether a roof is hidden without boxing the id.
+ */
+class RoofMask
+{
+	private long[] bits = new long[8];
+	// number of words which may have bits set
+	private int words;
+
+	/**
+	 * Replaces the roof ids in this mask.
+	 */
+	void set(Set<Integer> ids)
+	{
+		Arrays.fill(bits, 0, words, 0L);
+		words = 0;
+
+		for (int id : ids)
+		{
+			if (id < 0)
+			{
+				continue;
+			}
+
+			int word = id >>> 6;
+			if (word >= bits.length)
+			{
+				bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+			}
+			bits[word] |= 1L << id;
+			words = Math.max(words, word + 1);
+		}
+	}
+
+	boolean isEmpty()
+	{
+		return words == 0;
+	}
+
+	boolean contains(int id)
+	{
+		int word = id >>> 6;
+		return word < words && (bits[word] & 1L << id) != 0;
+	}
+}
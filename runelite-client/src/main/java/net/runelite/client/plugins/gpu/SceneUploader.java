@@ -26,7 +26,9 @@ package net.runelite.client.plugins.gpu;
 
 import java.nio.IntBuffer;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Constants;
 import net.runelite.api.DecorativeObject;
@@ -41,6 +43,7 @@ import net.runelite.api.Scene;
 import net.runelite.api.SceneTileModel;
 import net.runelite.api.SceneTilePaint;
 import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
 import net.runelite.api.WorldView;
 import net.runelite.client.callback.RenderCallbackManager;
@@ -63,12 +66,37 @@ class SceneUploader
 		modelLocalZ = FacePrioritySorter.modelLocalZ;
 	}
 
+	// either the render callbacks and dynamic objects are called while uploading, or they were
+	// evaluated up front and the tiles and objects they hid and the dynamic models are looked up
+	@Nullable
 	private final RenderCallbackManager renderCallbackManager;
+	@Nullable
+	private final Set<?> hidden;
+	@Nullable
+	private final Map<DynamicObject, Model> dynamicModels;
 	private int basex, basez, rid, level;
 
 	SceneUploader(RenderCallbackManager renderCallbackManager)
+	{
+		this(renderCallbackManager, null, null);
+	}
+
+	/**
+	 * Creates an uploader which does not call into the client, so can be used off of the maploader
+	 * thread. Instead of calling the render callbacks it skips the tiles and objects in the given set,
+	 * and the models of dynamic objects are looked up in the given map.
+	 */
+	SceneUploader(Set<?> hidden, Map<DynamicObject, Model> dynamicModels)
+	{
+		this(null, hidden, dynamicModels);
+	}
+
+	private SceneUploader(@Nullable RenderCallbackManager renderCallbackManager, @Nullable Set<?> hidden,
+		@Nullable Map<DynamicObject, Model> dynamicModels)
 	{
 		this.renderCallbackManager = renderCallbackManager;
+		this.hidden = hidden;
+		this.dynamicModels = dynamicModels;
 		modelLocalXI = new int[FacePrioritySorter.MAX_VERTEX_COUNT];
 		modelLocalYI = new int[FacePrioritySorter.MAX_VERTEX_COUNT];
 		modelLocalZI = new int[FacePrioritySorter.MAX_VERTEX_COUNT];
@@ -225,6 +253,22 @@ class SceneUploader
 		}
 	}
 
+	private boolean drawTile(Scene scene, Tile tile)
+	{
+		return renderCallbackManager != null ? renderCallbackManager.drawTile(scene, tile) : !hidden.contains(tile);
+	}
+
+	private boolean drawObject(Scene scene, TileObject object)
+	{
+		return renderCallbackManager != null ? renderCallbackManager.drawObject(scene, object) : !hidden.contains(object);
+	}
+
+	@Nullable
+	private Model dynamicModel(DynamicObject dynamicObject)
+	{
+		return dynamicModels != null ? dynamicModels.get(dynamicObject) : dynamicObject.getModelZbuf();
+	}
+
 	private void zoneSize(Zone z, Tile t)
 	{
 		SceneTilePaint paint = t.getSceneTilePaint();
@@ -286,7 +330,7 @@ class SceneUploader
 	private int uploadZoneTile(Scene scene, Zone zone, Tile t, GpuIntBuffer vertexBuffer, GpuIntBuffer ab)
 	{
 		int len = 0;
-		boolean drawTile = renderCallbackManager.drawTile(scene, t);
+		boolean drawTile = drawTile(scene, t);
 
 		SceneTilePaint paint = t.getSceneTilePaint();
 		if (paint != null && drawTile)
@@ -307,7 +351,7 @@ class SceneUploader
 		}
 
 		WallObject wallObject = t.getWallObject();
-		if (wallObject != null && renderCallbackManager.drawObject(scene, wallObject))
+		if (wallObject != null && drawObject(scene, wallObject))
 		{
 			Renderable renderable1 = wallObject.getRenderable1();
 			uploadZoneRenderable(renderable1, zone, 0, wallObject.getX(), wallObject.getZ(), wallObject.getY(), -1, -1, -1, -1, wallObject.getId(), vertexBuffer, ab);
@@ -317,7 +361,7 @@ class SceneUploader
 		}
 
 		DecorativeObject decorativeObject = t.getDecorativeObject();
-		if (decorativeObject != null && renderCallbackManager.drawObject(scene, decorativeObject))
+		if (decorativeObject != null && drawObject(scene, decorativeObject))
 		{
 			Renderable renderable = decorativeObject.getRenderable();
 			uploadZoneRenderable(renderable, zone, 0, decorativeObject.getX() + decorativeObject.getXOffset(), decorativeObject.getZ(), decorativeObject.getY() + decorativeObject.getYOffset(), -1, -1, -1, -1, decorativeObject.getId(), vertexBuffer, ab);
@@ -327,7 +371,7 @@ class SceneUploader
 		}
 
 		GroundObject groundObject = t.getGroundObject();
-		if (groundObject != null && renderCallbackManager.drawObject(scene, groundObject))
+		if (groundObject != null && drawObject(scene, groundObject))
 		{
 			Renderable renderable = groundObject.getRenderable();
 			uploadZoneRenderable(renderable, zone, 0, groundObject.getX(), groundObject.getZ(), groundObject.getY(),
@@ -351,7 +395,7 @@ class SceneUploader
 				continue;
 			}
 
-			if (!renderCallbackManager.drawObject(scene, gameObject))
+			if (!drawObject(scene, gameObject))
 			{
 				continue;
 			}
@@ -381,7 +425,7 @@ class SceneUploader
 		}
 		else if (r instanceof DynamicObject)
 		{
-			m = ((DynamicObject) r).getModelZbuf();
+			m = dynamicModel((DynamicObject) r);
 		}
 		if (m == null)
 		{
@@ -420,7 +464,7 @@ class SceneUploader
 		}
 		else if (r instanceof DynamicObject)
 		{
-			model = ((DynamicObject) r).getModelZbuf();
+			model = dynamicModel((DynamicObject) r);
 			if (model != null)
 			{
 				uploadStaticModel(model, orient, x - basex, y, z - basez, vb, ab);
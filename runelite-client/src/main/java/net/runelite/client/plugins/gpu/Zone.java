@@ -32,7 +32,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Model;
@@ -128,6 +127,7 @@ class Zone
 		// don't add permanent alphamodels to the cache as permanent alphamodels are always allocated
 		// to avoid having to synchronize the cache
 		alphaModels.clear();
+		sortedCount = -1;
 	}
 
 	void unmap()
@@ -215,7 +215,7 @@ class Zone
 		}
 	}
 
-	void renderOpaque(int zx, int zz, int minLevel, int currentLevel, int maxLevel, Set<Integer> hiddenRoofIds)
+	void renderOpaque(int zx, int zz, int minLevel, int currentLevel, int maxLevel, RoofMask hiddenRoofIds)
 	{
 		drawOff.clear();
 		drawEnd.clear();
@@ -315,6 +315,9 @@ class Zone
 		int radius;
 		int[] packedFaces;
 
+		// squared distance to the camera as of the last alpha sort
+		int dist;
+
 		static final int SKIP = 1; // temporary model is in a closer zone
 		static final int TEMP = 2; // temporary model added to a closer zone
 
@@ -428,6 +431,7 @@ class Zone
 		assert bufferIdx == packedFaces.length;
 
 		alphaModels.add(m);
+		sortedCount = -1;
 	}
 
 	void addTempAlphaModel(int vao, int startpos, int endpos, int level, int x, int y, int z)
@@ -465,6 +469,12 @@ class Zone
 			}
 			m.flags &= ~AlphaModel.SKIP;
 		}
+
+		// removing models keeps the rest in order, so the remaining static models are still sorted
+		if (sortedCount >= 0)
+		{
+			sortedCount = alphaModels.size();
+		}
 	}
 
 	// this needs to be larger than the max model alpha face count * 3
@@ -494,41 +504,100 @@ class Zone
 		elementBufferId = 0;
 	}
 
-	static class AlphaModelComparator implements Comparator<AlphaModel>
+	// how far, in local units, the camera can move along each axis before the static alpha models are re-sorted
+	static final int ALPHA_SORT_THRESHOLD = 128;
+	// give up on an insertion sort after this many shifts per model, and sort from scratch instead
+	private static final int MAX_INSERTION_SHIFTS = 8;
+
+	private static final Comparator<AlphaModel> ALPHA_MODEL_ORDER = (o1, o2) -> Integer.compare(o2.dist, o1.dist);
+
+	// the number of models at the start of alphaModels which are sorted, or -1 if a full sort is required
+	private int sortedCount = -1;
+	private int sortZx, sortZz, sortCx, sortCy, sortCz;
+
+	/**
+	 * Sorts the alpha models back to front. The order of the static models is kept between frames, and is
+	 * only recomputed when the camera has moved more than {@link #ALPHA_SORT_THRESHOLD}. Models added since
+	 * the last sort are inserted into the existing order.
+	 */
+	void alphaSort(int zx, int zz, int cx, int cy, int cz)
 	{
-		int zx, zz;
-		int cx, cy, cz;
+		final int size = alphaModels.size();
+		int start = sortedCount;
+		if (start < 0 || zx != sortZx || zz != sortZz
+			|| Math.abs(cx - sortCx) > ALPHA_SORT_THRESHOLD
+			|| Math.abs(cy - sortCy) > ALPHA_SORT_THRESHOLD
+			|| Math.abs(cz - sortCz) > ALPHA_SORT_THRESHOLD)
+		{
+			sortZx = zx;
+			sortZz = zz;
+			sortCx = cx;
+			sortCy = cy;
+			sortCz = cz;
+			start = 0;
+		}
+		else if (start == size)
+		{
+			return;
+		}
 
-		@Override
-		public int compare(AlphaModel o1, AlphaModel o2)
+		for (int i = start; i < size; ++i)
 		{
-			return Integer.compare(z(o2), z(o1));
+			AlphaModel m = alphaModels.get(i);
+			final int mx = m.x + ((zx - m.zofx) << 10) - sortCx;
+			final int my = m.y - sortCy;
+			final int mz = m.z + ((zz - m.zofz) << 10) - sortCz;
+			m.dist = mx * mx + my * my + mz * mz;
 		}
 
-		private int z(AlphaModel m)
+		// the models are usually still close to their order from the last sort, so an insertion sort
+		// is close to linear. if it turns out not to be, fall back to a full sort.
+		if (!insertionSort(alphaModels, start == 0 ? 1 : start, size * MAX_INSERTION_SHIFTS))
 		{
-			final int mx = (m.x + ((zx - m.zofx) << 10));
-			final int mz = (m.z + ((zz - m.zofz) << 10));
-			return (mx - cx) * (mx - cx) +
-				(m.y - cy) * (m.y - cy) +
-				(mz - cz) * (mz - cz);
+			alphaModels.sort(ALPHA_MODEL_ORDER);
 		}
+		sortedCount = size;
 	}
 
-	private static final AlphaModelComparator alphaModelComparator = new AlphaModelComparator();
-
-	void alphaSort(int zx, int zz, int cx, int cy, int cz)
+	/**
+	 * Stable insertion sort of models into descending distance, assuming the models before {@code start}
+	 * are already sorted.
+	 *
+	 * @return false if more than {@code maxShifts} shifts were needed, in which case the list is
+	 * left partially sorted
+	 */
+	private static boolean insertionSort(List<AlphaModel> models, int start, int maxShifts)
 	{
-		alphaModelComparator.zx = zx;
-		alphaModelComparator.zz = zz;
-		alphaModelComparator.cx = cx;
-		alphaModelComparator.cy = cy;
-		alphaModelComparator.cz = cz;
+		final int size = models.size();
+		for (int i = start; i < size; ++i)
+		{
+			AlphaModel m = models.get(i);
+			int j = i;
+			for (; j > 0; --j)
+			{
+				AlphaModel prev = models.get(j - 1);
+				if (prev.dist >= m.dist)
+				{
+					break;
+				}
 
-		alphaModels.sort(alphaModelComparator);
+				if (--maxShifts < 0)
+				{
+					models.set(j, m);
+					return false;
+				}
+				models.set(j, prev);
+			}
+
+			if (j != i)
+			{
+				models.set(j, m);
+			}
+		}
+		return true;
 	}
 
-	void renderAlpha(int zx, int zz, int cyaw, int cpitch, int minLevel, int currentLevel, int maxLevel, int level, Set<Integer> hiddenRoofIds, boolean useStaticUnsorted)
+	void renderAlpha(int zx, int zz, int cyaw, int cpitch, int minLevel, int currentLevel, int maxLevel, int level, RoofMask hiddenRoofIds, boolean useStaticUnsorted)
 	{
 		drawOff.clear();
 		drawEnd.clear();
@@ -553,7 +622,7 @@ class Zone
 			boolean ok = false;
 			if (level >= minLevel && level <= maxLevel)
 			{
-				if (level <= currentLevel || !hiddenRoofIds.contains((int) m.rid))
+				if (level <= currentLevel || !hiddenRoofIds.contains(m.rid))
 				{
 					ok = true;
 				}
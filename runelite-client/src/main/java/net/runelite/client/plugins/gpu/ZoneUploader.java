@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.DynamicObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Model;
+import net.runelite.api.Renderable;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.client.callback.RenderCallbackManager;
+
+/**
+ * Sizes and uploads the zones of a scene across a pool of worker threads.
+ * <p>
+ * Each worker has its own {@link SceneUploader}, and each zone is written into its own vbo, so
+ * zones can be processed in any order without synchronization. Only zones which are not yet
+ * initialized are processed. The vbos must be created and mapped on the client thread between
+ * {@link #sizeZones(Scene, Zone[][], int, int)} and {@link #uploadZones(Scene, Zone[][], int, int)}.
+ * <p>
+ * Render callbacks and {@link DynamicObject#getModelZbuf()}, which runs game code, are only ever
+ * called from the calling thread, which is the maploader thread during scene loads. They are
+ * evaluated for all of the zones before the workers start, and the workers only look up the results.
+ */
+class ZoneUploader
+{
+	private static final int MAX_WORKERS = 4;
+
+	@FunctionalInterface
+	private interface ZoneTask
+	{
+		void run(SceneUploader uploader, Zone zone, int x, int z);
+	}
+
+	// uploaders[0] is used by the calling thread, the rest are used by the workers
+	private final SceneUploader[] uploaders;
+	private final ExecutorService executor;
+	private final RenderCallbackManager renderCallbackManager;
+	// the tiles and objects hidden by render callbacks, and the current models of the dynamic objects,
+	// only modified while no zones are being processed
+	private final Set<Object> hidden = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<DynamicObject, Model> dynamicModels = new IdentityHashMap<>();
+	// guarded by this
+	private boolean shutdown;
+
+	ZoneUploader(RenderCallbackManager renderCallbackManager)
+	{
+		this(renderCallbackManager, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	ZoneUploader(RenderCallbackManager renderCallbackManager, int workers)
+	{
+		this.renderCallbackManager = renderCallbackManager;
+		workers = Math.max(0, workers);
+		uploaders = new SceneUploader[workers + 1];
+		for (int i = 0; i < uploaders.length; ++i)
+		{
+			uploaders[i] = new SceneUploader(hidden, dynamicModels);
+		}
+
+		executor = workers > 0
+			? Executors.newFixedThreadPool(workers, new ThreadFactoryBuilder()
+				.setNameFormat("gpu-zone-upload-%d")
+				.setDaemon(true)
+				.build())
+			: null;
+	}
+
+	synchronized void sizeZones(Scene scene, Zone[][] zones, int sizeX, int sizeZ)
+	{
+		prepareZones(scene, zones, sizeX, sizeZ, false);
+		try
+		{
+			forEachZone(zones, sizeX, sizeZ, (uploader, zone, x, z) -> uploader.zoneSize(scene, zone, x, z));
+		}
+		finally
+		{
+			dynamicModels.clear();
+		}
+	}
+
+	synchronized void uploadZones(Scene scene, Zone[][] zones, int sizeX, int sizeZ)
+	{
+		prepareZones(scene, zones, sizeX, sizeZ, !renderCallbackManager.isEmpty());
+		try
+		{
+			forEachZone(zones, sizeX, sizeZ, (uploader, zone, x, z) -> uploader.uploadZone(scene, zone, x, z));
+		}
+		finally
+		{
+			hidden.clear();
+			dynamicModels.clear();
+		}
+	}
+
+	/**
+	 * Stops the workers. This waits for a scene load in progress to finish, and any later
+	 * scene loads are done entirely on the calling thread.
+	 */
+	synchronized void shutdown()
+	{
+		shutdown = true;
+		if (executor != null)
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Resolve the models of the dynamic objects, and optionally evaluate the render callbacks, of the
+	 * zones which are not initialized yet
+	 */
+	private void prepareZones(Scene scene, Zone[][] zones, int sizeX, int sizeZ, boolean callbacks)
+	{
+		Tile[][][] tiles = scene.getExtendedTiles();
+		for (int x = 0; x < sizeX; ++x)
+		{
+			for (int z = 0; z < sizeZ; ++z)
+			{
+				if (zones[x][z].initialized)
+				{
+					continue;
+				}
+
+				for (int level = 0; level <= 3; ++level)
+				{
+					for (int xoff = 0; xoff < 8; ++xoff)
+					{
+						for (int zoff = 0; zoff < 8; ++zoff)
+						{
+							Tile t = tiles[level][(x << 3) + xoff][(z << 3) + zoff];
+							if (t != null)
+							{
+								prepareTile(scene, t, callbacks);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void prepareTile(Scene scene, Tile t, boolean callbacks)
+	{
+		if (callbacks && !renderCallbackManager.drawTile(scene, t))
+		{
+			hidden.add(t);
+		}
+
+		WallObject wallObject = t.getWallObject();
+		if (wallObject != null)
+		{
+			prepareObject(scene, wallObject, callbacks);
+			resolveModel(wallObject.getRenderable1());
+			resolveModel(wallObject.getRenderable2());
+		}
+
+		DecorativeObject decorativeObject = t.getDecorativeObject();
+		if (decorativeObject != null)
+		{
+			prepareObject(scene, decorativeObject, callbacks);
+			resolveModel(decorativeObject.getRenderable());
+			resolveModel(decorativeObject.getRenderable2());
+		}
+
+		GroundObject groundObject = t.getGroundObject();
+		if (groundObject != null)
+		{
+			prepareObject(scene, groundObject, callbacks);
+			resolveModel(groundObject.getRenderable());
+		}
+
+		for (GameObject gameObject : t.getGameObjects())
+		{
+			// the uploader only draws game objects from their min tile
+			if (gameObject != null && gameObject.getSceneMinLocation().equals(t.getSceneLocation()))
+			{
+				prepareObject(scene, gameObject, callbacks);
+				resolveModel(gameObject.getRenderable());
+			}
+		}
+
+		Tile bridge = t.getBridge();
+		if (bridge != null)
+		{
+			prepareTile(scene, bridge, callbacks);
+		}
+	}
+
+	private void prepareObject(Scene scene, TileObject object, boolean callbacks)
+	{
+		if (callbacks && !renderCallbackManager.drawObject(scene, object))
+		{
+			hidden.add(object);
+		}
+	}
+
+	private void resolveModel(@Nullable Renderable renderable)
+	{
+		if (renderable instanceof DynamicObject)
+		{
+			DynamicObject dynamicObject = (DynamicObject) renderable;
+			dynamicModels.put(dynamicObject, dynamicObject.getModelZbuf());
+		}
+	}
+
+	private void forEachZone(Zone[][] zones, int sizeX, int sizeZ, ZoneTask task)
+	{
+		// zones vary a lot in cost, so hand them out one at a time instead of splitting the scene up front
+		final int count = sizeX * sizeZ;
+		final AtomicInteger next = new AtomicInteger();
+		final List<Future<?>> futures = new ArrayList<>(uploaders.length - 1);
+		for (int i = 1; i < uploaders.length && !shutdown; ++i)
+		{
+			SceneUploader uploader = uploaders[i];
+			futures.add(executor.submit(() -> drain(zones, sizeZ, count, next, uploader, task)));
+		}
+
+		Throwable failure = null;
+		try
+		{
+			drain(zones, sizeZ, count, next, uploaders[0], task);
+		}
+		catch (RuntimeException | Error ex)
+		{
+			failure = ex;
+		}
+
+		// always wait for the workers, since their uploaders are reused by the next call
+		boolean interrupted = false;
+		for (Future<?> future : futures)
+		{
+			while (true)
+			{
+				try
+				{
+					future.get();
+					break;
+				}
+				catch (InterruptedException ex)
+				{
+					interrupted = true;
+				}
+				catch (ExecutionException ex)
+				{
+					if (failure == null)
+					{
+						failure = ex.getCause();
+					}
+					break;
+				}
+			}
+		}
+
+		if (interrupted)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		if (failure != null)
+		{
+			Throwables.throwIfUnchecked(failure);
+			throw new RuntimeException(failure);
+		}
+	}
+
+	private static void drain(Zone[][] zones, int sizeZ, int count, AtomicInteger next, SceneUploader uploader, ZoneTask task)
+	{
+		try
+		{
+			int idx;
+			while ((idx = next.getAndIncrement()) < count)
+			{
+				int x = idx / sizeZ;
+				int z = idx % sizeZ;
+				Zone zone = zones[x][z];
+				if (!zone.initialized)
+				{
+					task.run(uploader, zone, x, z);
+				}
+			}
+		}
+		catch (RuntimeException | Error ex)
+		{
+			// stop everyone else from starting any more zones
+			next.set(count);
+			throw ex;
+		}
+	}
+}
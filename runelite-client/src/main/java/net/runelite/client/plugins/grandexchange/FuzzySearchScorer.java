@@ -25,7 +25,15 @@
 
 package net.runelite.client.plugins.grandexchange;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 import javax.inject.Singleton;
 import net.runelite.api.ItemComposition;
 import org.apache.commons.text.similarity.JaroWinklerDistance;
@@ -40,6 +48,44 @@ public class FuzzySearchScorer
 	// whereas levenshtein biases toward strings of same len, regardless of overlap
 	private final SimilarityScore<Double> baseAlgorithm = new JaroWinklerDistance();
 
+	private static class Words
+	{
+		private final String text;
+		private final String[] words;
+		// the characters of each word, sorted, for bounding the lcs of two words
+		private final char[][] chars;
+
+		private Words(String text)
+		{
+			this.text = text.toLowerCase().replace('-', ' ');
+			words = this.text.split(" ");
+			chars = new char[words.length][];
+			for (int i = 0; i < words.length; ++i)
+			{
+				chars[i] = words[i].toCharArray();
+				Arrays.sort(chars[i]);
+			}
+		}
+	}
+
+	private static class Scored
+	{
+		private final ItemComposition item;
+		private final double score;
+
+		private Scored(ItemComposition item, double score)
+		{
+			this.item = item;
+			this.score = score;
+		}
+	}
+
+	// item names tokenized by search(), only accessed from the client thread
+	private final Map<String, Words> itemWords = new HashMap<>();
+	// lcs rows reused between words
+	private int[] lcsPrev = new int[0];
+	private int[] lcsCur = new int[0];
+
 	public Double score(String query, String itemName)
 	{
 		query = query.toLowerCase().replace('-', ' ');
@@ -75,4 +121,129 @@ public class FuzzySearchScorer
 		);
 	}
 
+	/**
+	 * Finds the items which score above zero for the query, ordered by score and then by name.
+	 * <p>
+	 * This is equivalent to filtering and sorting the items by {@link #comparator(String)}, but scores each
+	 * item only once, and skips scoring items whose words share too few characters with the query to score
+	 * above zero. This must be called from the client thread.
+	 *
+	 * @param query the search query
+	 * @param items the items to search
+	 * @param limit the maximum number of items to return
+	 */
+	public List<ItemComposition> search(String query, Collection<ItemComposition> items, int limit)
+	{
+		Words q = new Words(query);
+		for (String word : q.words)
+		{
+			if (word.isEmpty())
+			{
+				// an empty query word makes score() NaN for every item
+				return new ArrayList<>();
+			}
+		}
+
+		List<Scored> scored = new ArrayList<>();
+		for (ItemComposition item : items)
+		{
+			Words name = itemWords.computeIfAbsent(item.getName(), Words::new);
+			double lcsScore = lcsScore(q, name);
+			// the proximity score is at most 0.5, so the lcs score must exceed 0.5 to score above zero
+			if (lcsScore <= 0.5)
+			{
+				continue;
+			}
+
+			double proximityScore = Math.log10(10 * baseAlgorithm.apply(q.text, name.text)) - 0.5;
+			double score = lcsScore + proximityScore - 1.0;
+			if (score > 0)
+			{
+				scored.add(new Scored(item, score));
+			}
+		}
+
+		return scored.stream()
+			.sorted(Comparator.comparingDouble((Scored s) -> s.score).reversed()
+				.thenComparing(s -> s.item.getName()))
+			.limit(limit)
+			.map(s -> s.item)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Computes the lcs score of {@link #score(String, String)}, except that word pairs which can't raise the
+	 * score above 0.5 are skipped, so scores of at most 0.5 are not exact.
+	 */
+	private double lcsScore(Words query, Words item)
+	{
+		double lcsScore = 0.0;
+		for (int i = 0; i < query.words.length; ++i)
+		{
+			String queryWord = query.words[i];
+			for (int j = 0; j < item.words.length; ++j)
+			{
+				// the lcs can't be longer than the number of characters the words have in common
+				double bound = ((double) commonChars(query.chars[i], item.chars[j])) / queryWord.length();
+				if (bound <= Math.max(lcsScore, 0.5))
+				{
+					continue;
+				}
+
+				int lcsLen = lcsLength(queryWord, item.words[j]);
+				lcsScore = Math.max(lcsScore, ((double) lcsLen) / queryWord.length());
+			}
+		}
+		return lcsScore;
+	}
+
+	private static int commonChars(char[] a, char[] b)
+	{
+		int n = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length; )
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				++n;
+				++i;
+				++j;
+			}
+		}
+		return n;
+	}
+
+	private int lcsLength(String a, String b)
+	{
+		if (lcsPrev.length <= b.length())
+		{
+			lcsPrev = new int[b.length() + 1];
+			lcsCur = new int[b.length() + 1];
+		}
+
+		int[] prev = lcsPrev, cur = lcsCur;
+		Arrays.fill(prev, 0, b.length() + 1, 0);
+		for (int i = 0; i < a.length(); ++i)
+		{
+			char c = a.charAt(i);
+			cur[0] = 0;
+			for (int j = 0; j < b.length(); ++j)
+			{
+				cur[j + 1] = c == b.charAt(j) ? prev[j] + 1 : Math.max(prev[j + 1], cur[j]);
+			}
+
+			int[] t = prev;
+			prev = cur;
+			cur = t;
+		}
+		return prev[b.length()];
+	}
+
 }
@@ -50,7 +50,6 @@ import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
@@ -730,14 +729,11 @@ public class GrandExchangePlugin extends Plugin
 
 		if (resultCount == 0)
 		{
-			ToDoubleFunction<ItemComposition> comparator = fuzzySearchScorer.comparator(input);
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
+			List<ItemComposition> items = IntStream.range(0, client.getItemCount())
 					.mapToObj(itemManager::getItemComposition)
 					.filter(item -> item.isGeTradeable() && item.getNote() == -1)
-					.filter(item -> comparator.applyAsDouble(item) > 0)
-					.sorted(Comparator.comparingDouble(comparator).reversed()
-						.thenComparing(ItemComposition::getName))
-					.limit(MAX_RESULT_COUNT)
+					.collect(Collectors.toList());
+			List<Integer> ids = fuzzySearchScorer.search(input, items, MAX_RESULT_COUNT).stream()
 					.map(ItemComposition::getId)
 					.collect(Collectors.toList());
 
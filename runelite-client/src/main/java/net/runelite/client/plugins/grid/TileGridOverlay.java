@@ -4,7 +4,6 @@ import java.awt.*;
 import javax.inject.Inject;
 
 import net.runelite.api.*;
-import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -22,6 +21,15 @@ class TileGridOverlay extends Overlay {
 
     private BufferedImage _bufferedImage;
 
+    // Line endpoints, reused between frames. Local coordinates are projected in place.
+    private int[] horizontalXs = new int[0];
+    private int[] horizontalYs = new int[0];
+    private int[] verticalXs = new int[0];
+    private int[] verticalYs = new int[0];
+    private int[] heights = new int[0];
+    private float[] horizontalDists = new float[0];
+    private float[] verticalDists = new float[0];
+
     private static final int UNWALKABLE_MASK =
             CollisionDataFlag.BLOCK_MOVEMENT_FULL |
                     CollisionDataFlag.BLOCK_MOVEMENT_FLOOR |
@@ -81,11 +89,12 @@ class TileGridOverlay extends Overlay {
 
         int renderRadius = config.gridDistance();
         int lineCount = (renderRadius * 2 + 1) * renderRadius * 2;
+        ensureCapacity(lineCount);
 
-        // Xs
-        int[] horizontalXs = new int[lineCount * 2];
-        int[] horizontalYs = new int[lineCount * 2];
-        float[] horizontalDists = new float[lineCount];
+        // Horizontal Lines
+        int[] horizontalXs = this.horizontalXs;
+        int[] horizontalYs = this.horizontalYs;
+        float[] horizontalDists = this.horizontalDists;
 
         int xi = 0;
         int yi = 0;
@@ -132,9 +141,9 @@ class TileGridOverlay extends Overlay {
         }
 
         // Vertical Lines
-        int[] verticalXs = new int[lineCount * 2];
-        int[] verticalYs = new int[lineCount * 2];
-        float[] verticalDists = new float[lineCount];
+        int[] verticalXs = this.verticalXs;
+        int[] verticalYs = this.verticalYs;
+        float[] verticalDists = this.verticalDists;
 
         xi = 0;
         yi = 0;
@@ -184,8 +193,12 @@ class TileGridOverlay extends Overlay {
             }
         }
 
-        Point[] hPoints = BulkPerspective.getCanvasTilePoints(client, wv, horizontalXs, horizontalYs, plane);
-        Point[] vPoints = BulkPerspective.getCanvasTilePoints(client, wv, verticalXs, verticalYs, plane);
+        // Project both sets of endpoints in place, blocked segments have no height and are left at MIN_VALUE
+        int pointCount = lineCount * 2;
+        Perspective.getTileHeights(wv, pointCount, horizontalXs, horizontalYs, plane, 0, heights);
+        Perspective.localToCanvas(client, wv, pointCount, horizontalXs, horizontalYs, heights, horizontalXs, horizontalYs);
+        Perspective.getTileHeights(wv, pointCount, verticalXs, verticalYs, plane, 0, heights);
+        Perspective.localToCanvas(client, wv, pointCount, verticalXs, verticalYs, heights, verticalXs, verticalYs);
 
         {
             BufferedImage bufferedImage = getBufferedImage();
@@ -205,8 +218,8 @@ class TileGridOverlay extends Overlay {
 
             int width = bufferedImage.getWidth();
             int height = bufferedImage.getHeight();
-            drawLines(bufferedGraphics, alpha, horizontalDists, hPoints, width, height);
-            drawLines(bufferedGraphics, alpha, verticalDists, vPoints, width, height);
+            drawLines(bufferedGraphics, alpha, horizontalDists, horizontalXs, horizontalYs, pointCount, width, height);
+            drawLines(bufferedGraphics, alpha, verticalDists, verticalXs, verticalYs, pointCount, width, height);
             applyColorAndAlpha(bufferedImage, rgbInt);
 
             graphics.drawImage(bufferedImage, 0, 0, null);
@@ -216,15 +229,27 @@ class TileGridOverlay extends Overlay {
         return null;
     }
 
-    private void drawLines(Graphics2D bufferedGraphics, int alpha, float[] distances, Point[] points, int w, int h) {
+    private void ensureCapacity(int lineCount) {
+        if (horizontalDists.length < lineCount) {
+            horizontalXs = new int[lineCount * 2];
+            horizontalYs = new int[lineCount * 2];
+            verticalXs = new int[lineCount * 2];
+            verticalYs = new int[lineCount * 2];
+            heights = new int[lineCount * 2];
+            horizontalDists = new float[lineCount];
+            verticalDists = new float[lineCount];
+        }
+    }
+
+    private void drawLines(Graphics2D bufferedGraphics, int alpha, float[] distances, int[] xs, int[] ys, int count, int w, int h) {
         boolean doFadeOut = config.doFadeOut();
         int fadeOutDistanceSqr = config.fadeOutDistance() * config.fadeOutDistance();
         double fadeOutTaper = config.fadeOutTaper() * config.fadeOutTaper();
 
-        for (int i = 0; i < points.length; i+=2) {
-            Point p1 = points[i];
-            Point p2 = points[i + 1];
-            if (p1 != null && p2 != null && inBounds(p1, p2, w, h)) {
+        for (int i = 0; i < count; i+=2) {
+            int x1 = xs[i], y1 = ys[i];
+            int x2 = xs[i + 1], y2 = ys[i + 1];
+            if (x1 != Integer.MIN_VALUE && x2 != Integer.MIN_VALUE && inBounds(x1, y1, x2, y2, w, h)) {
                 if (doFadeOut) {
                     double dist = (distances[i / 2] - fadeOutDistanceSqr) / fadeOutTaper;
                     if (dist <= 1) {
@@ -233,14 +258,14 @@ class TileGridOverlay extends Overlay {
                     Color color = new Color(0, 0, (int) (alpha / dist), 255);
                     bufferedGraphics.setColor(color);
                 }
-                bufferedGraphics.drawLine(p1.getX(), p1.getY(), p2.getX(), p2.getY());
+                bufferedGraphics.drawLine(x1, y1, x2, y2);
             }
         }
     }
 
-    private static boolean inBounds(Point p1, Point p2, int w, int h) {
-        boolean xVisible = p1.getX() >= 0 || p1.getX() <= w || p2.getX() >= 0 || p2.getX() <= w;
-        boolean yVisible = p1.getY() >= 0 || p1.getY() <= h || p2.getY() >= 0 || p2.getY() <= h;
+    private static boolean inBounds(int x1, int y1, int x2, int y2, int w, int h) {
+        boolean xVisible = x1 >= 0 || x1 <= w || x2 >= 0 || x2 <= w;
+        boolean yVisible = y1 >= 0 || y1 <= h || y2 >= 0 || y2 <= h;
         return xVisible && yVisible;
     }
 
@@ -33,6 +33,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -54,6 +56,16 @@ public class GroundMarkerOverlay extends Overlay
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
 
+	// Markers of the world view being drawn and their projected corners, reused between frames
+	private final List<ColorTileMarker> visible = new ArrayList<>();
+	private final List<LocalPoint> visibleLocations = new ArrayList<>();
+	private int[] tileX = new int[0];
+	private int[] tileY = new int[0];
+	private int[] cornerX = new int[0];
+	private int[] cornerY = new int[0];
+	private int[] cornerZ = new int[0];
+	private final Polygon poly = new Polygon();
+
 	@Inject
 	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
 	{
@@ -77,14 +89,18 @@ public class GroundMarkerOverlay extends Overlay
 		Stroke stroke = new BasicStroke((float) config.borderWidth());
 		for (WorldView wv : points.keySet())
 		{
-			for (final ColorTileMarker point : points.get(wv))
+			collectVisible(wv, points.get(wv));
+			if (visible.isEmpty())
 			{
-				WorldPoint worldPoint = point.getWorldPoint();
-				if (worldPoint.getPlane() != wv.getPlane())
-				{
-					continue;
-				}
+				continue;
+			}
+
+			final int count = visible.size();
+			Perspective.getCanvasTileAreaPolys(client, wv, count, tileX, tileY, 1, 1, -1, 0, cornerX, cornerY, cornerZ);
 
+			for (int i = 0; i < count; i++)
+			{
+				final ColorTileMarker point = visible.get(i);
 				Color tileColor = point.getColor();
 				if (tileColor == null)
 				{
@@ -92,34 +108,73 @@ public class GroundMarkerOverlay extends Overlay
 					tileColor = config.markerColor();
 				}
 
-				drawTile(graphics, wv, worldPoint, tileColor, point.getLabel(), stroke);
+				drawTile(graphics, visibleLocations.get(i), i * 4, tileColor, point.getLabel(), stroke);
 			}
 		}
 
+		visible.clear();
+		visibleLocations.clear();
 		return null;
 	}
 
-	private void drawTile(Graphics2D graphics, WorldView wv, WorldPoint point, Color color, @Nullable String label, Stroke borderStroke)
+	private void collectVisible(WorldView wv, Iterable<ColorTileMarker> markers)
 	{
-		if (client.getLocalPlayer().getWorldView().isTopLevel())
+		visible.clear();
+		visibleLocations.clear();
+
+		final boolean topLevel = client.getLocalPlayer().getWorldView().isTopLevel();
+		final WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		for (final ColorTileMarker point : markers)
 		{
-			WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+			WorldPoint worldPoint = point.getWorldPoint();
+			if (worldPoint.getPlane() != wv.getPlane())
+			{
+				continue;
+			}
 
-			if (point.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
+			if (topLevel && worldPoint.distanceTo(playerLocation) >= MAX_DRAW_DISTANCE)
 			{
-				return;
+				continue;
 			}
+
+			LocalPoint lp = LocalPoint.fromWorld(wv, worldPoint);
+			if (lp == null)
+			{
+				continue;
+			}
+
+			visible.add(point);
+			visibleLocations.add(lp);
+		}
+
+		final int count = visible.size();
+		if (tileX.length < count)
+		{
+			tileX = new int[count];
+			tileY = new int[count];
+			cornerX = new int[count * 4];
+			cornerY = new int[count * 4];
+			cornerZ = new int[count * 4];
 		}
 
-		LocalPoint lp = LocalPoint.fromWorld(wv, point);
-		if (lp == null)
+		for (int i = 0; i < count; i++)
 		{
-			return;
+			LocalPoint lp = visibleLocations.get(i);
+			tileX[i] = lp.getX();
+			tileY[i] = lp.getY();
 		}
+	}
 
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
-		if (poly != null)
+	private void drawTile(Graphics2D graphics, LocalPoint lp, int corner, Color color, @Nullable String label, Stroke borderStroke)
+	{
+		if (cornerX[corner] != Integer.MIN_VALUE)
 		{
+			poly.reset();
+			for (int i = corner; i < corner + 4; i++)
+			{
+				poly.addPoint(cornerX[i], cornerY[i]);
+			}
+
 			OverlayUtil.renderPolygon(graphics, poly, color, new Color(0, 0, 0, config.fillOpacity()), borderStroke);
 		}
 
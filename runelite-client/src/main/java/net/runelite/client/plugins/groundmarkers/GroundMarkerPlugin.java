@@ -30,14 +30,12 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.util.concurrent.Runnables;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.google.inject.Provides;
 import java.awt.Color;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
@@ -60,7 +58,9 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ConfigSync;
 import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.RegionMarkerStore;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -78,7 +78,6 @@ import net.runelite.client.util.ColorUtil;
 public class GroundMarkerPlugin extends Plugin
 {
 	private static final String CONFIG_GROUP = "groundMarker";
-	private static final String REGION_PREFIX = "region_";
 
 	@Getter(AccessLevel.PACKAGE)
 	private final ListMultimap<WorldView, ColorTileMarker> points = ArrayListMultimap.create();
@@ -116,29 +115,19 @@ public class GroundMarkerPlugin extends Plugin
 	@Inject
 	private ColorPickerManager colorPickerManager;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
+	private RegionMarkerStore<GroundMarkerPoint> store;
+
 	void savePoints(int regionId, Collection<GroundMarkerPoint> points)
 	{
-		if (points == null || points.isEmpty())
-		{
-			configManager.unsetConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId);
-			return;
-		}
-
-		String json = gson.toJson(points);
-		configManager.setConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId, json);
+		store.setMarkers(regionId, points);
 	}
 
 	Collection<GroundMarkerPoint> getPoints(int regionId)
 	{
-		String json = configManager.getConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId);
-		if (Strings.isNullOrEmpty(json))
-		{
-			return Collections.emptyList();
-		}
-
-		// CHECKSTYLE:OFF
-		return gson.fromJson(json, new TypeToken<List<GroundMarkerPoint>>(){}.getType());
-		// CHECKSTYLE:ON
+		return store.getMarkers(regionId);
 	}
 
 	@Provides
@@ -214,6 +203,8 @@ public class GroundMarkerPlugin extends Plugin
 	@Override
 	public void startUp()
 	{
+		store = new RegionMarkerStore<>(configManager, gson, executor, CONFIG_GROUP, GroundMarkerPoint.class,
+			p -> RegionMarkerStore.packTile(p.getRegionX(), p.getRegionY(), p.getZ()), null);
 		overlayManager.add(overlay);
 		overlayManager.add(minimapOverlay);
 		if (config.showImportExport())
@@ -233,11 +224,19 @@ public class GroundMarkerPlugin extends Plugin
 		overlayManager.remove(minimapOverlay);
 		sharingManager.removeMenuOptions();
 		points.clear();
+		store.flush();
+	}
+
+	@Subscribe
+	public void onConfigSync(ConfigSync configSync)
+	{
+		store.flush();
 	}
 
 	@Subscribe
 	public void onProfileChanged(ProfileChanged profileChanged)
 	{
+		store.invalidate();
 		loadPoints();
 	}
 
@@ -276,8 +275,7 @@ public class GroundMarkerPlugin extends Plugin
 			final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, selectedSceneTile.getLocalLocation());
 			final int regionId = worldPoint.getRegionID();
 			var regionPoints = getPoints(regionId);
-			var existingOpt = regionPoints.stream()
-				.filter(p -> p.getRegionX() == worldPoint.getRegionX() && p.getRegionY() == worldPoint.getRegionY() && p.getZ() == worldPoint.getPlane())
+			var existingOpt = store.getMarkers(regionId, worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane()).stream()
 				.findFirst();
 
 			client.createMenuEntry(-1)
@@ -358,6 +356,12 @@ public class GroundMarkerPlugin extends Plugin
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		if (store.configChanged(event))
+		{
+			loadPoints();
+			return;
+		}
+
 		if (event.getGroup().equals(GroundMarkerConfig.GROUND_MARKER_CONFIG_GROUP)
 			&& event.getKey().equals(GroundMarkerConfig.SHOW_IMPORT_EXPORT_KEY_NAME))
 		{
@@ -377,17 +381,10 @@ public class GroundMarkerPlugin extends Plugin
 		GroundMarkerPoint point = new GroundMarkerPoint(regionId, worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane(), config.markerColor(), null);
 		log.debug("Updating point: {} - {}", point, worldPoint);
 
-		List<GroundMarkerPoint> groundMarkerPoints = new ArrayList<>(getPoints(regionId));
-		if (groundMarkerPoints.contains(point))
+		if (!store.removeIf(regionId, point::equals))
 		{
-			groundMarkerPoints.remove(point);
+			store.add(regionId, point);
 		}
-		else
-		{
-			groundMarkerPoints.add(point);
-		}
-
-		savePoints(regionId, groundMarkerPoints);
 
 		loadPoints();
 	}
@@ -401,10 +398,8 @@ public class GroundMarkerPlugin extends Plugin
 				input = Strings.emptyToNull(input);
 
 				var newPoint = new GroundMarkerPoint(existing.getRegionId(), existing.getRegionX(), existing.getRegionY(), existing.getZ(), existing.getColor(), input);
-				Collection<GroundMarkerPoint> points = new ArrayList<>(getPoints(existing.getRegionId()));
-				points.remove(existing);
-				points.add(newPoint);
-				savePoints(existing.getRegionId(), points);
+				store.removeIf(existing.getRegionId(), existing::equals);
+				store.add(existing.getRegionId(), newPoint);
 
 				loadPoints();
 			})
@@ -414,10 +409,8 @@ public class GroundMarkerPlugin extends Plugin
 	private void colorTile(GroundMarkerPoint existing, Color newColor)
 	{
 		var newPoint = new GroundMarkerPoint(existing.getRegionId(), existing.getRegionX(), existing.getRegionY(), existing.getZ(), newColor, existing.getLabel());
-		Collection<GroundMarkerPoint> points = new ArrayList<>(getPoints(existing.getRegionId()));
-		points.remove(newPoint);
-		points.add(newPoint);
-		savePoints(existing.getRegionId(), points);
+		store.removeIf(existing.getRegionId(), newPoint::equals);
+		store.add(existing.getRegionId(), newPoint);
 
 		loadPoints();
 	}
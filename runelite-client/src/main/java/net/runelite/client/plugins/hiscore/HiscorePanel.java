@@ -62,8 +62,8 @@ import net.runelite.client.ui.components.materialtabs.MaterialTab;
 import net.runelite.client.ui.components.materialtabs.MaterialTabGroup;
 import net.runelite.client.util.ImageUtil;
 import net.runelite.client.util.QuantityFormatter;
-import net.runelite.client.hiscore.HiscoreClient;
 import net.runelite.client.hiscore.HiscoreEndpoint;
+import net.runelite.client.hiscore.HiscoreManager;
 import net.runelite.client.hiscore.HiscoreResult;
 import net.runelite.client.hiscore.HiscoreSkill;
 import static net.runelite.client.hiscore.HiscoreSkill.*;
@@ -130,7 +130,7 @@ public class HiscorePanel extends PluginPanel
 	private final HiscorePlugin plugin;
 	private final HiscoreConfig config;
 	private final NameAutocompleter nameAutocompleter;
-	private final HiscoreClient hiscoreClient;
+	private final HiscoreManager hiscoreManager;
 	private final SpriteManager spriteManager;
 
 	private final IconTextField searchBar;
@@ -149,12 +149,12 @@ public class HiscorePanel extends PluginPanel
 
 	@Inject
 	public HiscorePanel(Client client, HiscorePlugin plugin, HiscoreConfig config,
-		NameAutocompleter nameAutocompleter, HiscoreClient hiscoreClient, SpriteManager spriteManager)
+		NameAutocompleter nameAutocompleter, HiscoreManager hiscoreManager, SpriteManager spriteManager)
 	{
 		this.plugin = plugin;
 		this.config = config;
 		this.nameAutocompleter = nameAutocompleter;
-		this.hiscoreClient = hiscoreClient;
+		this.hiscoreManager = hiscoreManager;
 		this.spriteManager = spriteManager;
 
 		setBorder(BorderFactory.createEmptyBorder(10, 10, 0, 10));
@@ -400,7 +400,7 @@ public class HiscorePanel extends PluginPanel
 			selectedEndPoint = HiscoreEndpoint.NORMAL;
 		}
 
-		hiscoreClient.lookupAsync(lookup, selectedEndPoint).whenCompleteAsync((result, ex) ->
+		hiscoreManager.refresh(lookup, selectedEndPoint).whenCompleteAsync((result, ex) ->
 			SwingUtilities.invokeLater(() ->
 			{
 				if (!sanitize(searchBar.getText()).equals(lookup))
@@ -0,0 +1,642 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Append-only loot history for a single profile.
+ * <p>
+ * Loot is appended to a log of segment files, one record per source per save, and a per-source aggregate is kept
+ * in memory. The aggregates are persisted to an index along with the log position they cover, so opening the store
+ * only replays the records written since the index was last saved rather than the whole history. Removing loot
+ * rewrites the log without it, merging records for the same source and day as it goes.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int INDEX_MAGIC = 0x4C545331; // LTS1
+	private static final String INDEX_FILE = "index.bin";
+	private static final String SEGMENT_SUFFIX = ".seg";
+	@VisibleForTesting
+	static final long SEGMENT_SIZE = 256 * 1024;
+	// save the index after this much log has been written, to bound the replay on open
+	private static final long INDEX_INTERVAL = 64 * 1024;
+	// compact on open once the log has this many segments
+	private static final int COMPACT_SEGMENTS = 8;
+	private static final int MAX_RECORD_SIZE = 1 << 20;
+
+	private static class Segment
+	{
+		private final int number;
+		private long length;
+		// range of the records' last times
+		private long minTime = Long.MAX_VALUE;
+		private long maxTime = Long.MIN_VALUE;
+
+		private Segment(int number)
+		{
+			this.number = number;
+		}
+
+		private void add(long time)
+		{
+			minTime = Math.min(minTime, time);
+			maxTime = Math.max(maxTime, time);
+		}
+	}
+
+	private final File dir;
+	private final Map<ConfigLoot, ConfigLoot> aggregates = new HashMap<>();
+	private final List<Segment> segments = new ArrayList<>();
+	private int generation;
+	private long unindexed;
+
+	LootStore(File dir)
+	{
+		this.dir = dir;
+		dir.mkdirs();
+
+		try
+		{
+			open();
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to open loot store {}", dir, ex);
+		}
+	}
+
+	/**
+	 * Get the aggregated loot for a source.
+	 *
+	 * @return a copy of the loot, or null if there is none
+	 */
+	@Nullable
+	synchronized ConfigLoot get(LootRecordType type, String name)
+	{
+		ConfigLoot loot = aggregates.get(new ConfigLoot(type, name));
+		return loot != null ? copy(loot) : null;
+	}
+
+	/**
+	 * Get the aggregated loot for every source.
+	 */
+	synchronized List<ConfigLoot> getAll()
+	{
+		List<ConfigLoot> loots = new ArrayList<>(aggregates.size());
+		for (ConfigLoot loot : aggregates.values())
+		{
+			loots.add(copy(loot));
+		}
+		return loots;
+	}
+
+	synchronized boolean isEmpty()
+	{
+		return aggregates.isEmpty();
+	}
+
+	/**
+	 * Append loot to the log. Each loot's first and last times are kept as the record's times.
+	 */
+	synchronized void append(Collection<ConfigLoot> loots)
+	{
+		if (loots.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			for (ConfigLoot loot : loots)
+			{
+				write(loot);
+				merge(aggregates.computeIfAbsent(loot, k -> new ConfigLoot(loot.type, loot.name)), loot);
+			}
+
+			if (unindexed >= INDEX_INTERVAL)
+			{
+				writeIndex();
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to append loot to {}", dir, ex);
+		}
+	}
+
+	/**
+	 * Aggregate the loot recorded between two times.
+	 *
+	 * @param from the start time, inclusive
+	 * @param to the end time, exclusive
+	 * @return the aggregated loot for each source with loot in the range
+	 */
+	synchronized List<ConfigLoot> query(Instant from, Instant to)
+	{
+		long fromMs = from.toEpochMilli(), toMs = to.toEpochMilli();
+		Map<ConfigLoot, ConfigLoot> result = new LinkedHashMap<>();
+		try
+		{
+			for (Segment segment : segments)
+			{
+				if (segment.maxTime < fromMs || segment.minTime >= toMs)
+				{
+					continue;
+				}
+
+				replay(segment, 0, loot ->
+				{
+					long time = loot.last.toEpochMilli();
+					if (time >= fromMs && time < toMs)
+					{
+						merge(result.computeIfAbsent(loot, k -> new ConfigLoot(loot.type, loot.name)), loot);
+					}
+				});
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read loot from {}", dir, ex);
+		}
+		return new ArrayList<>(result.values());
+	}
+
+	/**
+	 * Remove all loot for a source.
+	 */
+	synchronized void remove(LootRecordType type, String name)
+	{
+		if (aggregates.remove(new ConfigLoot(type, name)) != null)
+		{
+			compact();
+		}
+	}
+
+	/**
+	 * Remove all loot for sources which have not had loot since the given time.
+	 *
+	 * @return the number of sources removed
+	 */
+	synchronized int expire(Instant before)
+	{
+		int size = aggregates.size();
+		aggregates.values().removeIf(loot -> loot.last.isBefore(before));
+		int removed = size - aggregates.size();
+		if (removed > 0)
+		{
+			compact();
+		}
+		return removed;
+	}
+
+	synchronized void clear()
+	{
+		aggregates.clear();
+		compact();
+	}
+
+	/**
+	 * Save the index, so the next open doesn't have to replay the log.
+	 */
+	synchronized void close()
+	{
+		if (unindexed > 0)
+		{
+			try
+			{
+				writeIndex();
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to write loot index for {}", dir, ex);
+			}
+		}
+	}
+
+	/**
+	 * Rewrite the log into a new generation of segments, dropping loot for removed sources and merging
+	 * records for the same source and day.
+	 */
+	synchronized void compact()
+	{
+		try
+		{
+			Map<List<Object>, ConfigLoot> days = new LinkedHashMap<>();
+			for (Segment segment : segments)
+			{
+				replay(segment, 0, loot ->
+				{
+					if (!aggregates.containsKey(loot))
+					{
+						return;
+					}
+
+					List<Object> key = List.of(loot.type, loot.name, Duration.ofMillis(loot.last.toEpochMilli()).toDays());
+					ConfigLoot day = days.get(key);
+					if (day == null)
+					{
+						days.put(key, loot);
+					}
+					else
+					{
+						merge(day, loot);
+					}
+				});
+			}
+
+			List<ConfigLoot> records = new ArrayList<>(days.values());
+			records.sort(Comparator.comparing(ConfigLoot::getLast));
+
+			List<Segment> old = new ArrayList<>(segments);
+			int oldGeneration = generation;
+			++generation;
+			segments.clear();
+			for (ConfigLoot loot : records)
+			{
+				write(loot);
+			}
+			writeIndex();
+
+			for (Segment segment : old)
+			{
+				segmentFile(oldGeneration, segment.number).delete();
+			}
+
+			log.debug("Compacted loot store {} to {} records", dir, records.size());
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to compact loot store {}", dir, ex);
+		}
+	}
+
+	@VisibleForTesting
+	synchronized int segmentCount()
+	{
+		return segments.size();
+	}
+
+	private void open() throws IOException
+	{
+		int segment = 0;
+		long offset = 0;
+		File index = new File(dir, INDEX_FILE);
+		boolean indexed = false;
+		if (index.exists())
+		{
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(index)))))
+			{
+				if (in.readInt() != INDEX_MAGIC)
+				{
+					throw new IOException("invalid index magic");
+				}
+
+				generation = in.readInt();
+				int numSegments = in.readInt();
+				for (int i = 0; i < numSegments; ++i)
+				{
+					Segment s = new Segment(in.readInt());
+					s.length = in.readLong();
+					s.minTime = in.readLong();
+					s.maxTime = in.readLong();
+					segments.add(s);
+				}
+
+				int numAggregates = in.readInt();
+				for (int i = 0; i < numAggregates; ++i)
+				{
+					ConfigLoot loot = readLoot(in);
+					aggregates.put(loot, loot);
+				}
+
+				if (!segments.isEmpty())
+				{
+					Segment last = segments.get(segments.size() - 1);
+					segment = last.number;
+					offset = last.length;
+				}
+				indexed = true;
+			}
+			catch (IOException | IllegalArgumentException ex)
+			{
+				log.warn("unable to read loot index {}, rebuilding it", index, ex);
+				generation = 0;
+				segments.clear();
+				aggregates.clear();
+			}
+		}
+
+		// find the segments of the current generation, and remove leftovers from an interrupted compaction
+		File[] files = dir.listFiles((d, name) -> name.endsWith(SEGMENT_SUFFIX));
+		List<Integer> numbers = new ArrayList<>();
+		if (files != null)
+		{
+			if (!indexed)
+			{
+				for (File file : files)
+				{
+					generation = Math.max(generation, parseGeneration(file.getName()));
+				}
+			}
+
+			for (File file : files)
+			{
+				String name = file.getName();
+				if (parseGeneration(name) != generation)
+				{
+					file.delete();
+					continue;
+				}
+				numbers.add(Integer.parseInt(name.substring(name.indexOf('-') + 1, name.length() - SEGMENT_SUFFIX.length())));
+			}
+		}
+		numbers.sort(null);
+
+		// replay anything written since the index was saved
+		for (int number : numbers)
+		{
+			if (number < segment)
+			{
+				continue;
+			}
+
+			Segment s;
+			if (!segments.isEmpty() && segments.get(segments.size() - 1).number == number)
+			{
+				s = segments.get(segments.size() - 1);
+			}
+			else
+			{
+				s = new Segment(number);
+				segments.add(s);
+			}
+
+			long end = replay(s, number == segment ? offset : 0, loot ->
+			{
+				merge(aggregates.computeIfAbsent(loot, k -> new ConfigLoot(loot.type, loot.name)), loot);
+				s.add(loot.last.toEpochMilli());
+			});
+			unindexed += end - s.length;
+			s.length = end;
+		}
+
+		// drop segments which have gone missing
+		segments.removeIf(s -> !segmentFile(generation, s.number).exists());
+
+		if (segments.size() > COMPACT_SEGMENTS)
+		{
+			compact();
+		}
+	}
+
+	/**
+	 * Read the records of a segment starting at an offset, truncating it at the first incomplete or corrupt record.
+	 *
+	 * @return the offset of the end of the last valid record
+	 */
+	private long replay(Segment segment, long offset, Consumer<ConfigLoot> consumer) throws IOException
+	{
+		File file = segmentFile(generation, segment.number);
+		long pos = offset;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			in.skipBytes((int) offset);
+			CRC32 crc = new CRC32();
+			for (;;)
+			{
+				int length = in.readInt();
+				if (length <= 0 || length > MAX_RECORD_SIZE)
+				{
+					throw new IOException("invalid record length " + length);
+				}
+
+				byte[] data = new byte[length];
+				in.readFully(data);
+				crc.reset();
+				crc.update(data);
+				if (in.readInt() != (int) crc.getValue())
+				{
+					throw new IOException("record checksum mismatch");
+				}
+
+				pos += 4 + length + 4;
+				try
+				{
+					consumer.accept(readLoot(new DataInputStream(new ByteArrayInputStream(data))));
+				}
+				catch (IllegalArgumentException ex)
+				{
+					// unknown record type
+					log.debug("Skipping unreadable loot record in {}", file, ex);
+				}
+			}
+		}
+		catch (EOFException ex)
+		{
+			// end of the log, or a partially written record
+		}
+		catch (IOException ex)
+		{
+			log.warn("Corrupt loot record in {} at {}", file, pos, ex);
+		}
+
+		if (pos < file.length())
+		{
+			log.warn("Truncating loot log {} from {} to {}", file, file.length(), pos);
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+			{
+				raf.setLength(pos);
+			}
+		}
+		return pos;
+	}
+
+	private void write(ConfigLoot loot) throws IOException
+	{
+		Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (segment == null || segment.length >= SEGMENT_SIZE)
+		{
+			segment = new Segment(segment == null ? 0 : segment.number + 1);
+			segments.add(segment);
+		}
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		writeLoot(new DataOutputStream(bout), loot);
+		byte[] data = bout.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(segmentFile(generation, segment.number), true))))
+		{
+			out.writeInt(data.length);
+			out.write(data);
+			out.writeInt((int) crc.getValue());
+		}
+
+		int size = 4 + data.length + 4;
+		segment.length += size;
+		segment.add(loot.last.toEpochMilli());
+		unindexed += size;
+	}
+
+	private void writeIndex() throws IOException
+	{
+		File index = new File(dir, INDEX_FILE);
+		File tmp = new File(dir, INDEX_FILE + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tmp)))))
+		{
+			out.writeInt(INDEX_MAGIC);
+			out.writeInt(generation);
+			out.writeInt(segments.size());
+			for (Segment segment : segments)
+			{
+				out.writeInt(segment.number);
+				out.writeLong(segment.length);
+				out.writeLong(segment.minTime);
+				out.writeLong(segment.maxTime);
+			}
+
+			out.writeInt(aggregates.size());
+			for (ConfigLoot loot : aggregates.values())
+			{
+				writeLoot(out, loot);
+			}
+		}
+
+		Files.move(tmp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		unindexed = 0;
+	}
+
+	private File segmentFile(int generation, int number)
+	{
+		return new File(dir, generation + "-" + number + SEGMENT_SUFFIX);
+	}
+
+	private static int parseGeneration(String name)
+	{
+		try
+		{
+			return Integer.parseInt(name.substring(0, name.indexOf('-')));
+		}
+		catch (IndexOutOfBoundsException | NumberFormatException ex)
+		{
+			return -1;
+		}
+	}
+
+	private static void merge(ConfigLoot into, ConfigLoot loot)
+	{
+		into.kills += loot.kills;
+		for (int i = 0; i < loot.drops.length; i += 2)
+		{
+			into.add(loot.drops[i], loot.drops[i + 1]);
+		}
+		if (into.first == null || loot.first.isBefore(into.first))
+		{
+			into.first = loot.first;
+		}
+		if (into.last == null || loot.last.isAfter(into.last))
+		{
+			into.last = loot.last;
+		}
+	}
+
+	private static ConfigLoot copy(ConfigLoot loot)
+	{
+		ConfigLoot copy = new ConfigLoot(loot.type, loot.name);
+		copy.kills = loot.kills;
+		copy.first = loot.first;
+		copy.last = loot.last;
+		copy.drops = loot.drops.clone();
+		return copy;
+	}
+
+	private static void writeLoot(DataOutput out, ConfigLoot loot) throws IOException
+	{
+		out.writeUTF(loot.type.name());
+		out.writeUTF(loot.name);
+		out.writeLong(loot.first.toEpochMilli());
+		out.writeLong(loot.last.toEpochMilli());
+		out.writeInt(loot.kills);
+		out.writeInt(loot.drops.length);
+		for (int v : loot.drops)
+		{
+			out.writeInt(v);
+		}
+	}
+
+	private static ConfigLoot readLoot(DataInput in) throws IOException
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.valueOf(in.readUTF()), in.readUTF());
+		loot.first = Instant.ofEpochMilli(in.readLong());
+		loot.last = Instant.ofEpochMilli(in.readLong());
+		loot.kills = in.readInt();
+		int length = in.readInt();
+		if (length < 0 || (length & 1) != 0 || length > MAX_RECORD_SIZE)
+		{
+			throw new IOException("invalid drops length " + length);
+		}
+		loot.drops = new int[length];
+		for (int i = 0; i < length; ++i)
+		{
+			loot.drops[i] = in.readInt();
+		}
+		return loot;
+	}
+}
@@ -24,88 +24,48 @@
  */
 package net.runelite.client.plugins.loottracker;
 
-import com.google.gson.Gson;
-import java.io.IOException;
 import java.util.Collection;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.http.api.RuneLiteAPI;
-import static net.runelite.http.api.RuneLiteAPI.JSON;
+import net.runelite.client.UploadSpool;
+import net.runelite.client.account.AccountSession;
 import net.runelite.http.api.loottracker.LootRecord;
-import okhttp3.Call;
-import okhttp3.Callback;
 import okhttp3.HttpUrl;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
 
 @Slf4j
 public class LootTrackerClient
 {
-	private final OkHttpClient client;
+	private final UploadSpool uploadSpool;
 	private final HttpUrl apiBase;
-	private final Gson gson;
 
 	@Getter
 	@Setter
-	private UUID uuid;
+	private AccountSession accountSession;
 
 	@Inject
-	private LootTrackerClient(OkHttpClient client, @Named("runelite.api.base") HttpUrl apiBase, Gson gson)
+	private LootTrackerClient(UploadSpool uploadSpool, @Named("runelite.api.base") HttpUrl apiBase)
 	{
-		this.client = client;
+		this.uploadSpool = uploadSpool;
 		this.apiBase = apiBase;
-		this.gson = gson;
 	}
 
+	/**
+	 * Queue loot to be submitted. Loot is spooled to disk and sent in the background, so it is not
+	 * lost if the submission fails. Loot for an account is sent once that account is logged in.
+	 *
+	 * @param lootRecords the loot
+	 * @return a future which is completed once the loot has been spooled, not once the server has accepted it
+	 */
 	public CompletableFuture<Void> submit(Collection<LootRecord> lootRecords)
 	{
-		CompletableFuture<Void> future = new CompletableFuture<>();
-
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("loottracker")
 			.build();
 
-		Request.Builder requestBuilder = new Request.Builder();
-		if (uuid != null)
-		{
-			requestBuilder.header(RuneLiteAPI.RUNELITE_AUTH, uuid.toString());
-		}
-		requestBuilder.post(RequestBody.create(JSON, gson.toJson(lootRecords)))
-			.url(url)
-			.build();
-
-		client.newCall(requestBuilder.build()).enqueue(new Callback()
-		{
-			@Override
-			public void onFailure(Call call, IOException e)
-			{
-				log.warn("unable to submit loot", e);
-				future.completeExceptionally(e);
-			}
-
-			@Override
-			public void onResponse(Call call, Response response)
-			{
-				if (response.isSuccessful())
-				{
-					log.debug("Submitted loot");
-				}
-				else
-				{
-					log.warn("Error submitting loot: {} - {}", response.code(), response.message());
-				}
-				response.close();
-				future.complete(null);
-			}
-		});
-
-		return future;
+		return uploadSpool.post(url, accountSession, lootRecords);
 	}
 }
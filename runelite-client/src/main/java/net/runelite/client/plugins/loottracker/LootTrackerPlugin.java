@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,6 +37,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -90,7 +91,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
-import net.runelite.client.account.AccountSession;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatColorType;
@@ -126,7 +127,7 @@ import org.apache.commons.text.WordUtils;
 
 @PluginDescriptor(
 	name = "Loot Tracker",
-	description = "Tracks loot from monsters and minigames",
+	description = "Tracks loot from monsters and minigames. Loot history is stored on this computer and is not synced to your profile",
 	tags = {"drops"}
 )
 @Slf4j
@@ -134,6 +135,8 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
+	private static final String MIGRATED_FILE = "migrated";
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -390,6 +393,7 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootStore lootStore;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -429,15 +433,7 @@ public class LootTrackerPlugin extends Plugin
 	@Subscribe
 	public void onSessionOpen(SessionOpen sessionOpen)
 	{
-		AccountSession accountSession = sessionManager.getAccountSession();
-		if (accountSession.getUuid() != null)
-		{
-			lootTrackerClient.setUuid(accountSession.getUuid());
-		}
-		else
-		{
-			lootTrackerClient.setUuid(null);
-		}
+		lootTrackerClient.setAccountSession(sessionManager.getAccountSession());
 	}
 
 	@Subscribe
@@ -446,7 +442,7 @@ public class LootTrackerPlugin extends Plugin
 		// session close is fired after the config has been synced and the
 		// session has been invalidated, so it is too late to submit loot
 		// if there is any.
-		lootTrackerClient.setUuid(null);
+		lootTrackerClient.setAccountSession(null);
 	}
 
 	@Subscribe
@@ -480,6 +476,13 @@ public class LootTrackerPlugin extends Plugin
 			submitLoot();
 
 			this.profileKey = profileKey;
+			if (lootStore != null)
+			{
+				lootStore.close();
+			}
+			File lootDir = new File(LOOT_DIR, profileKey);
+			lootStore = new LootStore(lootDir);
+			migrateLootConfig(lootStore, lootDir, profileKey);
 
 			log.debug("Switched to profile {}", profileKey);
 
@@ -488,32 +491,16 @@ public class LootTrackerPlugin extends Plugin
 				return;
 			}
 
+			int expired = lootStore.expire(Instant.now().minus(MAX_AGE));
+			if (expired > 0)
+			{
+				log.debug("Removed {} old loot records", expired);
+			}
+
 			int drops = 0;
 			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			for (ConfigLoot configLoot : lootStore.getAll())
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
-				if (configLoot.last.isBefore(old))
-				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
 				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
 				{
 					// fast drop
@@ -556,6 +543,69 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
+	/**
+	 * Copy loot stored in the profile config into the loot store. The config is synced between machines, and
+	 * may still be used by other clients, so it is left in place and the migration is recorded per machine.
+	 */
+	private void migrateLootConfig(LootStore store, File dir, String profileKey)
+	{
+		File migrated = new File(dir, MIGRATED_FILE);
+		if (migrated.exists())
+		{
+			return;
+		}
+
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
+
+		List<ConfigLoot> loots = new ArrayList<>(keys.size());
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			try
+			{
+				ConfigLoot configLoot = gson.fromJson(json, ConfigLoot.class);
+				if (configLoot != null && configLoot.type != null && configLoot.name != null)
+				{
+					if (configLoot.drops == null)
+					{
+						configLoot.drops = new int[0];
+					}
+					if (configLoot.last == null)
+					{
+						configLoot.last = Instant.now();
+					}
+					if (configLoot.first == null || configLoot.first.isAfter(configLoot.last))
+					{
+						configLoot.first = configLoot.last;
+					}
+					loots.add(configLoot);
+				}
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Skipping loot with malformed json: {}", json, ex);
+			}
+		}
+
+		store.append(loots);
+		store.close();
+
+		try
+		{
+			migrated.createNewFile();
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to record loot migration", ex);
+		}
+
+		log.info("Migrated {} loot records from config", loots.size());
+	}
+
 	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
 	{
 		int idx = Collections.binarySearch(list, value, c);
@@ -600,11 +650,7 @@ public class LootTrackerPlugin extends Plugin
 
 		clientToolbar.addNavigation(navButton);
 
-		AccountSession accountSession = sessionManager.getAccountSession();
-		if (accountSession != null)
-		{
-			lootTrackerClient.setUuid(accountSession.getUuid());
-		}
+		lootTrackerClient.setAccountSession(sessionManager.getAccountSession());
 
 		String profileKey = configManager.getRSProfileKey();
 		if (profileKey != null)
@@ -617,8 +663,16 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		executor.execute(() ->
+		{
+			if (lootStore != null)
+			{
+				lootStore.close();
+				lootStore = null;
+			}
+		});
 		clientToolbar.removeNavigation(navButton);
-		lootTrackerClient.setUuid(null);
+		lootTrackerClient.setAccountSession(null);
 		chestLooted = false;
 	}
 
@@ -1403,26 +1457,20 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
+		LootStore store = lootStore;
+		if (store == null)
+		{
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
 		Instant now = Instant.now();
 		Collection<ConfigLoot> combinedRecords = combine(records);
 		for (ConfigLoot record : combinedRecords)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
-			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			record.first = record.last = now;
 		}
+		store.append(combinedRecords);
 	}
 
 	private void resetEvent()
@@ -1665,59 +1713,38 @@ public class LootTrackerPlugin extends Plugin
 
 	ConfigLoot getLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to get loot with no profile!");
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		return store.get(type, name);
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to remove loot with no profile!");
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		// removing loot rewrites the log
+		executor.execute(() -> store.remove(type, name));
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
-		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
-		}
+		executor.execute(store::clear);
 	}
 }
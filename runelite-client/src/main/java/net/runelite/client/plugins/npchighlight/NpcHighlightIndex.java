@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.npchighlight;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import net.runelite.client.util.WildcardMatcher;
+
+/**
+ * Caches whether an NPC name matches the configured highlight patterns, by NPC id.
+ * <p>
+ * The verdicts are invalidated by bumping the pattern set version whenever the highlights change,
+ * rather than by rescanning the cache.
+ */
+class NpcHighlightIndex
+{
+	@AllArgsConstructor
+	private static class Verdict
+	{
+		String name;
+		int version;
+		boolean matches;
+	}
+
+	private final Map<Integer, Verdict> verdicts = new HashMap<>();
+	private List<String> highlights = Collections.emptyList();
+	private List<Pattern> patterns = Collections.emptyList();
+	private int version;
+
+	/**
+	 * Sets the highlight patterns.
+	 *
+	 * @return true if the patterns differ from the previous ones
+	 */
+	boolean setHighlights(List<String> highlights)
+	{
+		if (highlights.equals(this.highlights))
+		{
+			return false;
+		}
+
+		List<Pattern> patterns = new ArrayList<>(highlights.size());
+		for (String highlight : highlights)
+		{
+			patterns.add(WildcardMatcher.compile(highlight));
+		}
+
+		this.highlights = highlights;
+		this.patterns = patterns;
+		++version;
+		return true;
+	}
+
+	/**
+	 * Tests whether an NPC name matches any of the highlight patterns.
+	 *
+	 * @param id the NPC id, which the result is cached by
+	 * @param name the NPC name
+	 */
+	boolean matches(int id, String name)
+	{
+		Verdict verdict = verdicts.get(id);
+		// the name is checked too as the id does not account for transforms
+		if (verdict != null && verdict.version == version && verdict.name.equals(name))
+		{
+			return verdict.matches;
+		}
+
+		boolean matches = false;
+		for (Pattern pattern : patterns)
+		{
+			if (pattern.matcher(name).matches())
+			{
+				matches = true;
+				break;
+			}
+		}
+
+		if (verdict == null)
+		{
+			verdicts.put(id, new Verdict(name, version, matches));
+		}
+		else
+		{
+			verdict.name = name;
+			verdict.version = version;
+			verdict.matches = matches;
+		}
+		return matches;
+	}
+
+	void clear()
+	{
+		verdicts.clear();
+		highlights = Collections.emptyList();
+		patterns = Collections.emptyList();
+		++version;
+	}
+}
@@ -161,6 +161,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Cached highlight pattern matches by NPC id
+	 */
+	private final NpcHighlightIndex highlightIndex = new NpcHighlightIndex();
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -238,6 +243,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			teleportGraphicsObjectSpawnedThisTick.clear();
 			npcTags.clear();
 			highlightedNpcs.clear();
+			highlightIndex.clear();
 		});
 	}
 
@@ -527,7 +533,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			if (exists)
 			{
 				npcTags.remove(id);
-				if (!highlightMatchesNPCName(npc.getName()))
+				if (!highlightMatchesNPC(npc))
 				{
 					highlightedNpcs.remove(npc);
 					memorizedNpcs.remove(npc.getIndex());
@@ -579,7 +585,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		if (highlightMatchesNPCName(npcName))
+		if (highlightMatchesNPC(npc))
 		{
 			highlightedNpcs.put(npc, highlightedNpc(npc));
 			if (!client.isInInstancedRegion())
@@ -617,7 +623,7 @@ public class NpcIndicatorsPlugin extends Plugin
 		}
 
 		if (npcTags.contains(npc.getIndex())
-			|| highlightMatchesNPCName(npcName))
+			|| highlightMatchesNPC(npc))
 		{
 			highlightedNpcs.put(npc, highlightedNpc(npc));
 		}
@@ -717,6 +723,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightIndex.setHighlights(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -749,7 +756,7 @@ public class NpcIndicatorsPlugin extends Plugin
 				continue;
 			}
 
-			if (highlightMatchesNPCName(npcName))
+			if (highlightMatchesNPC(npc))
 			{
 				if (!wv.isInstance())
 				{
@@ -769,17 +776,9 @@ public class NpcIndicatorsPlugin extends Plugin
 		}
 	}
 
-	private boolean highlightMatchesNPCName(String npcName)
+	private boolean highlightMatchesNPC(NPC npc)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightIndex.matches(npc.getId(), npc.getName());
 	}
 
 	private void validateSpawnedNpcs()
@@ -28,20 +28,14 @@ package net.runelite.client.plugins.objectindicators;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
@@ -61,7 +55,6 @@ import net.runelite.api.Scene;
 import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
-import net.runelite.api.WorldEntity;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.DecorativeObjectDespawned;
@@ -73,12 +66,14 @@ import net.runelite.api.events.GroundObjectSpawned;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.api.events.WallObjectSpawned;
-import net.runelite.api.events.WorldViewLoaded;
 import net.runelite.api.events.WorldViewUnloaded;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ConfigSync;
 import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.RegionMarkerStore;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_CLICKBOX;
@@ -105,7 +100,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 	@Getter(AccessLevel.PACKAGE)
 	private final List<ColorTileObject> objects = new ArrayList<>();
-	private final Map<Integer, Set<ObjectPoint>> points = new HashMap<>();
+	private RegionMarkerStore<ObjectPoint> points;
 
 	@Inject
 	private Client client;
@@ -131,6 +126,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
 	@Provides
 	ObjectIndicatorsConfig provideConfig(ConfigManager configManager)
 	{
@@ -140,22 +138,39 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
+		// Prior to multiloc support the plugin would mark objects named "null", which breaks
+		// in most cases due to the specific object being identified being ambiguous, so remove
+		// them
+		points = new RegionMarkerStore<>(configManager, gson, executor, CONFIG_GROUP, ObjectPoint.class,
+			p -> RegionMarkerStore.packTile(p.getRegionX(), p.getRegionY(), p.getZ()),
+			p -> !"null".equals(p.getName()));
 		overlayManager.add(overlay);
-		clientThread.invokeLater(() -> loadPoints());
 	}
 
 	@Override
 	protected void shutDown()
 	{
 		overlayManager.remove(overlay);
-		points.clear();
+		points.flush();
 		objects.clear();
 	}
 
+	@Subscribe
+	public void onConfigSync(ConfigSync e)
+	{
+		points.flush();
+	}
+
 	@Subscribe
 	public void onProfileChanged(ProfileChanged e)
 	{
-		clientThread.invokeLater(() -> loadPoints());
+		points.invalidate();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged e)
+	{
+		points.configChanged(e);
 	}
 
 	@Subscribe
@@ -206,59 +221,11 @@ public class ObjectIndicatorsPlugin extends Plugin
 		objects.removeIf(o -> o.getTileObject() == event.getGroundObject());
 	}
 
-	private void loadPoints()
-	{
-		points.clear();
-
-		WorldView wv = client.getTopLevelWorldView();
-		if (wv == null)
-		{
-			return;
-		}
-
-		loadPoints(wv);
-
-		for (WorldEntity we : wv.worldEntities())
-		{
-			loadPoints(we.getWorldView());
-		}
-	}
-
-	private void loadPoints(WorldView wv)
-	{
-		int[] regions = wv.getMapRegions();
-		if (regions == null)
-		{
-			return;
-		}
-
-		for (int regionId : regions)
-		{
-			// load points for region
-			final Set<ObjectPoint> regionPoints = loadPoints(regionId);
-			if (regionPoints != null)
-			{
-				points.put(regionId, regionPoints);
-			}
-		}
-	}
-
-	@Subscribe
-	public void onWorldViewLoaded(WorldViewLoaded event)
-	{
-		loadPoints(event.getWorldView());
-	}
-
 	@Subscribe
 	public void onWorldViewUnloaded(WorldViewUnloaded event)
 	{
 		var wv = event.getWorldView();
 		objects.removeIf(c -> c.getTileObject().getWorldView() == wv);
-		// TODO remove points when the last boat using it despawns?
-		if (wv.isTopLevel())
-		{
-			Arrays.stream(wv.getMapRegions()).forEach(points::remove);
-		}
 	}
 
 	@Subscribe
@@ -479,28 +446,24 @@ public class ObjectIndicatorsPlugin extends Plugin
 			// use the default config values
 			null, null, null, null);
 
-		Set<ObjectPoint> objectPoints = points.computeIfAbsent(regionId, k -> new HashSet<>());
-
-		if (objectPoints.removeIf(findObjectPredicate(objectDefinition, object, worldPoint)))
+		if (points.removeIf(regionId, findObjectPredicate(objectDefinition, object, worldPoint)))
 		{
 			unmarkObjects(client.getTopLevelWorldView(), worldPoint, objectDefinition);
 			log.debug("Unmarking object: {}", point);
 		}
 		else
 		{
-			objectPoints.add(point);
+			points.add(regionId, point);
 			markObjects(client.getTopLevelWorldView(), worldPoint, objectDefinition);
 			log.debug("Marking object: {}", point);
 		}
-
-		savePoints(regionId, objectPoints);
 	}
 
 	private void updateObjectConfig(TileObject object, Consumer<ObjectPoint> c)
 	{
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation());
 		final int regionId = worldPoint.getRegionID();
-		Set<ObjectPoint> objectPoints = points.get(regionId);
+		List<ObjectPoint> objectPoints = points.getMarkers(regionId, worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane());
 		if (objectPoints.isEmpty())
 		{
 			return;
@@ -513,9 +476,14 @@ public class ObjectIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		c.accept(objectPoint);
+		// markers are shared with the store, so modify a copy
+		final ObjectPoint updated = new ObjectPoint(objectPoint.getId(), objectPoint.getName(), objectPoint.getRegionId(),
+			objectPoint.getRegionX(), objectPoint.getRegionY(), objectPoint.getZ(),
+			objectPoint.getBorderColor(), objectPoint.getFillColor(),
+			objectPoint.getHull(), objectPoint.getOutline(), objectPoint.getClickbox(), objectPoint.getTile());
+		c.accept(updated);
 
-		savePoints(regionId, objectPoints);
+		points.replace(regionId, objectPoint, updated);
 
 		// rebuild the ColorTileObject from the new config
 		for (ColorTileObject o : new ArrayList<>(objects))
@@ -537,9 +505,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 		}
 
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation(), object.getPlane());
-		final Set<ObjectPoint> objectPoints = points.get(worldPoint.getRegionID());
+		final List<ObjectPoint> objectPoints = points.getMarkers(worldPoint.getRegionID(), worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane());
 
-		if (objectPoints == null)
+		if (objectPoints.isEmpty())
 		{
 			return;
 		}
@@ -558,10 +526,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 		for (ObjectPoint objectPoint : objectPoints)
 		{
-			if (worldPoint.getRegionX() == objectPoint.getRegionX()
-					&& worldPoint.getRegionY() == objectPoint.getRegionY()
-					&& worldPoint.getPlane() == objectPoint.getZ()
-					&& objectPoint.getId() == object.getId())
+			if (objectPoint.getId() == object.getId())
 			{
 				log.debug("Marking object {} due to matching {}", object, objectPoint);
 				var flags =
@@ -708,39 +673,6 @@ public class ObjectIndicatorsPlugin extends Plugin
 			&& op.getZ() == worldPoint.getPlane();
 	}
 
-	private void savePoints(final int id, final Set<ObjectPoint> points)
-	{
-		if (points.isEmpty())
-		{
-			configManager.unsetConfiguration(CONFIG_GROUP, "region_" + id);
-		}
-		else
-		{
-			final String json = gson.toJson(points);
-			configManager.setConfiguration(CONFIG_GROUP, "region_" + id, json);
-		}
-	}
-
-	private Set<ObjectPoint> loadPoints(final int id)
-	{
-		final String json = configManager.getConfiguration(CONFIG_GROUP, "region_" + id);
-
-		if (Strings.isNullOrEmpty(json))
-		{
-			return null;
-		}
-
-		Set<ObjectPoint> points = gson.fromJson(json, new TypeToken<Set<ObjectPoint>>()
-		{
-		}.getType());
-		// Prior to multiloc support the plugin would mark objects named "null", which breaks
-		// in most cases due to the specific object being identified being ambiguous, so remove
-		// them
-		return points.stream()
-			.filter(point -> !point.getName().equals("null"))
-			.collect(Collectors.toSet());
-	}
-
 	@Nullable
 	private ObjectComposition getObjectComposition(int id)
 	{
@@ -753,19 +685,15 @@ public class ObjectIndicatorsPlugin extends Plugin
 		List<Color> colors = new ArrayList<>();
 		for (int region : client.getMapRegions())
 		{
-			var points = this.points.get(region);
-			if (points != null)
+			for (var p : points.getMarkers(region))
 			{
-				for (var p : points)
+				Color c = getColor.apply(p);
+				if (c != null & !colors.contains(c))
 				{
-					Color c = getColor.apply(p);
-					if (c != null & !colors.contains(c))
+					colors.add(c);
+					if (colors.size() >= 5)
 					{
-						colors.add(c);
-						if (colors.size() >= 5)
-						{
-							return colors;
-						}
+						return colors;
 					}
 				}
 			}
@@ -26,13 +26,11 @@ package net.runelite.client.plugins.poh;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Provides;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -64,7 +62,6 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.hiscore.HiscoreEndpoint;
-import net.runelite.client.hiscore.HiscoreResult;
 import net.runelite.client.hiscore.Skill;
 
 @PluginDescriptor(
@@ -93,9 +90,6 @@ public class PohPlugin extends Plugin
 	@Inject
 	private Client client;
 
-	@Inject
-	private ScheduledExecutorService executor;
-
 	@Inject
 	private HiscoreManager hiscoreManager;
 
@@ -224,25 +218,22 @@ public class PohPlugin extends Plugin
 
 	private void lookupPlayer(String playerName, IncenseBurner incenseBurner)
 	{
-		executor.execute(() ->
+		hiscoreManager.fetch(playerName, HiscoreEndpoint.NORMAL).whenComplete((playerStats, ex) ->
 		{
-			try
+			if (ex != null)
 			{
-				final HiscoreResult playerStats = hiscoreManager.lookup(playerName, HiscoreEndpoint.NORMAL);
-
-				if (playerStats == null)
-				{
-					return;
-				}
-
-				final Skill fm = playerStats.getSkill(HiscoreSkill.FIREMAKING);
-				final int level = fm.getLevel();
-				updateBurner(incenseBurner, Math.max(level, 1));
+				log.warn("Error fetching Hiscore data " + ex.getMessage());
+				return;
 			}
-			catch (IOException e)
+
+			if (playerStats == null)
 			{
-				log.warn("Error fetching Hiscore data " + e.getMessage());
+				return;
 			}
+
+			final Skill fm = playerStats.getSkill(HiscoreSkill.FIREMAKING);
+			final int level = fm.getLevel();
+			updateBurner(incenseBurner, Math.max(level, 1));
 		});
 	}
 
@@ -33,6 +33,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.util.Arrays;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -45,14 +46,17 @@ import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.widgets.Widget;
+import net.runelite.client.RuneLite;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PackedIDAStar;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -73,6 +77,8 @@ public class PuzzleSolverOverlay extends Overlay
 	private static final int DOT_MARKER_MAX_SIZE = 24;
 	private static final int DOT_MARKER_MIN_SIZE = 4;
 
+	private static final File PATTERN_DATABASE_FILE = new File(RuneLite.CACHE_DIR, "puzzlesolver.pdb");
+
 	private final Client client;
 	private final PuzzleSolverConfig config;
 	private final ScheduledExecutorService executorService;
@@ -81,6 +87,7 @@ public class PuzzleSolverOverlay extends Overlay
 	private PuzzleSolver solver;
 	private Future<?> solverFuture;
 	private int[] cachedItems;
+	private volatile PatternDatabase patternDatabase;
 
 	private BufferedImage upArrow;
 	private BufferedImage leftArrow;
@@ -447,7 +454,10 @@ public class PuzzleSolverOverlay extends Overlay
 
 		if (useNormalSolver)
 		{
-			solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+			final PatternDatabase patternDatabase = this.patternDatabase;
+			solver = new PuzzleSolver(patternDatabase != null
+				? new PackedIDAStar(patternDatabase)
+				: new IDAStar(new ManhattanDistance()), puzzleState);
 		}
 		else
 		{
@@ -457,6 +467,14 @@ public class PuzzleSolverOverlay extends Overlay
 		solverFuture = executorService.submit(solver);
 	}
 
+	void loadPatternDatabase()
+	{
+		if (patternDatabase == null)
+		{
+			executorService.execute(() -> patternDatabase = PatternDatabase.load(PATTERN_DATABASE_FILE));
+		}
+	}
+
 	private BufferedImage getDownArrow()
 	{
 		return spriteManager.getSprite(SpriteID.MAPMARKER, 1);
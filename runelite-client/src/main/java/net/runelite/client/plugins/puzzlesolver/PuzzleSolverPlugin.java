@@ -78,6 +78,7 @@ public class PuzzleSolverPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		overlayManager.add(overlay);
+		overlay.loadPatternDatabase();
 	}
 
 	@Override
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An additive, disjoint pattern database heuristic.
+ * <p>
+ * The tiles are split into groups, and for every placement of a group's tiles the table holds
+ * the number of moves of that group's tiles needed to solve them, ignoring all other tiles and
+ * the blank. Since every move moves exactly one tile, the values of the groups can be summed
+ * and still never overestimate. This dominates the Manhattan distance, because it also accounts
+ * for tiles of the same group having to move around each other.
+ * <p>
+ * A table entry is indexed by the cells of the group's tiles, as base {@link #CELLS} digits,
+ * the first tile being the most significant.
+ *
+ * https://en.wikipedia.org/wiki/Pattern_database
+ */
+@Slf4j
+public class PatternDatabase implements Heuristic
+{
+	public static final int CELLS = DIMENSION * DIMENSION;
+
+	/**
+	 * The tile groups, chosen to be compact in the goal state
+	 */
+	public static final int[][] GROUPS = {
+		{0, 1, 5, 6},
+		{2, 3, 4, 7},
+		{8, 9, 13, 14},
+		{10, 11, 15, 20},
+		{12, 16, 17, 21},
+		{18, 19, 22, 23},
+	};
+
+	private static final int MAGIC = 0x50444231; // PDB1
+	private static final int VERSION = 1;
+	private static final byte UNSET = -1;
+
+	private static final int[] DX = {-1, 1, 0, 0};
+	private static final int[] DY = {0, 0, -1, 1};
+
+	private final byte[][] tables;
+
+	private PatternDatabase(byte[][] tables)
+	{
+		this.tables = tables;
+	}
+
+	/**
+	 * Load the pattern database from the given file, or compute it and
+	 * save it to the file if it does not exist or is not valid.
+	 *
+	 * @param file cache file
+	 * @return the pattern database
+	 */
+	public static PatternDatabase load(File file)
+	{
+		if (file.exists())
+		{
+			try
+			{
+				return read(file);
+			}
+			catch (IOException | RuntimeException ex)
+			{
+				log.warn("unable to read pattern database from {}", file, ex);
+			}
+		}
+
+		final PatternDatabase db = compute();
+
+		try
+		{
+			db.write(file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write pattern database to {}", file, ex);
+		}
+
+		return db;
+	}
+
+	public static PatternDatabase compute()
+	{
+		final byte[][] tables = new byte[GROUPS.length][];
+		for (int i = 0; i < GROUPS.length; ++i)
+		{
+			tables[i] = computeTable(GROUPS[i]);
+		}
+		return new PatternDatabase(tables);
+	}
+
+	/**
+	 * Get the value of a group from its table index
+	 *
+	 * @param group the group
+	 * @param index the table index
+	 * @return number of moves needed to solve the group
+	 */
+	public int value(int group, int index)
+	{
+		return tables[group][index];
+	}
+
+	/**
+	 * Get how much the table index of a group changes by when the tile in the given
+	 * slot of the group moves by one cell
+	 *
+	 * @param group the group
+	 * @param slot the slot of the tile in the group
+	 * @return the index weight of the slot
+	 */
+	public static int slotWeight(int group, int slot)
+	{
+		int weight = 1;
+		for (int i = GROUPS[group].length - 1; i > slot; --i)
+		{
+			weight *= CELLS;
+		}
+		return weight;
+	}
+
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		final int[] cells = new int[CELLS];
+		for (int y = 0; y < DIMENSION; ++y)
+		{
+			for (int x = 0; x < DIMENSION; ++x)
+			{
+				final int piece = state.getPiece(x, y);
+				if (piece != BLANK_TILE_VALUE)
+				{
+					cells[piece] = y * DIMENSION + x;
+				}
+			}
+		}
+
+		int value = 0;
+		for (int group = 0; group < GROUPS.length; ++group)
+		{
+			int index = 0;
+			for (int tile : GROUPS[group])
+			{
+				index = index * CELLS + cells[tile];
+			}
+			value += tables[group][index];
+		}
+		return value;
+	}
+
+	/**
+	 * Breadth first search outward from the goal placement of the group
+	 */
+	private static byte[] computeTable(int[] group)
+	{
+		final int k = group.length;
+		final int size = tableSize(k);
+
+		final byte[] table = new byte[size];
+		Arrays.fill(table, UNSET);
+
+		final int[] queue = new int[size];
+		int head = 0, tail = 0;
+
+		int goal = 0;
+		for (int tile : group)
+		{
+			goal = goal * CELLS + tile;
+		}
+		table[goal] = 0;
+		queue[tail++] = goal;
+
+		final int[] cells = new int[k];
+		while (head < tail)
+		{
+			final int index = queue[head++];
+			final byte dist = table[index];
+
+			int rem = index;
+			for (int i = k - 1; i >= 0; --i)
+			{
+				cells[i] = rem % CELLS;
+				rem /= CELLS;
+			}
+
+			int weight = 1;
+			for (int slot = k - 1; slot >= 0; --slot, weight *= CELLS)
+			{
+				final int cell = cells[slot];
+				final int x = cell % DIMENSION;
+				final int y = cell / DIMENSION;
+
+				for (int d = 0; d < DX.length; ++d)
+				{
+					final int nx = x + DX[d];
+					final int ny = y + DY[d];
+					if (nx < 0 || ny < 0 || nx >= DIMENSION || ny >= DIMENSION)
+					{
+						continue;
+					}
+
+					final int next = ny * DIMENSION + nx;
+					if (occupied(cells, next))
+					{
+						continue;
+					}
+
+					final int nextIndex = index + (next - cell) * weight;
+					if (table[nextIndex] == UNSET)
+					{
+						table[nextIndex] = (byte) (dist + 1);
+						queue[tail++] = nextIndex;
+					}
+				}
+			}
+		}
+
+		// placements with tiles sharing a cell are never reached, or looked up
+		for (int i = 0; i < size; ++i)
+		{
+			if (table[i] == UNSET)
+			{
+				table[i] = 0;
+			}
+		}
+
+		return table;
+	}
+
+	private static int tableSize(int tiles)
+	{
+		int size = 1;
+		for (int i = 0; i < tiles; ++i)
+		{
+			size *= CELLS;
+		}
+		return size;
+	}
+
+	private static boolean occupied(int[] cells, int cell)
+	{
+		for (int c : cells)
+		{
+			if (c == cell)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static PatternDatabase read(File file) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != GROUPS.length)
+			{
+				throw new IOException("pattern database header mismatch");
+			}
+
+			final byte[][] tables = new byte[GROUPS.length][];
+			for (int i = 0; i < GROUPS.length; ++i)
+			{
+				final int k = in.readInt();
+				if (k != GROUPS[i].length)
+				{
+					throw new IOException("pattern database group mismatch");
+				}
+
+				final int[] group = new int[k];
+				for (int j = 0; j < k; ++j)
+				{
+					group[j] = in.readInt();
+				}
+
+				if (!Arrays.equals(group, GROUPS[i]))
+				{
+					throw new IOException("pattern database group mismatch");
+				}
+
+				final int size = in.readInt();
+				if (size != tableSize(k))
+				{
+					throw new IOException("pattern database table size mismatch");
+				}
+
+				tables[i] = new byte[size];
+				in.readFully(tables[i]);
+
+				for (byte value : tables[i])
+				{
+					if (value < 0)
+					{
+						throw new IOException("pattern database has unset entries");
+					}
+				}
+			}
+			return new PatternDatabase(tables);
+		}
+	}
+
+	private void write(File file) throws IOException
+	{
+		file.getParentFile().mkdirs();
+
+		final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(GROUPS.length);
+			for (int i = 0; i < GROUPS.length; ++i)
+			{
+				out.writeInt(GROUPS[i].length);
+				for (int tile : GROUPS[i])
+				{
+					out.writeInt(tile);
+				}
+				out.writeInt(tables[i].length);
+				out.write(tables[i]);
+			}
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
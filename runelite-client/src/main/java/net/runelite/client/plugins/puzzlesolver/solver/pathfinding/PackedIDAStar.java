@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import static net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase.CELLS;
+import static net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase.GROUPS;
+
+/**
+ * An IDA* implementation which keeps a single board and makes and unmakes
+ * moves on it in place, rather than allocating a new {@link PuzzleState} for every
+ * expanded node. The board is packed 5 bits per cell, two rows per long, and the
+ * pattern database heuristic is updated incrementally as tiles move.
+ */
+public class PackedIDAStar extends Pathfinder
+{
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	private static final int CELLS_PER_WORD = 2 * DIMENSION;
+	private static final int BLANK = CELLS - 1;
+	private static final int MAX_DEPTH = 512;
+	private static final int INTERRUPT_CHECK_MASK = 0xffff;
+
+	// neighbours of each cell, -1 terminated
+	private static final int[][] NEIGHBOURS = new int[CELLS][];
+	// group and slot within the group of each tile
+	private static final int[] TILE_GROUP = new int[CELLS - 1];
+	private static final int[] TILE_WEIGHT = new int[CELLS - 1];
+
+	static
+	{
+		for (int cell = 0; cell < CELLS; ++cell)
+		{
+			final int x = cell % DIMENSION;
+			final int y = cell / DIMENSION;
+			final List<Integer> n = new ArrayList<>(4);
+			if (x > 0)
+			{
+				n.add(cell - 1);
+			}
+			if (x < DIMENSION - 1)
+			{
+				n.add(cell + 1);
+			}
+			if (y > 0)
+			{
+				n.add(cell - DIMENSION);
+			}
+			if (y < DIMENSION - 1)
+			{
+				n.add(cell + DIMENSION);
+			}
+			NEIGHBOURS[cell] = n.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		for (int group = 0; group < GROUPS.length; ++group)
+		{
+			for (int slot = 0; slot < GROUPS[group].length; ++slot)
+			{
+				final int tile = GROUPS[group][slot];
+				TILE_GROUP[tile] = group;
+				TILE_WEIGHT[tile] = PatternDatabase.slotWeight(group, slot);
+			}
+		}
+	}
+
+	private final PatternDatabase patternDatabase;
+
+	private final long[] board = new long[(CELLS + CELLS_PER_WORD - 1) / CELLS_PER_WORD];
+	private final int[] groupIndex = new int[GROUPS.length];
+	private final int[] path = new int[MAX_DEPTH];
+	private int blank;
+	private long nodes;
+	private boolean interrupted;
+
+	public PackedIDAStar(PatternDatabase patternDatabase)
+	{
+		super(patternDatabase);
+		this.patternDatabase = patternDatabase;
+	}
+
+	/**
+	 * Get the number of nodes expanded by the last search
+	 */
+	public long getNodes()
+	{
+		return nodes;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		final int[] pieces = new int[CELLS];
+		for (int y = 0; y < DIMENSION; ++y)
+		{
+			for (int x = 0; x < DIMENSION; ++x)
+			{
+				pieces[y * DIMENSION + x] = root.getPiece(x, y);
+			}
+		}
+
+		if (!isSolvable(pieces))
+		{
+			return null;
+		}
+
+		load(pieces);
+
+		nodes = 0;
+		interrupted = false;
+
+		int h = 0;
+		for (int group = 0; group < GROUPS.length; ++group)
+		{
+			h += patternDatabase.value(group, groupIndex[group]);
+		}
+
+		int depth = -1;
+		for (int bound = h; bound < MAX_DEPTH; )
+		{
+			final int t = search(0, bound, h, -1);
+			if (t < 0)
+			{
+				depth = -t - 1;
+				break;
+			}
+			if (interrupted || t == Integer.MAX_VALUE)
+			{
+				return null;
+			}
+			bound = t;
+		}
+
+		if (depth < 0)
+		{
+			return null;
+		}
+
+		// Replay the blank moves to build the states
+		final List<PuzzleState> states = new ArrayList<>(depth + 1);
+		states.add(root);
+
+		int empty = root.getEmptyPiece();
+		for (int i = 0; i < depth; ++i)
+		{
+			final int next = path[i];
+			pieces[empty] = pieces[next];
+			pieces[next] = BLANK_TILE_VALUE;
+			empty = next;
+			states.add(new PuzzleState(Arrays.copyOf(pieces, pieces.length)));
+		}
+
+		return states;
+	}
+
+	/**
+	 * Depth first search bounded by f = g + h
+	 *
+	 * @return -(depth + 1) if the goal was reached, otherwise the smallest f which exceeded the bound
+	 */
+	private int search(int g, int bound, int h, int prevBlank)
+	{
+		final int f = g + h;
+		if (f > bound)
+		{
+			return f;
+		}
+
+		if (h == 0)
+		{
+			return -(g + 1);
+		}
+
+		if ((++nodes & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted())
+		{
+			interrupted = true;
+		}
+
+		if (interrupted)
+		{
+			return Integer.MAX_VALUE;
+		}
+
+		int min = Integer.MAX_VALUE;
+		final int from = blank;
+		for (int next : NEIGHBOURS[from])
+		{
+			if (next == prevBlank)
+			{
+				continue;
+			}
+
+			// make: the tile at next slides into the blank
+			final int tile = get(next);
+			final int group = TILE_GROUP[tile];
+			final int oldIndex = groupIndex[group];
+			final int newIndex = oldIndex + (from - next) * TILE_WEIGHT[tile];
+			final int newH = h - patternDatabase.value(group, oldIndex) + patternDatabase.value(group, newIndex);
+
+			set(from, tile);
+			set(next, BLANK);
+			groupIndex[group] = newIndex;
+			blank = next;
+			path[g] = next;
+
+			final int t = search(g + 1, bound, newH, from);
+
+			// unmake
+			blank = from;
+			groupIndex[group] = oldIndex;
+			set(next, tile);
+			set(from, BLANK);
+
+			if (t < 0)
+			{
+				return t;
+			}
+			if (t < min)
+			{
+				min = t;
+			}
+		}
+
+		return min;
+	}
+
+	private void load(int[] pieces)
+	{
+		Arrays.fill(board, 0L);
+
+		final int[] cells = new int[CELLS];
+		for (int cell = 0; cell < CELLS; ++cell)
+		{
+			final int piece = pieces[cell];
+			if (piece == BLANK_TILE_VALUE)
+			{
+				set(cell, BLANK);
+				blank = cell;
+			}
+			else
+			{
+				set(cell, piece);
+				cells[piece] = cell;
+			}
+		}
+
+		for (int group = 0; group < GROUPS.length; ++group)
+		{
+			int index = 0;
+			for (int tile : GROUPS[group])
+			{
+				index = index * CELLS + cells[tile];
+			}
+			groupIndex[group] = index;
+		}
+	}
+
+	private int get(int cell)
+	{
+		final int shift = (cell % CELLS_PER_WORD) * BITS;
+		return (int) (board[cell / CELLS_PER_WORD] >>> shift) & MASK;
+	}
+
+	private void set(int cell, int value)
+	{
+		final int word = cell / CELLS_PER_WORD;
+		final int shift = (cell % CELLS_PER_WORD) * BITS;
+		board[word] = (board[word] & ~((long) MASK << shift)) | ((long) value << shift);
+	}
+
+	/**
+	 * On an odd width board a state is solvable if and only if the number of inversions is even
+	 */
+	private static boolean isSolvable(int[] pieces)
+	{
+		int inversions = 0;
+		for (int i = 0; i < pieces.length; ++i)
+		{
+			if (pieces[i] == BLANK_TILE_VALUE)
+			{
+				continue;
+			}
+
+			for (int j = i + 1; j < pieces.length; ++j)
+			{
+				if (pieces[j] != BLANK_TILE_VALUE && pieces[j] < pieces[i])
+				{
+					++inversions;
+				}
+			}
+		}
+		return inversions % 2 == 0;
+	}
+}
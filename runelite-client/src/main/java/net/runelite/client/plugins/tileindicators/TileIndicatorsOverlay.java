@@ -47,6 +47,14 @@ public class TileIndicatorsOverlay extends Overlay
 	private final Client client;
 	private final TileIndicatorsConfig config;
 
+	// Scratch space for projecting a tile, reused between frames
+	private final int[] tileX = new int[1];
+	private final int[] tileY = new int[1];
+	private final int[] cornerX = new int[4];
+	private final int[] cornerY = new int[4];
+	private final int[] cornerZ = new int[4];
+	private final Polygon poly = new Polygon();
+
 	@Inject
 	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config)
 	{
@@ -108,13 +116,26 @@ public class TileIndicatorsOverlay extends Overlay
 			return;
 		}
 
-		final Polygon poly = Perspective.getCanvasTilePoly(client, dest);
+		final WorldView wv = client.getWorldView(dest.getWorldView());
+		if (wv == null)
+		{
+			return;
+		}
 
-		if (poly == null)
+		tileX[0] = dest.getX();
+		tileY[0] = dest.getY();
+		Perspective.getCanvasTileAreaPolys(client, wv, 1, tileX, tileY, 1, 1, -1, 0, cornerX, cornerY, cornerZ);
+		if (cornerX[0] == Integer.MIN_VALUE)
 		{
 			return;
 		}
 
+		poly.reset();
+		for (int i = 0; i < 4; i++)
+		{
+			poly.addPoint(cornerX[i], cornerY[i]);
+		}
+
 		OverlayUtil.renderPolygon(graphics, poly, color, fillColor, new BasicStroke((float) borderWidth));
 	}
 }
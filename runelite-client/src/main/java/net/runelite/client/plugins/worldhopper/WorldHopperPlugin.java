@@ -31,6 +31,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.FileDescriptor;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -84,6 +85,7 @@ import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.PingEngine;
 import net.runelite.client.plugins.worldhopper.ping.RetransmitCalculator;
 import net.runelite.client.plugins.worldhopper.ping.TCPInfo;
 import net.runelite.client.ui.ClientToolbar;
@@ -168,6 +170,8 @@ public class WorldHopperPlugin extends Plugin
 
 	private final Map<Integer, Integer> storedPings = new HashMap<>();
 
+	private final PingEngine pingEngine = new PingEngine();
+
 	final RetransmitCalculator retransmitCalculator = new RetransmitCalculator();
 
 	private final HotkeyListener previousKeyListener = new HotkeyListener(() -> config.previousKey())
@@ -833,7 +837,7 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds. This is only run on first run, and pings many worlds concurrently.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -845,10 +849,17 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
+		try
 		{
-			int ping = ping(world, false);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			pingEngine.pingWorlds(worldResult.getWorlds(), (world, ping) ->
+			{
+				storedPings.put(world.getId(), ping);
+				SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			});
+		}
+		catch (IOException ex)
+		{
+			log.warn("error pinging worlds", ex);
 		}
 
 		stopwatch.stop();
@@ -931,10 +942,11 @@ public class WorldHopperPlugin extends Plugin
 			}
 		}
 
-		if (ping < 0)
+		if (ping < 0 && rtt >= 0)
 		{
-			ping = rtt; // use rtt for ping if icmp is blocked
-			storedPings.put(currentWorld.getId(), rtt);
+			// use rtt for ping if icmp is blocked. The kernel's rtt already excludes retransmitted segments.
+			ping = pingEngine.record(currentWorld.getId(), rtt);
+			storedPings.put(currentWorld.getId(), ping);
 		}
 
 		if (ping < 0)
@@ -962,7 +974,7 @@ public class WorldHopperPlugin extends Plugin
 
 	private int ping(World world, boolean isCurrentWorld)
 	{
-		int ping = Ping.ping(world, !isCurrentWorld);
+		int ping = pingEngine.record(world.getId(), Ping.ping(world, !isCurrentWorld));
 		storedPings.put(world.getId(), ping);
 		return ping;
 	}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjIntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings many worlds at once using non-blocking TCP connect probes, and keeps a smoothed
+ * round trip estimate per world.
+ */
+@Slf4j
+public class PingEngine
+{
+	private static final int DEFAULT_MAX_IN_FLIGHT = 32;
+	private static final int DEFAULT_TIMEOUT = 2000; // ms
+	/**
+	 * Initial SYN retransmission timeout. A connect which takes longer than this has most likely
+	 * had its SYN retransmitted, so its time is not a round trip sample (Karn's algorithm).
+	 */
+	private static final int SYN_RTO = 1000; // ms
+	/**
+	 * EWMA gain, as a shift. 3 is the 1/8 gain TCP uses for its smoothed RTT.
+	 */
+	private static final int GAIN_SHIFT = 3;
+
+	private final int maxInFlight;
+	private final long timeoutNanos;
+	// world id -> smoothed rtt in ms, scaled by 1 << GAIN_SHIFT
+	private final Map<Integer, Integer> estimates = new ConcurrentHashMap<>();
+
+	public PingEngine()
+	{
+		this(DEFAULT_MAX_IN_FLIGHT, DEFAULT_TIMEOUT);
+	}
+
+	public PingEngine(int maxInFlight, int timeoutMs)
+	{
+		if (maxInFlight <= 0)
+		{
+			throw new IllegalArgumentException("maxInFlight must be positive");
+		}
+
+		this.maxInFlight = maxInFlight;
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+	}
+
+	/**
+	 * Ping all of the given worlds, folding the results into the smoothed estimates.
+	 *
+	 * @param worlds worlds to ping
+	 * @param listener called on the calling thread with each world and its smoothed ping,
+	 *                 or -1 if it could not be reached
+	 */
+	public void pingWorlds(Collection<World> worlds, ObjIntConsumer<World> listener) throws IOException
+	{
+		Map<World, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (World world : worlds)
+		{
+			InetAddress inetAddress;
+			try
+			{
+				inetAddress = InetAddress.getByName(world.getAddress());
+			}
+			catch (UnknownHostException ex)
+			{
+				log.debug("error resolving host for world ping", ex);
+				listener.accept(world, record(world.getId(), -1));
+				continue;
+			}
+
+			if (!(inetAddress instanceof Inet4Address))
+			{
+				log.debug("Only ipv4 ping is supported");
+				listener.accept(world, record(world.getId(), -1));
+				continue;
+			}
+
+			targets.put(world, new InetSocketAddress(inetAddress, Ping.PORT));
+		}
+
+		probe(targets, (world, rtt) -> listener.accept(world, record(world.getId(), rtt, rtt >= SYN_RTO)));
+	}
+
+	/**
+	 * Connect to each target, with at most {@code maxInFlight} connects outstanding at once.
+	 * The connect time is reported in ms, or -1 on failure or timeout. Connections are closed
+	 * as soon as they are established.
+	 */
+	public <T> void probe(Map<T, InetSocketAddress> targets, ObjIntConsumer<T> listener) throws IOException
+	{
+		Iterator<Map.Entry<T, InetSocketAddress>> pending = targets.entrySet().iterator();
+		List<SelectionKey> expired = new ArrayList<>();
+		int inFlight = 0;
+
+		try (Selector selector = Selector.open())
+		{
+			try
+			{
+				while (pending.hasNext() || inFlight > 0)
+				{
+					if (Thread.currentThread().isInterrupted())
+					{
+						return;
+					}
+
+					while (inFlight < maxInFlight && pending.hasNext())
+					{
+						Map.Entry<T, InetSocketAddress> target = pending.next();
+						if (connect(selector, target.getKey(), target.getValue(), listener))
+						{
+							++inFlight;
+						}
+					}
+
+					long now = System.nanoTime();
+					long wait = timeoutNanos;
+					for (SelectionKey key : selector.keys())
+					{
+						if (!key.isValid())
+						{
+							continue;
+						}
+
+						long remaining = ((Probe<?>) key.attachment()).start + timeoutNanos - now;
+						if (remaining <= 0)
+						{
+							expired.add(key);
+						}
+						else
+						{
+							wait = Math.min(wait, remaining);
+						}
+					}
+
+					for (SelectionKey key : expired)
+					{
+						@SuppressWarnings("unchecked")
+						Probe<T> probe = (Probe<T>) key.attachment();
+						if (finish(key, probe))
+						{
+							--inFlight;
+							listener.accept(probe.target, -1);
+						}
+					}
+
+					if (!expired.isEmpty())
+					{
+						expired.clear();
+						// the closed channels are deregistered on the next select
+						selector.selectNow();
+						continue;
+					}
+
+					selector.select(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(wait)));
+
+					Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+					while (it.hasNext())
+					{
+						SelectionKey key = it.next();
+						it.remove();
+
+						@SuppressWarnings("unchecked")
+						Probe<T> probe = (Probe<T>) key.attachment();
+						if (probe.handled || !key.isValid())
+						{
+							// a key selected by the selectNow() above which has since expired
+							continue;
+						}
+
+						SocketChannel channel = (SocketChannel) key.channel();
+						int rtt;
+						try
+						{
+							channel.finishConnect();
+							rtt = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - probe.start);
+						}
+						catch (IOException ex)
+						{
+							log.trace("connect to {} failed", probe.target, ex);
+							rtt = -1;
+						}
+
+						if (finish(key, probe))
+						{
+							--inFlight;
+							listener.accept(probe.target, rtt);
+						}
+					}
+				}
+			}
+			finally
+			{
+				for (SelectionKey key : selector.keys())
+				{
+					key.channel().close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cancel the key of a probe and close its channel
+	 *
+	 * @return true if the probe had not already been finished, and so should be counted
+	 */
+	private static boolean finish(SelectionKey key, Probe<?> probe) throws IOException
+	{
+		if (probe.handled)
+		{
+			return false;
+		}
+
+		probe.handled = true;
+		key.cancel();
+		key.channel().close();
+		return true;
+	}
+
+	private static <T> boolean connect(Selector selector, T target, InetSocketAddress address, ObjIntConsumer<T> listener)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			SocketChannel channel = SocketChannel.open();
+			try
+			{
+				channel.configureBlocking(false);
+				if (channel.connect(address))
+				{
+					// connected immediately, which can happen for local addresses
+					channel.close();
+					listener.accept(target, (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+					return false;
+				}
+
+				channel.register(selector, SelectionKey.OP_CONNECT, new Probe<>(target, start));
+				return true;
+			}
+			catch (IOException ex)
+			{
+				channel.close();
+				throw ex;
+			}
+		}
+		catch (IOException ex)
+		{
+			log.trace("connect to {} failed", target, ex);
+			listener.accept(target, -1);
+			return false;
+		}
+	}
+
+	/**
+	 * Fold a ping sample into the smoothed estimate for a world.
+	 *
+	 * @param world world id
+	 * @param ping ping in ms, or -1 if the world was unreachable
+	 * @return the smoothed ping, or -1 if the world was unreachable
+	 */
+	public int record(int world, int ping)
+	{
+		return record(world, ping, false);
+	}
+
+	/**
+	 * Fold a ping sample into the smoothed estimate for a world.
+	 *
+	 * @param world world id
+	 * @param ping ping in ms, or -1 if the world was unreachable
+	 * @param ambiguous if the sample may include a retransmission. Ambiguous samples are only
+	 *                  used when there is no estimate yet.
+	 * @return the smoothed ping, or -1 if the world was unreachable
+	 */
+	public int record(int world, int ping, boolean ambiguous)
+	{
+		if (ping < 0)
+		{
+			estimates.remove(world);
+			return -1;
+		}
+
+		Integer scaled = estimates.compute(world, (k, v) ->
+		{
+			if (v == null)
+			{
+				return ping << GAIN_SHIFT;
+			}
+
+			if (ambiguous)
+			{
+				return v;
+			}
+
+			// srtt += (sample - srtt) / 8
+			return v + ping - (v >> GAIN_SHIFT);
+		});
+		return unscale(scaled);
+	}
+
+	/**
+	 * Get the smoothed ping for a world
+	 *
+	 * @return the smoothed ping in ms, or -1 if the world has not been pinged or was unreachable
+	 */
+	public int getPing(int world)
+	{
+		Integer scaled = estimates.get(world);
+		return scaled == null ? -1 : unscale(scaled);
+	}
+
+	public void clear()
+	{
+		estimates.clear();
+	}
+
+	private static int unscale(int scaled)
+	{
+		return (scaled + (1 << GAIN_SHIFT - 1)) >> GAIN_SHIFT;
+	}
+
+	private static class Probe<T>
+	{
+		private final T target;
+		private final long start;
+		private boolean handled;
+
+		private Probe(T target, long start)
+		{
+			this.target = target;
+			this.start = start;
+		}
+	}
+}
@@ -24,27 +24,20 @@
  */
 package net.runelite.client.plugins.xptracker;
 
-import java.io.IOException;
 import javax.inject.Inject;
 import javax.inject.Named;
-import lombok.extern.slf4j.Slf4j;
-import okhttp3.Call;
-import okhttp3.Callback;
+import net.runelite.client.UploadSpool;
 import okhttp3.HttpUrl;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
-@Slf4j
 public class XpClient
 {
-	private final OkHttpClient client;
+	private final UploadSpool uploadSpool;
 	private final HttpUrl apiBase;
 
 	@Inject
-	private XpClient(OkHttpClient client, @Named("runelite.api.base") HttpUrl apiBase)
+	private XpClient(UploadSpool uploadSpool, @Named("runelite.api.base") HttpUrl apiBase)
 	{
-		this.client = client;
+		this.uploadSpool = uploadSpool;
 		this.apiBase = apiBase;
 	}
 
@@ -56,24 +49,6 @@ public class XpClient
 			.addQueryParameter("username", username)
 			.build();
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
-
-		client.newCall(request).enqueue(new Callback()
-		{
-			@Override
-			public void onFailure(Call call, IOException e)
-			{
-				log.warn("Error submitting xp track", e);
-			}
-
-			@Override
-			public void onResponse(Call call, Response response)
-			{
-				response.close();
-				log.debug("Submitted xp track for {}", username);
-			}
-		});
+		uploadSpool.get(url);
 	}
 }
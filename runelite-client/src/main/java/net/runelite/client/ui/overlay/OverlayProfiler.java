@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.RuneLiteConfig;
+
+/**
+ * Records how long each overlay, and each overlay layer, takes to render, and
+ * throttles overlays which repeatedly exceed the configured render budget.
+ */
+@Singleton
+@Slf4j
+public class OverlayProfiler
+{
+	/**
+	 * Number of samples kept per overlay and per layer
+	 */
+	static final int SAMPLE_COUNT = 128;
+	/**
+	 * Number of consecutive over-budget renders before an overlay is throttled
+	 */
+	static final int THROTTLE_THRESHOLD = 10;
+	/**
+	 * Throttled overlays are rendered once every this many frames
+	 */
+	static final int THROTTLE_INTERVAL = 4;
+
+	private final RuneLiteConfig runeLiteConfig;
+
+	private final Map<Overlay, Timing> overlayTimings = new WeakHashMap<>();
+	private final Timing[] layerTimings = new Timing[OverlayLayer.values().length];
+	private final long[] layerFrameNanos = new long[OverlayLayer.values().length];
+	private final boolean[] layerRendered = new boolean[OverlayLayer.values().length];
+
+	private long frame;
+	private long budgetNanos;
+
+	@Value
+	public static class Stats
+	{
+		String name;
+		@Nullable
+		String plugin;
+		OverlayLayer layer;
+		/**
+		 * number of samples the percentiles are computed from
+		 */
+		int samples;
+		long p50;
+		long p95;
+		long p99;
+		long max;
+		/**
+		 * whether the overlay is currently being throttled for exceeding the render budget
+		 */
+		boolean throttled;
+		/**
+		 * the number of frames the overlay was not rendered in due to throttling
+		 */
+		long skipped;
+	}
+
+	private static class Timing
+	{
+		private final long[] samples = new long[SAMPLE_COUNT];
+		private int count;
+		private int index;
+
+		private OverlayLayer layer;
+		private int overBudget;
+		private boolean throttled;
+		private long lastRenderFrame;
+		private long skipped;
+
+		synchronized void add(long nanos)
+		{
+			samples[index] = nanos;
+			index = (index + 1) % SAMPLE_COUNT;
+			if (count < SAMPLE_COUNT)
+			{
+				++count;
+			}
+		}
+
+		synchronized Stats snapshot(String name, String plugin, OverlayLayer layer)
+		{
+			final long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			return new Stats(name, plugin, layer, count,
+				percentile(sorted, .5), percentile(sorted, .95), percentile(sorted, .99),
+				count > 0 ? sorted[count - 1] : 0,
+				throttled, skipped);
+		}
+	}
+
+	@Inject
+	OverlayProfiler(RuneLiteConfig runeLiteConfig)
+	{
+		this.runeLiteConfig = runeLiteConfig;
+		for (int i = 0; i < layerTimings.length; ++i)
+		{
+			layerTimings[i] = new Timing();
+		}
+	}
+
+	/**
+	 * Called at the start of each frame to flush the accumulated per-layer times
+	 */
+	void frame()
+	{
+		for (int i = 0; i < layerTimings.length; ++i)
+		{
+			if (layerRendered[i])
+			{
+				layerTimings[i].add(layerFrameNanos[i]);
+				layerFrameNanos[i] = 0;
+				layerRendered[i] = false;
+			}
+		}
+
+		++frame;
+		budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, runeLiteConfig.overlayRenderBudget()));
+	}
+
+	/**
+	 * Check if the overlay should be rendered this frame, or be skipped because it is being throttled
+	 */
+	boolean shouldRender(Overlay overlay)
+	{
+		if (budgetNanos == 0)
+		{
+			return true;
+		}
+
+		final Timing timing = timing(overlay);
+		if (!timing.throttled || frame - timing.lastRenderFrame >= THROTTLE_INTERVAL)
+		{
+			return true;
+		}
+
+		++timing.skipped;
+		return false;
+	}
+
+	/**
+	 * Record the time taken to render an overlay
+	 *
+	 * @param overlay the overlay
+	 * @param layer the layer the overlay was rendered in
+	 * @param nanos render time in nanoseconds
+	 */
+	void record(Overlay overlay, OverlayLayer layer, long nanos)
+	{
+		final Timing timing = timing(overlay);
+		timing.add(nanos);
+		timing.layer = layer;
+		timing.lastRenderFrame = frame;
+
+		layerFrameNanos[layer.ordinal()] += nanos;
+		layerRendered[layer.ordinal()] = true;
+
+		if (budgetNanos == 0 || nanos <= budgetNanos)
+		{
+			timing.overBudget = 0;
+			timing.throttled = false;
+		}
+		else if (++timing.overBudget >= THROTTLE_THRESHOLD && !timing.throttled)
+		{
+			timing.throttled = true;
+			log.warn("Overlay {} exceeded the render budget for {} consecutive frames and is being throttled", overlay.getName(), timing.overBudget);
+		}
+	}
+
+	/**
+	 * Get the render timings of all overlays which have been rendered, slowest first by p95
+	 *
+	 * @return overlay timings
+	 */
+	public List<Stats> getOverlayStats()
+	{
+		final List<Stats> stats = new ArrayList<>();
+		synchronized (overlayTimings)
+		{
+			for (Map.Entry<Overlay, Timing> entry : overlayTimings.entrySet())
+			{
+				final Overlay overlay = entry.getKey();
+				final Timing timing = entry.getValue();
+				stats.add(timing.snapshot(overlay.getName(),
+					overlay.getPlugin() != null ? overlay.getPlugin().getName() : null,
+					timing.layer));
+			}
+		}
+		stats.sort((a, b) -> Long.compare(b.getP95(), a.getP95()));
+		return stats;
+	}
+
+	/**
+	 * Get the per-frame render time of each overlay layer
+	 *
+	 * @return layer timings
+	 */
+	public Map<OverlayLayer, Stats> getLayerStats()
+	{
+		final Map<OverlayLayer, Stats> stats = new EnumMap<>(OverlayLayer.class);
+		for (OverlayLayer layer : OverlayLayer.values())
+		{
+			stats.put(layer, layerTimings[layer.ordinal()].snapshot(layer.name(), null, layer));
+		}
+		return stats;
+	}
+
+	private Timing timing(Overlay overlay)
+	{
+		synchronized (overlayTimings)
+		{
+			return overlayTimings.computeIfAbsent(overlay, k -> new Timing());
+		}
+	}
+
+	private static long percentile(long[] sorted, double p)
+	{
+		if (sorted.length == 0)
+		{
+			return 0;
+		}
+
+		final int idx = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+	}
+}
@@ -97,6 +97,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final OverlayProfiler overlayProfiler;
 
 	private Font font, tooltipFont, interfaceFont;
 
@@ -125,7 +126,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final OverlayProfiler overlayProfiler
 	)
 	{
 		this.client = client;
@@ -134,6 +136,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.overlayProfiler = overlayProfiler;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -223,6 +226,7 @@ public class OverlayRenderer extends MouseAdapter
 	public void onBeforeRender(BeforeRender event)
 	{
 		curHoveredOverlay = null;
+		overlayProfiler.frame();
 
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
@@ -326,7 +330,7 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			safeRender(overlay, graphics, location, layer);
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -718,7 +722,7 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	private void safeRender(Overlay overlay, Graphics2D graphics, Point point, OverlayLayer layer)
 	{
 		final OverlayPosition position = overlay.getPosition();
 
@@ -739,7 +743,14 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		// Throttled overlays keep their previous size so the snap corner layout is stable
+		if (!overlayProfiler.shouldRender(overlay))
+		{
+			return;
+		}
+
 		final Dimension overlayDimension;
+		final long start = System.nanoTime();
 		try
 		{
 			overlayDimension = overlay.render(graphics);
@@ -749,6 +760,10 @@ public class OverlayRenderer extends MouseAdapter
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			overlayProfiler.record(overlay, layer, System.nanoTime() - start);
+		}
 
 		if (overlayDimension != null)
 		{
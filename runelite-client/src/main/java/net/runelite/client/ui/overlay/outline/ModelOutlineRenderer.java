@@ -31,8 +31,10 @@ import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -73,16 +75,44 @@ public class ModelOutlineRenderer
 		private final double alphaMultiply;
 	}
 
+	/**
+	 * A model added to the current outline batch, with its vertices projected into the batch vertex buffer.
+	 */
+	private static class BatchModel
+	{
+		private int vertexOffset;
+		private int faceCount;
+		private int[] indices1;
+		private int[] indices2;
+		private int[] indices3;
+		private byte[] transparencies;
+	}
+
 	private static final int MAX_OUTLINE_WIDTH = 50;
 	private static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
 
+	// Rasterizing on worker threads only pays off for large batches. Each worker gets a band of rows,
+	// which map to separate words of the visited bitset as the cropped width is a multiple of 32.
+	private static final int PARALLEL_RASTER_FACE_THRESHOLD = 40_000;
+	private static final int MIN_RASTER_BAND_HEIGHT = 32;
+	private static final int RASTER_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
 	private final Client client;
 
 	// Vertex positions projected on the screen.
 	private final int[] projectedVerticesX = new int[6500];
 	private final int[] projectedVerticesY = new int[6500];
 
+	// Projected vertices of all models in the current batch, which are rasterized into a single coverage mask.
+	private int[] batchVerticesX = new int[6500];
+	private int[] batchVerticesY = new int[6500];
+	private int batchVertexCount;
+	private final List<BatchModel> batchModels = new ArrayList<>();
+	private int batchModelCount;
+	private int batchFaceCount;
+	private int parallelRasterFaceThreshold = PARALLEL_RASTER_FACE_THRESHOLD;
+
 	// Window boundaries for the ingame world
 	private int clipX1;
 	private int clipY1;
@@ -119,11 +149,19 @@ public class ModelOutlineRenderer
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
 	@Inject
-	private ModelOutlineRenderer(Client client)
+	ModelOutlineRenderer(Client client)
 	{
 		this.client = client;
 	}
 
+	/**
+	 * Sets the number of faces a batch must have before it is rasterized on worker threads.
+	 */
+	void setParallelRasterFaceThreshold(int parallelRasterFaceThreshold)
+	{
+		this.parallelRasterFaceThreshold = parallelRasterFaceThreshold;
+	}
+
 	/**
 	 * Calculate the next power of two of a value.
 	 *
@@ -369,7 +407,12 @@ public class ModelOutlineRenderer
 		else
 		{
 			visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
-			visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
+			// a span ending on a word boundary sets no bits in the next word, which may belong to
+			// the next row, and so to another band when rasterizing in parallel
+			if ((pixelPos2 & 31) != 0)
+			{
+				visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
+			}
 			for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
 			{
 				visited[i] = 0xFFFFFFFF;
@@ -386,9 +429,11 @@ public class ModelOutlineRenderer
 	 * @param y2 The y position of the second vertex in the triangle
 	 * @param x3 The x position of the third vertex in the triangle
 	 * @param y3 The y position of the third vertex in the triangle
+	 * @param clipY1 The first row to rasterize
+	 * @param clipY2 The row after the last row to rasterize
 	 */
 	private void simulateTriangleRasterizationForOutline(
-		int x1, int y1, int x2, int y2, int x3, int y3)
+		int x1, int y1, int x2, int y2, int x3, int y3, int clipY1, int clipY2)
 	{
 		// Swap vertices so y1 <= y2 <= y3 using bubble sort
 		if (y1 > y2)
@@ -514,7 +559,8 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
+	 * Translates the vertices 3D points to the screen canvas 2D points
+	 * and adds the model to the current batch if it is visible.
 	 *
 	 * @param localX The local x position of the vertices.
 	 * @param localY The local y position of the vertices.
@@ -533,6 +579,10 @@ public class ModelOutlineRenderer
 			projectedVerticesX, projectedVerticesY);
 
 		boolean anyVisible = false;
+		int minX = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxY = Integer.MIN_VALUE;
 
 		for (int i = 0; i < vertexCount; i++)
 		{
@@ -545,10 +595,10 @@ public class ModelOutlineRenderer
 				boolean visibleY = y >= clipY1 && y < clipY2;
 				anyVisible |= visibleX && visibleY;
 
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x + 1);
+				minY = Math.min(minY, y);
+				maxY = Math.max(maxY, y + 1);
 			}
 			else
 			{
@@ -557,46 +607,112 @@ public class ModelOutlineRenderer
 			}
 		}
 
-		return anyVisible;
+		if (!anyVisible)
+		{
+			return false;
+		}
+
+		croppedX1 = Math.min(croppedX1, minX);
+		croppedX2 = Math.max(croppedX2, maxX);
+		croppedY1 = Math.min(croppedY1, minY);
+		croppedY2 = Math.max(croppedY2, maxY);
+
+		if (batchVerticesX.length < batchVertexCount + vertexCount)
+		{
+			int size = nextPowerOfTwo(batchVertexCount + vertexCount);
+			batchVerticesX = Arrays.copyOf(batchVerticesX, size);
+			batchVerticesY = Arrays.copyOf(batchVerticesY, size);
+		}
+		System.arraycopy(projectedVerticesX, 0, batchVerticesX, batchVertexCount, vertexCount);
+		System.arraycopy(projectedVerticesY, 0, batchVerticesY, batchVertexCount, vertexCount);
+
+		if (batchModels.size() == batchModelCount)
+		{
+			batchModels.add(new BatchModel());
+		}
+		BatchModel batchModel = batchModels.get(batchModelCount++);
+		batchModel.vertexOffset = batchVertexCount;
+		batchModel.faceCount = model.getFaceCount();
+		batchModel.indices1 = model.getFaceIndices1();
+		batchModel.indices2 = model.getFaceIndices2();
+		batchModel.indices3 = model.getFaceIndices3();
+		batchModel.transparencies = model.getFaceTransparencies();
+
+		batchVertexCount += vertexCount;
+		batchFaceCount += batchModel.faceCount;
+		return true;
 	}
 
 	/**
-	 * Simulates rendering of the model and marks every pixel visited.
+	 * Simulates rendering of a model in the batch and marks every pixel visited within a range of rows.
+	 *
+	 * @param clipY1 The first row to rasterize
+	 * @param clipY2 The row after the last row to rasterize
 	 */
-	private void simulateModelRasterizationForOutline(Model model)
+	private void simulateModelRasterizationForOutline(BatchModel model, int clipY1, int clipY2)
 	{
-		final int triangleCount = model.getFaceCount();
-		final int[] indices1 = model.getFaceIndices1();
-		final int[] indices2 = model.getFaceIndices2();
-		final int[] indices3 = model.getFaceIndices3();
-		final byte[] triangleTransparencies = model.getFaceTransparencies();
+		final int triangleCount = model.faceCount;
+		final int[] indices1 = model.indices1;
+		final int[] indices2 = model.indices2;
+		final int[] indices3 = model.indices3;
+		final byte[] triangleTransparencies = model.transparencies;
+		final int[] verticesX = batchVerticesX;
+		final int[] verticesY = batchVerticesY;
+		final int offset = model.vertexOffset;
 
 		for (int i = 0; i < triangleCount; i++)
 		{
-			if (projectedVerticesY[indices1[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices2[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices3[i]] != Integer.MIN_VALUE &&
+			final int index1 = indices1[i] + offset;
+			final int index2 = indices2[i] + offset;
+			final int index3 = indices3[i] + offset;
+			if (verticesY[index1] != Integer.MIN_VALUE &&
+				verticesY[index2] != Integer.MIN_VALUE &&
+				verticesY[index3] != Integer.MIN_VALUE &&
 				// 254 and 255 counts as fully transparent
 				(triangleTransparencies == null || (triangleTransparencies[i] & 255) < 254))
 			{
-				final int index1 = indices1[i];
-				final int index2 = indices2[i];
-				final int index3 = indices3[i];
-				final int v1x = projectedVerticesX[index1];
-				final int v1y = projectedVerticesY[index1];
-				final int v2x = projectedVerticesX[index2];
-				final int v2y = projectedVerticesY[index2];
-				final int v3x = projectedVerticesX[index3];
-				final int v3y = projectedVerticesY[index3];
+				final int v1x = verticesX[index1];
+				final int v1y = verticesY[index1];
+				final int v2x = verticesX[index2];
+				final int v2y = verticesY[index2];
+				final int v3x = verticesX[index3];
+				final int v3y = verticesY[index3];
 
 				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
 				{
-					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
+					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y, clipY1, clipY2);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Simulates rendering of every model in the batch and marks every pixel visited,
+	 * splitting the rows between worker threads for large batches.
+	 */
+	private void simulateBatchRasterizationForOutline()
+	{
+		final int bands = Math.min(RASTER_PARALLELISM, croppedHeight / MIN_RASTER_BAND_HEIGHT);
+		if (batchFaceCount < parallelRasterFaceThreshold || bands < 2)
+		{
+			for (int i = 0; i < batchModelCount; i++)
+			{
+				simulateModelRasterizationForOutline(batchModels.get(i), clipY1, clipY2);
+			}
+			return;
+		}
+
+		IntStream.range(0, bands).parallel().forEach(band ->
+		{
+			int bandY1 = croppedY1 + croppedHeight * band / bands;
+			int bandY2 = croppedY1 + croppedHeight * (band + 1) / bands;
+			for (int i = 0; i < batchModelCount; i++)
+			{
+				simulateModelRasterizationForOutline(batchModels.get(i), bandY1, bandY2);
+			}
+		});
+	}
+
 	/**
 	 * Draws the outline of a pixel according to the distance deltas of an outline.
 	 *
@@ -885,6 +1001,26 @@ public class ModelOutlineRenderer
 		}
 	}
 
+	/**
+	 * Starts a new batch of models to outline together.
+	 */
+	private void beginBatch()
+	{
+		croppedX1 = Integer.MAX_VALUE;
+		croppedX2 = Integer.MIN_VALUE;
+		croppedY1 = Integer.MAX_VALUE;
+		croppedY2 = Integer.MIN_VALUE;
+
+		clipX1 = client.getViewportXOffset();
+		clipY1 = client.getViewportYOffset();
+		clipX2 = client.getViewportWidth() + clipX1;
+		clipY2 = client.getViewportHeight() + clipY1;
+
+		batchVertexCount = 0;
+		batchModelCount = 0;
+		batchFaceCount = 0;
+	}
+
 	/**
 	 * Draws an outline around a model to an image
 	 *
@@ -904,6 +1040,26 @@ public class ModelOutlineRenderer
 			return;
 		}
 
+		beginBatch();
+		projectVertices(wv, model, localX, localY, localZ, orientation);
+		drawBatchOutline(outlineWidth, color, feather);
+	}
+
+	/**
+	 * Draws a single outline around the combined shape of every model in the current batch.
+	 *
+	 * @param outlineWidth The width of the outline
+	 * @param color The color of the outline
+	 */
+	private void drawBatchOutline(int outlineWidth, Color color, int feather)
+	{
+		if (batchModelCount == 0)
+		{
+			// No vertex of any model is visible on the screen, so we can
+			// assume there are no parts of the models to outline.
+			return;
+		}
+
 		if (outlineWidth > MAX_OUTLINE_WIDTH)
 		{
 			outlineWidth = MAX_OUTLINE_WIDTH;
@@ -918,23 +1074,6 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
-		croppedX1 = Integer.MAX_VALUE;
-		croppedX2 = Integer.MIN_VALUE;
-		croppedY1 = Integer.MAX_VALUE;
-		croppedY2 = Integer.MIN_VALUE;
-
-		clipX1 = client.getViewportXOffset();
-		clipY1 = client.getViewportYOffset();
-		clipX2 = client.getViewportWidth() + clipX1;
-		clipY2 = client.getViewportHeight() + clipY1;
-
-		if (!projectVertices(wv, model, localX, localY, localZ, orientation))
-		{
-			// No vertex of the model is visible on the screen, so we can
-			// assume there are no parts of the model to outline.
-			return;
-		}
-
 		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
 		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
 		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
@@ -945,7 +1084,7 @@ public class ModelOutlineRenderer
 
 		resetVisited(croppedWidth * croppedHeight);
 
-		simulateModelRasterizationForOutline(model);
+		simulateBatchRasterizationForOutline();
 
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
@@ -993,6 +1132,42 @@ public class ModelOutlineRenderer
 		}
 	}
 
+	/**
+	 * Draws one outline around a group of actors sharing the same outline style.
+	 * <p>
+	 * The models are rasterized into a single coverage mask and the outline is computed once
+	 * over the union of their screen bounds, which is much cheaper than outlining each actor
+	 * separately when there are many of them. Actors which overlap on screen share an outline
+	 * instead of being outlined on top of each other.
+	 *
+	 * @param actors The actors to outline
+	 * @param outlineWidth The width of the outline
+	 * @param color The color of the outline
+	 * @param feather The feather of the outline
+	 */
+	public void drawOutlines(Collection<? extends Actor> actors, int outlineWidth, Color color, int feather)
+	{
+		if (outlineWidth <= 0 || color.getAlpha() == 0 || actors.isEmpty())
+		{
+			return;
+		}
+
+		beginBatch();
+		for (Actor actor : actors)
+		{
+			LocalPoint lp = actor.getLocalLocation();
+			Model model = actor.getModel();
+			if (lp != null && model != null)
+			{
+				WorldView wv = actor.getWorldView();
+				projectVertices(wv, model, lp.getX(), lp.getY(),
+					Perspective.getFootprintTileHeight(client, lp, wv.getPlane(), actor.getFootprintSize()) - actor.getAnimationHeightOffset(),
+					actor.getCurrentOrientation());
+			}
+		}
+		drawBatchOutline(outlineWidth, color, feather);
+	}
+
 	private void drawOutline(GameObject gameObject, int outlineWidth, Color color, int feather)
 	{
 		Renderable renderable = gameObject.getRenderable();
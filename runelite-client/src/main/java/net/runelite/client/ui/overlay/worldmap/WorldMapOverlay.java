@@ -62,6 +62,11 @@ public class WorldMapOverlay extends Overlay
 	private static final int TOOLTIP_PADDING_HEIGHT = 1;
 	private static final int TOOLTIP_PADDING_WIDTH = 2;
 	private static final int TOOLTIP_TEXT_OFFSET_HEIGHT = -2;
+	/**
+	 * How far in pixels outside of the map area to look for points, so images anchored just off the map
+	 * are still drawn
+	 */
+	private static final int POINT_SEARCH_MARGIN = 128;
 
 	private static final Splitter TOOLTIP_SPLITTER = Splitter.on("<br>").trimResults().omitEmptyStrings();
 
@@ -86,9 +91,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.isEmpty())
 		{
 			return null;
 		}
@@ -118,6 +121,7 @@ public class WorldMapOverlay extends Overlay
 		bottomBar.setHasListener(true);
 
 		final Rectangle worldMapRectangle = widget.getBounds();
+		final List<WorldMapPoint> points = getVisiblePoints(worldMapRectangle);
 		final Shape mapViewArea = getWorldMapClipArea(worldMapRectangle);
 		final Rectangle canvasBounds = new Rectangle(0, 0, client.getCanvasWidth(), client.getCanvasHeight());
 		final Shape canvasViewArea = getWorldMapClipArea(canvasBounds);
@@ -241,6 +245,21 @@ public class WorldMapOverlay extends Overlay
 		return null;
 	}
 
+	private List<WorldMapPoint> getVisiblePoints(Rectangle worldMapRectangle)
+	{
+		WorldMap worldMap = client.getWorldMap();
+		float pixelsPerTile = worldMap.getWorldMapZoom();
+		Point worldMapPosition = worldMap.getWorldMapPosition();
+
+		int margin = (int) Math.ceil(POINT_SEARCH_MARGIN / pixelsPerTile) + 1;
+		int halfWidth = (int) Math.ceil(worldMapRectangle.getWidth() / pixelsPerTile) / 2 + margin;
+		int halfHeight = (int) Math.ceil(worldMapRectangle.getHeight() / pixelsPerTile) / 2 + margin;
+
+		return worldMapPointManager.getWorldMapPoints(
+			worldMapPosition.getX() - halfWidth, worldMapPosition.getY() - halfHeight,
+			worldMapPosition.getX() + halfWidth, worldMapPosition.getY() + halfHeight);
+	}
+
 	/**
 	 * Get the screen coordinates for a WorldPoint on the world map
 	 *
@@ -25,8 +25,13 @@
 package net.runelite.client.ui.overlay.worldmap;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
@@ -67,12 +72,41 @@ public class WorldMapPoint
 
 	private String tooltip;
 
+	/**
+	 * The manager this point has been added to, which indexes it by location
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final AtomicReference<WorldMapPointManager> manager = new AtomicReference<>();
+
 	public WorldMapPoint(WorldPoint worldPoint, BufferedImage image)
 	{
 		this.worldPoint = worldPoint;
 		this.image = image;
 	}
 
+	public void setWorldPoint(WorldPoint worldPoint)
+	{
+		this.worldPoint = worldPoint;
+		reindex();
+	}
+
+	public void setSnapToEdge(boolean snapToEdge)
+	{
+		this.snapToEdge = snapToEdge;
+		reindex();
+	}
+
+	private void reindex()
+	{
+		WorldMapPointManager manager = this.manager.get();
+		if (manager != null)
+		{
+			manager.update(this);
+		}
+	}
+
 	public void onEdgeSnap()
 	{
 	}
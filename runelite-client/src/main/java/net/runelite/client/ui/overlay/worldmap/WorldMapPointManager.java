@@ -24,31 +24,220 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
-import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Holds the points drawn on the world map. Points are bucketed into a grid of
+ * {@link #CELL_SIZE} tile cells so the overlay only visits the points within the
+ * visible area of the map.
+ */
 @Singleton
 public class WorldMapPointManager
 {
-	@Getter(AccessLevel.PACKAGE)
-	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
+	private static final int CELL_SHIFT = 6;
+	static final int CELL_SIZE = 1 << CELL_SHIFT;
+	private static final long NO_CELL = Long.MIN_VALUE;
+
+	private final Map<WorldMapPoint, Entry> entries = new IdentityHashMap<>();
+	private final Map<Long, List<Entry>> cells = new HashMap<>();
+	// points which are drawn regardless of where the map is, eg. edge snapped points
+	private final List<Entry> unbounded = new ArrayList<>();
+	private long nextSeq;
+
+	private static class Entry
+	{
+		private final WorldMapPoint point;
+		private final long seq;
+		private long cell = NO_CELL;
+		private boolean unbounded;
+
+		private Entry(WorldMapPoint point, long seq)
+		{
+			this.point = point;
+			this.seq = seq;
+		}
+	}
+
+	public synchronized void add(WorldMapPoint worldMapPoint)
+	{
+		if (entries.containsKey(worldMapPoint))
+		{
+			return;
+		}
+
+		Entry entry = new Entry(worldMapPoint, nextSeq++);
+		entries.put(worldMapPoint, entry);
+		index(entry);
+		worldMapPoint.getManager().set(this);
+	}
+
+	public synchronized void remove(WorldMapPoint worldMapPoint)
+	{
+		Entry entry = entries.get(worldMapPoint);
+		if (entry == null)
+		{
+			// fall back to removing an equal point
+			entry = entries.values().stream()
+				.filter(e -> e.point.equals(worldMapPoint))
+				.min(Comparator.comparingLong(e -> e.seq))
+				.orElse(null);
+			if (entry == null)
+			{
+				return;
+			}
+		}
+
+		entries.remove(entry.point);
+		unindex(entry);
+		entry.point.getManager().compareAndSet(this, null);
+	}
+
+	public synchronized void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); )
+		{
+			Entry entry = it.next();
+			if (filter.test(entry.point))
+			{
+				it.remove();
+				unindex(entry);
+				entry.point.getManager().compareAndSet(this, null);
+			}
+		}
+	}
+
+	synchronized boolean isEmpty()
+	{
+		return entries.isEmpty();
+	}
+
+	/**
+	 * Get the points which lie within the given tile bounds, plus any points which are
+	 * always drawn, in the order they were added. The plane is ignored, as the world map
+	 * shows all planes.
+	 */
+	synchronized List<WorldMapPoint> getWorldMapPoints(int minX, int minY, int maxX, int maxY)
+	{
+		List<Entry> found = new ArrayList<>(unbounded);
+
+		int minCellX = minX >> CELL_SHIFT, maxCellX = maxX >> CELL_SHIFT;
+		int minCellY = minY >> CELL_SHIFT, maxCellY = maxY >> CELL_SHIFT;
+		long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+		if (cellCount > cells.size())
+		{
+			for (List<Entry> cell : cells.values())
+			{
+				collect(cell, found, minX, minY, maxX, maxY);
+			}
+		}
+		else
+		{
+			for (int cx = minCellX; cx <= maxCellX; ++cx)
+			{
+				for (int cy = minCellY; cy <= maxCellY; ++cy)
+				{
+					List<Entry> cell = cells.get(cellKey(cx, cy));
+					if (cell != null)
+					{
+						collect(cell, found, minX, minY, maxX, maxY);
+					}
+				}
+			}
+		}
+
+		return sorted(found);
+	}
+
+	/**
+	 * Update the index for a point whose location or edge snapping has changed
+	 */
+	synchronized void update(WorldMapPoint worldMapPoint)
+	{
+		Entry entry = entries.get(worldMapPoint);
+		if (entry != null)
+		{
+			unindex(entry);
+			index(entry);
+		}
+	}
 
-	public void add(WorldMapPoint worldMapPoint)
+	private static void collect(List<Entry> cell, List<Entry> found, int minX, int minY, int maxX, int maxY)
 	{
-		worldMapPoints.add(worldMapPoint);
+		for (Entry entry : cell)
+		{
+			WorldPoint wp = entry.point.getWorldPoint();
+			if (wp.getX() >= minX && wp.getX() <= maxX && wp.getY() >= minY && wp.getY() <= maxY)
+			{
+				found.add(entry);
+			}
+		}
+	}
+
+	private static List<WorldMapPoint> sorted(List<Entry> entries)
+	{
+		entries.sort(Comparator.comparingLong(e -> e.seq));
+		List<WorldMapPoint> points = new ArrayList<>(entries.size());
+		for (Entry entry : entries)
+		{
+			points.add(entry.point);
+		}
+		return points;
+	}
+
+	private void index(Entry entry)
+	{
+		WorldMapPoint point = entry.point;
+		if (point.isSnapToEdge())
+		{
+			entry.unbounded = true;
+			unbounded.add(entry);
+			return;
+		}
+
+		WorldPoint wp = point.getWorldPoint();
+		if (wp == null)
+		{
+			// not drawn until it has a location
+			return;
+		}
+
+		entry.cell = cellKey(wp.getX() >> CELL_SHIFT, wp.getY() >> CELL_SHIFT);
+		cells.computeIfAbsent(entry.cell, k -> new ArrayList<>()).add(entry);
 	}
 
-	public void remove(WorldMapPoint worldMapPoint)
+	private void unindex(Entry entry)
 	{
-		worldMapPoints.remove(worldMapPoint);
+		if (entry.unbounded)
+		{
+			unbounded.remove(entry);
+			entry.unbounded = false;
+		}
+		else if (entry.cell != NO_CELL)
+		{
+			List<Entry> cell = cells.get(entry.cell);
+			int idx = cell.indexOf(entry);
+			// order within a cell doesn't matter, so swap remove
+			cell.set(idx, cell.get(cell.size() - 1));
+			cell.remove(cell.size() - 1);
+			if (cell.isEmpty())
+			{
+				cells.remove(entry.cell);
+			}
+			entry.cell = NO_CELL;
+		}
 	}
 
-	public void removeIf(Predicate<WorldMapPoint> filter)
+	private static long cellKey(int cx, int cy)
 	{
-		worldMapPoints.removeIf(filter);
+		return ((long) cx << 32) | (cy & 0xffffffffL);
 	}
 }
@@ -32,6 +32,14 @@ public class WildcardMatcher
 	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*+)");
 
 	public static boolean matches(String pattern, String text)
+	{
+		return compile(pattern).matcher(text).matches();
+	}
+
+	/**
+	 * Compiles a wildcard pattern, for matching the same pattern against many strings.
+	 */
+	public static Pattern compile(String pattern)
 	{
 		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
 		final StringBuilder buffer = new StringBuilder();
@@ -50,8 +58,6 @@ public class WildcardMatcher
 		}
 
 		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
-
-		return text.matches(replaced);
+		return Pattern.compile(buffer.toString());
 	}
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.account.AccountSession;
+import net.runelite.client.events.SessionOpen;
+import net.runelite.http.api.RuneLiteAPI;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class UploadSpoolTest
+{
+	private static final long BACKOFF_MS = 200;
+
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final OkHttpClient okHttpClient = new OkHttpClient();
+	private final Gson gson = new Gson();
+	private ScheduledExecutorService executor;
+	private File dir;
+	private HttpUrl url;
+	private AccountSession session;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor();
+		dir = new File(folder.getRoot(), "spool");
+		url = server.url("/upload");
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testPost() throws Exception
+	{
+		server.enqueue(new MockResponse());
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		spool.post(url, null, Arrays.asList(1, 2)).get();
+
+		RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+		assertEquals("POST", request.getMethod());
+		assertNull(request.getHeader(RuneLiteAPI.RUNELITE_AUTH));
+		assertEquals("[1,2]", request.getBody().readUtf8());
+		awaitEmpty();
+	}
+
+	@Test
+	public void testSession() throws Exception
+	{
+		server.enqueue(new MockResponse());
+
+		AccountSession queued = new AccountSession(UUID.randomUUID(), Instant.now(), "zezima");
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		spool.post(url, queued, Collections.singletonList(1)).get();
+
+		// the session id is not spooled
+		for (File file : dir.listFiles())
+		{
+			assertFalse(Files.asByteSource(file).asCharSource(StandardCharsets.UTF_8).read().contains(queued.getUuid().toString()));
+		}
+
+		// held while logged out, and sent with the current session once logged in again
+		assertNull(server.takeRequest(BACKOFF_MS, TimeUnit.MILLISECONDS));
+		session = new AccountSession(UUID.randomUUID(), Instant.now(), "zezima");
+		spool.onSessionOpen(new SessionOpen());
+
+		RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+		assertEquals(session.getUuid().toString(), request.getHeader(RuneLiteAPI.RUNELITE_AUTH));
+		assertEquals("[1]", request.getBody().readUtf8());
+		awaitEmpty();
+
+		// dropped if another account is logged in
+		session = new AccountSession(UUID.randomUUID(), Instant.now(), "lynx titan");
+		spool.post(url, queued, Collections.singletonList(2)).get();
+		awaitEmpty();
+		assertNull(server.takeRequest(BACKOFF_MS, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testDestinations() throws Exception
+	{
+		// a destination which is retrying does not hold up another
+		server.enqueue(new MockResponse().setResponseCode(503));
+		server.enqueue(new MockResponse());
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, TimeUnit.HOURS.toMillis(1));
+		spool.post(url, null, Collections.singletonList(1)).get();
+		assertEquals("[1]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+
+		spool.post(server.url("/other"), null, Collections.singletonList(2)).get();
+		RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+		assertEquals("/other", request.getPath());
+		assertEquals("[2]", request.getBody().readUtf8());
+	}
+
+	@Test
+	public void testGet() throws Exception
+	{
+		server.enqueue(new MockResponse());
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		spool.get(url.newBuilder().addQueryParameter("username", "zezima").build()).get();
+
+		RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+		assertEquals("GET", request.getMethod());
+		assertEquals("/upload?username=zezima", request.getPath());
+		awaitEmpty();
+	}
+
+	@Test
+	public void testRetryBatches() throws Exception
+	{
+		server.enqueue(new MockResponse().setResponseCode(503));
+		server.enqueue(new MockResponse());
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		spool.post(url, null, Collections.singletonList(1)).get();
+		assertEquals("[1]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+
+		// queued during the backoff, and sent along with the first upload
+		spool.post(url, null, Collections.singletonList(2)).get();
+		assertEquals("[1,2]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+		awaitEmpty();
+		assertNull(server.takeRequest(BACKOFF_MS * 4, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testRestart() throws Exception
+	{
+		server.enqueue(new MockResponse().setResponseCode(503));
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, TimeUnit.HOURS.toMillis(1));
+		spool.post(url, null, Collections.singletonList(1)).get();
+		server.takeRequest(5, TimeUnit.SECONDS);
+		executor.shutdownNow();
+
+		// a new session sends what was left in the spool
+		server.enqueue(new MockResponse());
+		executor = Executors.newSingleThreadScheduledExecutor();
+		new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		assertEquals("[1]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+		awaitEmpty();
+	}
+
+	@Test
+	public void testRejected() throws Exception
+	{
+		server.enqueue(new MockResponse().setResponseCode(400));
+		server.enqueue(new MockResponse());
+
+		UploadSpool spool = new UploadSpool(okHttpClient, gson, () -> session, executor, dir, BACKOFF_MS);
+		spool.post(url, null, Collections.singletonList(1)).get();
+		assertEquals("[1]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+		awaitEmpty();
+
+		// the rejected upload is not retried
+		spool.post(url, null, Collections.singletonList(2)).get();
+		assertEquals("[2]", server.takeRequest(5, TimeUnit.SECONDS).getBody().readUtf8());
+		awaitEmpty();
+	}
+
+	private void awaitEmpty() throws InterruptedException
+	{
+		for (int i = 0; i < 500; ++i)
+		{
+			String[] names = dir.list();
+			if (names != null && names.length == 0)
+			{
+				return;
+			}
+			Thread.sleep(10);
+		}
+		fail("spool not empty: " + Arrays.toString(dir.list()));
+	}
+}
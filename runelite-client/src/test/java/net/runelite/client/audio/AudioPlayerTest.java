@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.audio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AudioPlayerTest
+{
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		file = File.createTempFile("sound", ".wav");
+		writeWav(file, AudioMixer.FORMAT, new short[]{1000, -1000, 2000, -2000, 3000, -3000});
+	}
+
+	@After
+	public void after()
+	{
+		file.delete();
+	}
+
+	@Test
+	public void testMixClamps()
+	{
+		AudioMixer mixer = new AudioMixer();
+		mixer.add(new short[]{30000, -30000, 100, 200});
+		mixer.add(new short[]{10000, -10000});
+
+		byte[] out = new byte[16];
+		assertEquals(2, mixer.mix(out, 4));
+		assertArrayEquals(new short[]{Short.MAX_VALUE, Short.MIN_VALUE, 100, 200}, toShorts(out, 4));
+		assertEquals(0, mixer.mix(out, 4));
+	}
+
+	@Test
+	public void testMixAcrossBuffers()
+	{
+		AudioMixer mixer = new AudioMixer();
+		mixer.add(new short[]{1, 2, 3, 4, 5, 6});
+
+		byte[] out = new byte[8];
+		assertEquals(2, mixer.mix(out, 2));
+		assertArrayEquals(new short[]{1, 2, 3, 4}, toShorts(out, 4));
+
+		mixer.add(new short[]{10, 20, 30, 40});
+		assertEquals(2, mixer.mix(out, 2));
+		assertArrayEquals(new short[]{15, 26, 30, 40}, toShorts(out, 4));
+		assertEquals(0, mixer.mix(out, 2));
+	}
+
+	@Test
+	public void testDecodeOnce() throws Exception
+	{
+		AudioPlayer player = new AudioPlayer(() -> AudioSink.NULL, 1000);
+		player.play(file, 0f);
+		player.play(file, 0f);
+		assertEquals(1, player.cacheSize());
+
+		player.play(file, -6f);
+		assertEquals(2, player.cacheSize());
+	}
+
+	@Test
+	public void testGain() throws Exception
+	{
+		ByteArrayOutputStream wav = new ByteArrayOutputStream();
+		AudioSystem.write(stream(AudioMixer.FORMAT, new short[]{1000, -1000, 30000, -30000}), AudioFileFormat.Type.WAVE, wav);
+
+		short[] samples = AudioPlayer.decode(new ByteArrayInputStream(wav.toByteArray()), 20f);
+		assertArrayEquals(new short[]{10000, -10000, Short.MAX_VALUE, Short.MIN_VALUE}, samples);
+	}
+
+	@Test
+	public void testConvertFormat() throws Exception
+	{
+		ByteArrayOutputStream wav = new ByteArrayOutputStream();
+		AudioFormat mono = new AudioFormat(22050f, 16, 1, true, false);
+		AudioSystem.write(stream(mono, new short[2205]), AudioFileFormat.Type.WAVE, wav);
+
+		short[] samples = AudioPlayer.decode(new ByteArrayInputStream(wav.toByteArray()), 0f);
+		// 100ms of stereo 44.1kHz, within a few frames of resampler slop
+		assertEquals(4410 * 2, samples.length, 8);
+	}
+
+	@Test
+	public void testPlaysToSink() throws Exception
+	{
+		CountDownLatch written = new CountDownLatch(1);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AudioPlayer player = new AudioPlayer(() -> new AudioSink()
+		{
+			@Override
+			public void write(byte[] buf, int off, int len)
+			{
+				out.write(buf, off, len);
+				written.countDown();
+			}
+
+			@Override
+			public void close()
+			{
+			}
+		}, 1000);
+
+		player.play(file, 0f);
+		assertTrue(written.await(5, TimeUnit.SECONDS));
+		assertArrayEquals(new short[]{1000, -1000, 2000, -2000, 3000, -3000}, toShorts(out.toByteArray(), 6));
+	}
+
+	@Test
+	public void testReopensLineWhenIdle() throws Exception
+	{
+		AtomicInteger opened = new AtomicInteger();
+		Semaphore closed = new Semaphore(0);
+		Semaphore written = new Semaphore(0);
+		AudioPlayer player = new AudioPlayer(() ->
+		{
+			opened.incrementAndGet();
+			return new AudioSink()
+			{
+				@Override
+				public void write(byte[] buf, int off, int len)
+				{
+					written.release();
+				}
+
+				@Override
+				public void close()
+				{
+					closed.release();
+				}
+			};
+		}, 50);
+
+		player.play(file, 0f);
+		assertTrue(written.tryAcquire(5, TimeUnit.SECONDS));
+		assertTrue(closed.tryAcquire(5, TimeUnit.SECONDS));
+
+		// the next sound opens the line again, which picks up the current default device
+		player.play(file, 0f);
+		assertTrue(written.tryAcquire(5, TimeUnit.SECONDS));
+		assertEquals(2, opened.get());
+	}
+
+	@Test
+	public void testPlayWithoutDevice() throws Exception
+	{
+		// falls back to discarding the audio when there is no device, e.g. on CI
+		new AudioPlayer().play(AudioPlayerTest.class, "/net/runelite/client/notification.wav", 0f);
+	}
+
+	private static short[] toShorts(byte[] b, int n)
+	{
+		short[] s = new short[n];
+		for (int i = 0; i < n; ++i)
+		{
+			s[i] = (short) ((b[i * 2] & 0xff) | (b[i * 2 + 1] << 8));
+		}
+		return s;
+	}
+
+	private static AudioInputStream stream(AudioFormat format, short[] samples)
+	{
+		byte[] b = new byte[samples.length * 2];
+		for (int i = 0; i < samples.length; ++i)
+		{
+			b[i * 2] = (byte) samples[i];
+			b[i * 2 + 1] = (byte) (samples[i] >> 8);
+		}
+		return new AudioInputStream(new ByteArrayInputStream(b), format, samples.length / format.getChannels());
+	}
+
+	private static void writeWav(File file, AudioFormat format, short[] samples) throws IOException
+	{
+		AudioSystem.write(stream(format, samples), AudioFileFormat.Type.WAVE, file);
+	}
+}
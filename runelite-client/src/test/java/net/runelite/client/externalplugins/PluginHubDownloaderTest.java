@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginHubDownloaderTest
+{
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Gson gson = new Gson();
+	private final Map<String, byte[]> jars = new HashMap<>();
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicInteger maxActive = new AtomicInteger();
+	private File pluginsDir;
+
+	@Before
+	public void before()
+	{
+		pluginsDir = folder.getRoot();
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException
+			{
+				maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				try
+				{
+					// slow enough for the downloads to overlap
+					Thread.sleep(50);
+					byte[] jar = jars.get(request.getPath().substring(1));
+					return jar == null ? new MockResponse().setResponseCode(404) : new MockResponse().setBody(new Buffer().write(jar));
+				}
+				finally
+				{
+					active.decrementAndGet();
+				}
+			}
+		});
+	}
+
+	@Test
+	public void testDownload()
+	{
+		List<PluginHubManifest.JarData> jarDatas = new ArrayList<>();
+		for (int i = 0; i < 8; ++i)
+		{
+			jarDatas.add(jar("plugin" + i, 10_000 + i));
+		}
+
+		JarVerificationManifest manifest = new JarVerificationManifest(new File(pluginsDir, JarVerificationManifest.FILE_NAME), gson);
+		AtomicInteger progress = new AtomicInteger();
+		Set<PluginHubManifest.JarData> failed = downloader(manifest).download(jarDatas, (jar, downloaded, total) ->
+		{
+			assertEquals(8 * 10_000 + 28, total);
+			progress.accumulateAndGet(downloaded, Math::max);
+		});
+
+		assertTrue(failed.isEmpty());
+		assertEquals(8 * 10_000 + 28, progress.get());
+		assertTrue("downloads did not run in parallel", maxActive.get() > 1);
+		for (PluginHubManifest.JarData jarData : jarDatas)
+		{
+			File file = jarData.getJarFile(pluginsDir);
+			assertArrayEquals(jars.get(file.getName()), read(file));
+			assertTrue(manifest.isValid(file, jarData.getJarHash()));
+		}
+		assertEquals(0, pluginsDir.list((dir, name) -> name.endsWith(".tmp")).length);
+	}
+
+	@Test
+	public void testHashMismatch()
+	{
+		PluginHubManifest.JarData good = jar("good", 1000);
+		PluginHubManifest.JarData bad = jar("bad", 1000);
+		jars.get(bad.getJarFile(pluginsDir).getName())[0] ^= 1;
+		PluginHubManifest.JarData missing = jar("missing", 1000);
+		jars.remove(missing.getJarFile(pluginsDir).getName());
+
+		JarVerificationManifest manifest = new JarVerificationManifest(new File(pluginsDir, JarVerificationManifest.FILE_NAME), gson);
+		Set<PluginHubManifest.JarData> failed = downloader(manifest).download(List.of(good, bad, missing), (jar, downloaded, total) ->
+		{
+		});
+
+		assertEquals(Set.of(bad, missing), failed);
+		assertTrue(good.getJarFile(pluginsDir).exists());
+		assertFalse(bad.getJarFile(pluginsDir).exists());
+		assertFalse(missing.getJarFile(pluginsDir).exists());
+		assertEquals(0, pluginsDir.list((dir, name) -> name.endsWith(".tmp")).length);
+	}
+
+	@Test
+	public void testVerifiedOnce() throws IOException
+	{
+		PluginHubManifest.JarData jarData = jar("plugin", 1000);
+		File file = jarData.getJarFile(pluginsDir);
+		byte[] data = jars.get(file.getName());
+		Files.write(data, file);
+		long mtime = file.lastModified();
+
+		File manifestFile = new File(pluginsDir, JarVerificationManifest.FILE_NAME);
+		JarVerificationManifest manifest = new JarVerificationManifest(manifestFile, gson);
+		assertTrue(manifest.isValid(file, jarData.getJarHash()));
+		assertFalse(manifest.isValid(file, "wronghash"));
+		assertTrue(manifest.isValid(file, jarData.getJarHash()));
+		manifest.save();
+
+		// a jar with the same size and mtime isn't hashed again
+		data[0] ^= 1;
+		Files.write(data, file);
+		assertTrue(file.setLastModified(mtime));
+		assertTrue(new JarVerificationManifest(manifestFile, gson).isValid(file, jarData.getJarHash()));
+
+		// but it is once its mtime changes
+		assertTrue(file.setLastModified(mtime - 10_000));
+		assertFalse(new JarVerificationManifest(manifestFile, gson).isValid(file, jarData.getJarHash()));
+	}
+
+	@Test
+	public void testTouch() throws IOException
+	{
+		PluginHubManifest.JarData jarData = jar("plugin", 1000);
+		File file = jarData.getJarFile(pluginsDir);
+		Files.write(jars.get(file.getName()), file);
+		assertTrue(file.setLastModified(file.lastModified() - 100_000));
+
+		JarVerificationManifest manifest = new JarVerificationManifest(new File(pluginsDir, JarVerificationManifest.FILE_NAME), gson);
+		assertTrue(manifest.isValid(file, jarData.getJarHash()));
+
+		// touching a verified jar keeps it verified
+		manifest.touch(file, file.lastModified() + 50_000);
+		byte[] data = jars.get(file.getName());
+		data[0] ^= 1;
+		long mtime = file.lastModified();
+		Files.write(data, file);
+		assertTrue(file.setLastModified(mtime));
+		assertTrue(manifest.isValid(file, jarData.getJarHash()));
+
+		// touching a changed jar does not
+		assertTrue(file.setLastModified(mtime - 10_000));
+		manifest.touch(file, mtime + 10_000);
+		assertFalse(manifest.isValid(file, jarData.getJarHash()));
+	}
+
+	private PluginHubDownloader downloader(JarVerificationManifest manifest)
+	{
+		return new PluginHubDownloader(new OkHttpClient(), jarData -> server.url("/" + jarData.getJarFile(pluginsDir).getName()), pluginsDir, manifest);
+	}
+
+	private PluginHubManifest.JarData jar(String name, int size)
+	{
+		byte[] data = new byte[size];
+		new Random(name.hashCode()).nextBytes(data);
+
+		PluginHubManifest.JarData jarData = new PluginHubManifest.JarData();
+		jarData.setInternalName(name);
+		jarData.setDisplayName(name);
+		jarData.setJarSize(size);
+		jarData.setJarHash(PluginHubManifest.HASH_ENCODER.encodeToString(Hashing.sha256().hashBytes(data).asBytes()));
+		jars.put(jarData.getJarFile(pluginsDir).getName(), data);
+		return jarData;
+	}
+
+	private static byte[] read(File file)
+	{
+		try
+		{
+			return Files.toByteArray(file);
+		}
+		catch (IOException ex)
+		{
+			throw new AssertionError(ex);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.IOException;
+import javax.inject.Inject;
+import javax.inject.Named;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ItemClientTest
+{
+	private static final String LAST_MODIFIED = "Mon, 19 Oct 2026 10:00:00 GMT";
+
+	@Rule
+	public MockWebServer server = new MockWebServer();
+
+	@Bind
+	private OkHttpClient okHttpClient = new OkHttpClient();
+
+	@Bind
+	private Gson gson = new Gson();
+
+	@Bind
+	@Named("runelite.api.base")
+	private HttpUrl apiBase;
+
+	@Bind
+	@Named("runelite.static.base")
+	private HttpUrl staticBase;
+
+	@Inject
+	private ItemClient itemClient;
+
+	@Before
+	public void before()
+	{
+		apiBase = staticBase = server.url("/");
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testConditionalRefresh() throws IOException, InterruptedException
+	{
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"abc\"")
+			.setHeader("Last-Modified", LAST_MODIFIED)
+			.setBody("[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1500000,\"wikiPrice\":1400000}]"));
+
+		ItemPriceTable prices = itemClient.getPrices(ItemPriceTable.EMPTY);
+		assertEquals(1_500_000, prices.getPrice(4151));
+		assertEquals(1_400_000, prices.getWikiPrice(4151));
+
+		RecordedRequest request = server.takeRequest();
+		assertEquals("/item/prices.js", request.getPath());
+		assertNull(request.getHeader("If-None-Match"));
+		assertNull(request.getHeader("If-Modified-Since"));
+
+		server.enqueue(new MockResponse().setResponseCode(304));
+		assertSame(prices, itemClient.getPrices(prices));
+
+		request = server.takeRequest();
+		assertEquals("\"abc\"", request.getHeader("If-None-Match"));
+		assertEquals(LAST_MODIFIED, request.getHeader("If-Modified-Since"));
+	}
+
+	@Test
+	public void testError() throws IOException
+	{
+		server.enqueue(new MockResponse().setResponseCode(500));
+		assertNull(itemClient.getPrices(ItemPriceTable.EMPTY));
+	}
+}
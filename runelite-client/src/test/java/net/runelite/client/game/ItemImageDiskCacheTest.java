@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemImageDiskCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadWrite()
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(folder.getRoot(), () -> "230-a");
+		BufferedImage image = image(0xff00ff00);
+		BufferedImage into = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+
+		assertFalse(cache.read(4151, 1, false, into));
+		cache.write(4151, 1, false, image);
+		assertFalse(cache.read(4151, 1, true, into));
+		assertFalse(cache.read(4151, 2, false, into));
+
+		assertTrue(cache.read(4151, 1, false, into));
+		assertArrayEquals(pixels(image), pixels(into));
+
+		assertEquals(1, cache.stats().hitCount());
+		assertEquals(3, cache.stats().missCount());
+	}
+
+	@Test
+	public void testVersionChange()
+	{
+		BufferedImage into = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		new ItemImageDiskCache(folder.getRoot(), () -> "230-a").write(4151, 1, false, image(0xff00ff00));
+
+		// the version is only determined once per instance, as for a new session
+		AtomicInteger versionReads = new AtomicInteger();
+		ItemImageDiskCache cache = new ItemImageDiskCache(folder.getRoot(), () ->
+		{
+			versionReads.incrementAndGet();
+			return "230-b";
+		});
+		assertFalse(cache.read(4151, 1, false, into));
+		assertFalse(new File(folder.getRoot(), "230-a").exists());
+
+		cache.write(4151, 1, false, image(0xff00ff00));
+		assertTrue(cache.read(4151, 1, false, into));
+		assertEquals(1, versionReads.get());
+
+		// a new instance keeps the images of the current version
+		assertTrue(new ItemImageDiskCache(folder.getRoot(), () -> "230-b").read(4151, 1, false, into));
+	}
+
+	@Test
+	public void testUnknownVersion()
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(folder.getRoot(), () -> null);
+		BufferedImage into = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+
+		cache.write(4151, 1, false, image(0xff00ff00));
+		assertFalse(cache.read(4151, 1, false, into));
+		assertEquals(0, folder.getRoot().list().length);
+	}
+
+	@Test
+	public void testEviction() throws IOException
+	{
+		File dir = folder.newFolder("230-a");
+		BufferedImage image = image(0xff00ff00);
+		for (int i = 0; i < 16384; ++i)
+		{
+			File file = new File(dir, i + "-1.png");
+			Files.write(file.toPath(), new byte[0]);
+			file.setLastModified(1_000_000L + i * 1000L);
+		}
+
+		ItemImageDiskCache cache = new ItemImageDiskCache(folder.getRoot(), () -> "230-a");
+		cache.write(99999, 1, false, image);
+
+		// the least recently used quarter was deleted to make room
+		assertEquals(16384 - 4096 + 1, dir.list().length);
+		assertFalse(new File(dir, "0-1.png").exists());
+		assertFalse(new File(dir, "4095-1.png").exists());
+		assertTrue(new File(dir, "4096-1.png").exists());
+		assertTrue(new File(dir, "99999-1.png").exists());
+	}
+
+	@Test
+	public void testCorrupt() throws IOException
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(folder.getRoot(), () -> "230-a");
+		BufferedImage into = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		cache.write(4151, 1, false, image(0xff00ff00));
+
+		File file = new File(new File(folder.getRoot(), "230-a"), "4151-1.png");
+		Files.write(file.toPath(), new byte[]{1, 2, 3});
+		assertFalse(cache.read(4151, 1, false, into));
+		assertFalse(file.exists());
+	}
+
+	@Test
+	public void testCacheVersion() throws IOException
+	{
+		String version = cacheVersion(1, 1, 1);
+		assertNotNull(version);
+		assertEquals(version, cacheVersion(1, 1, 1));
+
+		// other configs don't affect item images
+		assertEquals(version, cacheVersion(1, 2, 1));
+
+		assertNotEquals(version, cacheVersion(2, 1, 1));
+		assertNotEquals(version, cacheVersion(1, 1, 2));
+	}
+
+	@Test
+	public void testMissingGameCache()
+	{
+		assertNull(ItemImageDiskCache.cacheVersion(folder.getRoot()));
+		// nothing is created in the game cache directory
+		assertEquals(0, folder.getRoot().list().length);
+	}
+
+	private String cacheVersion(int itemCrc, int npcCrc, int modelCrc) throws IOException
+	{
+		File dir = folder.newFolder();
+		try (Store store = new Store(dir))
+		{
+			for (int i = 0; i <= IndexType.FONTS.getNumber(); ++i)
+			{
+				store.addIndex(i);
+			}
+
+			addArchive(store.getIndex(IndexType.CONFIGS), ConfigType.ITEM.getId(), itemCrc);
+			addArchive(store.getIndex(IndexType.CONFIGS), ConfigType.NPC.getId(), npcCrc);
+			addArchive(store.getIndex(IndexType.MODELS), 0, modelCrc);
+			store.save();
+		}
+		return ItemImageDiskCache.cacheVersion(dir);
+	}
+
+	private static void addArchive(Index index, int id, int crc)
+	{
+		Archive archive = index.addArchive(id);
+		archive.setCrc(crc);
+		archive.setFileData(new FileData[]{new FileData()});
+	}
+
+	private static BufferedImage image(int argb)
+	{
+		BufferedImage image = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 4; x < 30; ++x)
+		{
+			image.setRGB(x, x, argb);
+		}
+		return image;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemPriceTableTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testLookup()
+	{
+		ItemPriceTable table = new ItemPriceTable(new ItemPrice[]{
+			price(4151, "Abyssal whip", 1_500_000, 1_400_000),
+			price(995, "Coins", 1, 0),
+		}, null, null);
+
+		assertEquals(1_500_000, table.getPrice(4151));
+		assertEquals(1_400_000, table.getWikiPrice(4151));
+		assertEquals(1, table.getPrice(995));
+		assertEquals(0, table.getPrice(996));
+		assertEquals(0, table.getPrice(30_000));
+		assertEquals(0, table.getWikiPrice(-1));
+		assertEquals(0, ItemPriceTable.EMPTY.getPrice(4151));
+	}
+
+	@Test
+	public void testReadWrite() throws IOException
+	{
+		File file = new File(folder.getRoot(), "prices.bin");
+		new ItemPriceTable(new ItemPrice[]{
+			price(4151, "Abyssal whip", 1_500_000, 1_400_000),
+			price(11832, "Bandos chestplate", 20_000_000, 19_500_000),
+		}, "\"abc\"", "Mon, 19 Oct 2026 10:00:00 GMT").write(file);
+
+		ItemPriceTable table = ItemPriceTable.read(file);
+		assertEquals(2, table.size());
+		assertEquals("Bandos chestplate", table.getItems().get(1).getName());
+		assertEquals(20_000_000, table.getPrice(11832));
+		assertEquals(19_500_000, table.getWikiPrice(11832));
+		assertEquals("\"abc\"", table.getEtag());
+		assertEquals("Mon, 19 Oct 2026 10:00:00 GMT", table.getLastModified());
+
+		ItemPriceTable.EMPTY.write(file);
+		table = ItemPriceTable.read(file);
+		assertEquals(0, table.size());
+		assertNull(table.getEtag());
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadCorrupt() throws IOException
+	{
+		File file = folder.newFile("prices.bin");
+		Files.write(file.toPath(), new byte[]{1, 2, 3, 4});
+		ItemPriceTable.read(file);
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadNegativeSize() throws IOException
+	{
+		File file = folder.newFile("prices.bin");
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(file))))
+		{
+			out.writeInt(0x49505431);
+			out.writeInt(1);
+			out.writeBoolean(false);
+			out.writeBoolean(false);
+			out.writeInt(-1);
+		}
+		ItemPriceTable.read(file);
+	}
+
+	private static ItemPrice price(int id, String name, int price, int wikiPrice)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(id);
+		itemPrice.setName(name);
+		itemPrice.setPrice(price);
+		itemPrice.setWikiPrice(wikiPrice);
+		return itemPrice;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ItemSearchIndexTest
+{
+	private static final ItemSearchIndex INDEX = new ItemSearchIndex(items(
+		"Rune platebody", "Abyssal whip", "Rune pouch", "Mithril rune", "Rune", "Prune", "Adamant dagger", "Brune cake"
+	));
+
+	@Test
+	public void testRanking()
+	{
+		assertEquals(Arrays.asList("Rune", "Rune platebody", "Rune pouch", "Mithril rune", "Prune", "Brune cake"), search("rune"));
+		assertEquals(Arrays.asList("Rune", "Rune platebody", "Rune pouch", "Mithril rune", "Prune", "Brune cake"), search("RUNE"));
+	}
+
+	@Test
+	public void testSubstring()
+	{
+		assertEquals(Arrays.asList("Abyssal whip"), search("sal w"));
+		assertEquals(Arrays.asList("Rune platebody", "Rune pouch"), search("rune p"));
+		assertEquals(Arrays.asList(), search("rune x"));
+		assertEquals(Arrays.asList(), search("zzz"));
+	}
+
+	@Test
+	public void testShortQuery()
+	{
+		assertEquals(Arrays.asList("Rune platebody", "Rune pouch", "Rune", "Mithril rune", "Prune", "Brune cake"), search("ru"));
+		assertEquals(8, search("").size());
+	}
+
+	@Test
+	public void testMatchesLinearSearch()
+	{
+		List<ItemPrice> items = randomItems(new Random(42), 2000);
+		ItemSearchIndex index = new ItemSearchIndex(items);
+		for (String query : new String[]{"a", "ab", "rune", "ite s", "mithril ", "ar", "dragon bones", "e"})
+		{
+			List<ItemPrice> expected = linearSearch(items, query);
+			List<ItemPrice> actual = index.search(query);
+			assertEquals(query, expected.size(), actual.size());
+			assertTrue(query, actual.containsAll(expected));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// about the size of the tradeable item price list
+		List<ItemPrice> items = randomItems(new Random(42), 4500);
+		ItemSearchIndex index = new ItemSearchIndex(items);
+		String[] queries = {"r", "ru", "run", "rune", "rune p", "rune pl", "rune pla", "dragon", "dragon bo", "shark", "ite s"};
+		final int iterations = 2000;
+
+		for (int pass = 0; pass < 3; ++pass)
+		{
+			long start = System.nanoTime();
+			int found = 0;
+			for (int i = 0; i < iterations; ++i)
+			{
+				for (String query : queries)
+				{
+					found += linearSearch(items, query).size();
+				}
+			}
+			long linear = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				for (String query : queries)
+				{
+					found -= index.search(query).size();
+				}
+			}
+			long indexed = System.nanoTime() - start;
+
+			assertEquals(0, found);
+			log.info("linear: {}ns/query, indexed: {}ns/query",
+				linear / iterations / queries.length, indexed / iterations / queries.length);
+		}
+	}
+
+	private static List<String> search(String query)
+	{
+		return INDEX.search(query).stream()
+			.map(ItemPrice::getName)
+			.collect(Collectors.toList());
+	}
+
+	private static List<ItemPrice> linearSearch(List<ItemPrice> items, String query)
+	{
+		query = query.toLowerCase();
+		List<ItemPrice> result = new ArrayList<>();
+		for (ItemPrice item : items)
+		{
+			if (item.getName().toLowerCase().contains(query))
+			{
+				result.add(item);
+			}
+		}
+		return result;
+	}
+
+	private static List<ItemPrice> randomItems(Random random, int count)
+	{
+		String[] materials = {"Bronze", "Iron", "Steel", "Black", "Mithril", "Adamant", "Rune", "Dragon", "Shark", "Oak", "Yew", "Magic"};
+		String[] things = {"platebody", "platelegs", "full helm", "sword", "scimitar", "pickaxe", "bones", "logs", "seed", "arrow", "bar", "ore",
+			"dart", "kiteshield", "longbow", "shortbow", "boots", "gloves", "potion(4)", "pie", "cape"};
+		String[] suffixes = {"", "", "", " (g)", " (t)", " (or)", " (p++)", " (i)", " set", " (broken)"};
+
+		List<ItemPrice> items = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			String name = materials[random.nextInt(materials.length)] + " " + things[random.nextInt(things.length)]
+				+ suffixes[random.nextInt(suffixes.length)] + (random.nextInt(4) == 0 ? " " + i : "");
+			items.add(item(i, name));
+		}
+		return items;
+	}
+
+	private static List<ItemPrice> items(String... names)
+	{
+		List<ItemPrice> items = new ArrayList<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			items.add(item(i, names[i]));
+		}
+		return items;
+	}
+
+	private static ItemPrice item(int id, String name)
+	{
+		ItemPrice item = new ItemPrice();
+		item.setId(id);
+		item.setName(name);
+		return item;
+	}
+}
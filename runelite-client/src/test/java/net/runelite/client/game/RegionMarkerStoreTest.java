@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RegionMarkerStoreTest
+{
+	private static final String GROUP = "test";
+	private static final int REGION = 12850;
+
+	static class Marker
+	{
+		int regionX;
+		int regionY;
+		int z;
+		String label;
+
+		Marker(int regionX, int regionY, int z, String label)
+		{
+			this.regionX = regionX;
+			this.regionY = regionY;
+			this.z = z;
+			this.label = label;
+		}
+	}
+
+	private final Gson gson = new Gson();
+	private ConfigManager configManager;
+	private ScheduledExecutorService executor;
+	private RegionMarkerStore<Marker> store;
+
+	@Before
+	public void before()
+	{
+		configManager = mock(ConfigManager.class);
+		executor = mock(ScheduledExecutorService.class);
+		when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(mock(ScheduledFuture.class));
+
+		store = new RegionMarkerStore<>(configManager, gson, executor, GROUP, Marker.class,
+			m -> RegionMarkerStore.packTile(m.regionX, m.regionY, m.z), m -> !"null".equals(m.label));
+	}
+
+	private void setRegion(int regionId, Marker... markers)
+	{
+		when(configManager.getConfiguration(GROUP, "region_" + regionId)).thenReturn(gson.toJson(Arrays.asList(markers)));
+	}
+
+	@Test
+	public void testTileLookup()
+	{
+		setRegion(REGION,
+			new Marker(10, 20, 1, "a"),
+			new Marker(10, 20, 0, "b"),
+			new Marker(63, 63, 3, "c"),
+			new Marker(10, 20, 0, "d"),
+			new Marker(0, 0, 0, "e"));
+
+		assertEquals(5, store.size(REGION));
+
+		List<Marker> markers = store.getMarkers(REGION, 10, 20, 0);
+		assertEquals(2, markers.size());
+		// markers on the same tile keep their order
+		assertEquals("b", markers.get(0).label);
+		assertEquals("d", markers.get(1).label);
+
+		assertEquals("a", store.getMarkers(REGION, 10, 20, 1).get(0).label);
+		assertEquals("c", store.getMarkers(REGION, 63, 63, 3).get(0).label);
+		assertEquals("e", store.getMarkers(REGION, 0, 0, 0).get(0).label);
+		assertTrue(store.getMarkers(REGION, 20, 10, 0).isEmpty());
+
+		// the region is only decoded once
+		verify(configManager, times(1)).getConfiguration(GROUP, "region_" + REGION);
+	}
+
+	@Test
+	public void testFilter()
+	{
+		setRegion(REGION,
+			new Marker(1, 1, 0, "null"),
+			new Marker(1, 1, 0, "a"));
+
+		List<Marker> markers = store.getMarkers(REGION);
+		assertEquals(1, markers.size());
+		assertEquals("a", markers.get(0).label);
+	}
+
+	@Test
+	public void testInvalidJson()
+	{
+		when(configManager.getConfiguration(GROUP, "region_" + REGION)).thenReturn("{");
+
+		assertTrue(store.getMarkers(REGION).isEmpty());
+	}
+
+	@Test
+	public void testBatchedWrite()
+	{
+		store.add(REGION, new Marker(5, 5, 0, "a"));
+		store.add(REGION, new Marker(1, 1, 0, "b"));
+		store.add(REGION, new Marker(5, 5, 0, "c"));
+		assertTrue(store.removeIf(REGION, m -> "c".equals(m.label)));
+		assertFalse(store.removeIf(REGION, m -> "c".equals(m.label)));
+
+		assertEquals("a", store.getMarkers(REGION, 5, 5, 0).get(0).label);
+		assertEquals("b", store.getMarkers(REGION, 1, 1, 0).get(0).label);
+
+		// nothing is written until the flush, which is only scheduled once
+		verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+		verify(configManager, never()).setConfiguration(anyString(), anyString(), anyString());
+
+		store.flush();
+
+		String json = gson.toJson(Arrays.asList(new Marker(1, 1, 0, "b"), new Marker(5, 5, 0, "a")));
+		verify(configManager, times(1)).setConfiguration(GROUP, "region_" + REGION, json);
+
+		// a second flush has nothing to write
+		store.flush();
+		verify(configManager, times(1)).setConfiguration(eq(GROUP), anyString(), anyString());
+	}
+
+	@Test
+	public void testClearRegion()
+	{
+		setRegion(REGION, new Marker(1, 1, 0, "a"));
+
+		store.setMarkers(REGION, null);
+		assertEquals(0, store.size(REGION));
+
+		store.flush();
+		verify(configManager, times(1)).unsetConfiguration(GROUP, "region_" + REGION);
+	}
+
+	@Test
+	public void testInvalidate()
+	{
+		setRegion(REGION, new Marker(1, 1, 0, "a"));
+		assertEquals(1, store.size(REGION));
+
+		setRegion(REGION, new Marker(1, 1, 0, "a"), new Marker(2, 2, 0, "b"));
+		assertEquals(1, store.size(REGION));
+
+		store.invalidate();
+		assertEquals(2, store.size(REGION));
+	}
+
+	@Test
+	public void testReplace()
+	{
+		Marker a = new Marker(1, 1, 0, "a");
+		setRegion(REGION, a);
+		a = store.getMarkers(REGION).get(0);
+
+		assertTrue(store.replace(REGION, a, new Marker(1, 1, 0, "b")));
+		assertFalse(store.replace(REGION, a, new Marker(1, 1, 0, "c")));
+		assertEquals("a", a.label);
+		assertEquals("b", store.getMarkers(REGION, 1, 1, 0).get(0).label);
+
+		store.flush();
+		verify(configManager).setConfiguration(GROUP, "region_" + REGION, gson.toJson(Arrays.asList(new Marker(1, 1, 0, "b"))));
+	}
+
+	@Test
+	public void testExternalChange()
+	{
+		setRegion(REGION, new Marker(1, 1, 0, "a"));
+		store.add(REGION, new Marker(2, 2, 0, "b"));
+		assertEquals(2, store.size(REGION));
+
+		// another client writes the region
+		setRegion(REGION, new Marker(3, 3, 0, "c"));
+		assertTrue(store.configChanged(configChanged(GROUP, "region_" + REGION)));
+		assertFalse(store.configChanged(configChanged("other", "region_" + REGION)));
+
+		assertEquals("c", store.getMarkers(REGION).get(0).label);
+		assertEquals(1, store.size(REGION));
+
+		// the pending change is dropped rather than overwriting the external one
+		store.flush();
+		verify(configManager, never()).setConfiguration(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	public void testOwnWriteIsNotExternal()
+	{
+		doAnswer(invocation ->
+		{
+			assertFalse(store.configChanged(configChanged(GROUP, invocation.getArgument(1))));
+			return null;
+		}).when(configManager).setConfiguration(eq(GROUP), anyString(), anyString());
+
+		store.add(REGION, new Marker(1, 1, 0, "a"));
+		store.flush();
+
+		verify(configManager).setConfiguration(eq(GROUP), eq("region_" + REGION), anyString());
+		assertEquals(1, store.size(REGION));
+	}
+
+	private static ConfigChanged configChanged(String group, String key)
+	{
+		ConfigChanged event = new ConfigChanged();
+		event.setGroup(group);
+		event.setKey(key);
+		return event;
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HiscoreManagerTest
+{
+	private static final long TIMEOUT_MS = 5000;
+	private static final HiscoreResult ZEZIMA = new HiscoreResult("zezima", ImmutableMap.of(HiscoreSkill.ATTACK, new Skill(1, 99, 13_034_431L)));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Gson gson = new Gson();
+	private ScheduledExecutorService executor;
+	private HiscoreClient hiscoreClient;
+	private File cacheFile;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor();
+		hiscoreClient = mock(HiscoreClient.class);
+		cacheFile = new File(folder.getRoot(), "hiscores.json.gz");
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception
+	{
+		CompletableFuture<HiscoreResult> response = new CompletableFuture<>();
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(response);
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, TIMEOUT_MS);
+		CompletableFuture<HiscoreResult> first = hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL);
+		CompletableFuture<HiscoreResult> second = hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL);
+		assertSame(first, second);
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+
+		response.complete(ZEZIMA);
+		assertSame(ZEZIMA, first.get());
+		assertSame(ZEZIMA, hiscoreManager.lookup("zezima", HiscoreEndpoint.NORMAL));
+		assertSame(ZEZIMA, hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testNotFound() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("nobody", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(null));
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, TIMEOUT_MS);
+		assertNull(hiscoreManager.lookup("nobody", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookup("nobody", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("nobody", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testFailure() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.failedFuture(new IOException("503")));
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, TIMEOUT_MS);
+		CompletableFuture<HiscoreResult> failed = hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL);
+		assertFails(failed);
+
+		// failures are not retried right away, unless refreshed
+		assertSame(failed, hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+		assertSame(ZEZIMA, hiscoreManager.refresh("zezima", HiscoreEndpoint.NORMAL).get());
+		assertSame(ZEZIMA, hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL).get());
+	}
+
+	@Test
+	public void testClientThrows() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenThrow(new IllegalStateException());
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, TIMEOUT_MS);
+		try
+		{
+			hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL).get(1, TimeUnit.SECONDS);
+			fail("lookup did not fail");
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void testTimeout() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(new CompletableFuture<>());
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, 100);
+		CompletableFuture<HiscoreResult> lookup = hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL);
+		try
+		{
+			lookup.get(1, TimeUnit.SECONDS);
+			fail("lookup did not time out");
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof TimeoutException);
+		}
+
+		// the timed out lookup is no longer in flight
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+		assertSame(ZEZIMA, hiscoreManager.refresh("zezima", HiscoreEndpoint.NORMAL).get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testRateLimit() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("a", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+		when(hiscoreClient.lookupAsync("b", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+		when(hiscoreClient.lookupAsync("c", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 100, TIMEOUT_MS);
+		long start = System.nanoTime();
+		CompletableFuture.allOf(
+			hiscoreManager.fetch("a", HiscoreEndpoint.NORMAL),
+			hiscoreManager.fetch("b", HiscoreEndpoint.NORMAL),
+			hiscoreManager.fetch("c", HiscoreEndpoint.NORMAL)).get();
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+		assertTrue("lookups took " + elapsedMs + "ms", elapsedMs >= 190);
+	}
+
+	@Test
+	public void testPersist() throws Exception
+	{
+		when(hiscoreClient.lookupAsync("zezima", HiscoreEndpoint.NORMAL)).thenReturn(CompletableFuture.completedFuture(ZEZIMA));
+
+		HiscoreManager hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile, 0, TIMEOUT_MS);
+		hiscoreManager.fetch("zezima", HiscoreEndpoint.NORMAL).get();
+		hiscoreManager.saveCache();
+
+		// a new session is served from the disk cache
+		HiscoreClient restarted = mock(HiscoreClient.class);
+		hiscoreManager = new HiscoreManager(executor, restarted, gson, cacheFile, 0, TIMEOUT_MS);
+		executor.submit(() -> null).get();
+
+		HiscoreResult result = hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+		assertEquals("zezima", result.getPlayer());
+		assertEquals(99, result.getSkill(HiscoreSkill.ATTACK).getLevel());
+		assertEquals(13_034_431L, result.getSkill(HiscoreSkill.ATTACK).getExperience());
+		verify(restarted, never()).lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	private static void assertFails(CompletableFuture<HiscoreResult> future) throws InterruptedException
+	{
+		try
+		{
+			future.get();
+			fail("lookup did not fail");
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IOException);
+		}
+	}
+}
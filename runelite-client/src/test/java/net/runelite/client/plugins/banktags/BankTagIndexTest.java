@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BankTagIndexTest
+{
+	private ConfigManager configManager;
+	private EventBus eventBus;
+	private BankTagIndex bankTagIndex;
+
+	@Before
+	public void before()
+	{
+		configManager = mock(ConfigManager.class);
+		eventBus = new EventBus();
+		bankTagIndex = new BankTagIndex(configManager, eventBus);
+
+		when(configManager.getConfigurationKeys(CONFIG_GROUP + "." + ITEM_KEY_PREFIX)).thenReturn(Arrays.asList(
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + "4151",
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + "-1215",
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + "11802"
+		));
+		when(configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + "4151")).thenReturn("Melee,slayer");
+		when(configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + "-1215")).thenReturn("melee,spec");
+		when(configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + "11802")).thenReturn("spec");
+	}
+
+	@Test
+	public void testGetTags()
+	{
+		assertArrayEquals(new String[]{"melee", "slayer"}, bankTagIndex.getTags(4151));
+		assertArrayEquals(new String[0], bankTagIndex.getTags(995));
+
+		assertTrue(bankTagIndex.hasTagStartingWith(-1215, "sp"));
+		assertFalse(bankTagIndex.hasTagStartingWith(-1215, "slay"));
+
+		// tags are only read from the config once
+		bankTagIndex.getTags(4151);
+		verify(configManager, times(1)).getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + "4151");
+	}
+
+	@Test
+	public void testGetItemsForTag()
+	{
+		assertEquals(Arrays.asList(4151, -1215), bankTagIndex.getItemsForTag("melee"));
+		assertEquals(Arrays.asList(11802, -1215), bankTagIndex.getItemsForTag("spec"));
+		assertEquals(Collections.emptyList(), bankTagIndex.getItemsForTag("herb"));
+	}
+
+	@Test
+	public void testConfigChanged()
+	{
+		bankTagIndex.getItemsForTag("melee");
+
+		configChanged(4151, "slayer,herb");
+		configChanged(-1215, null);
+		configChanged(995, "melee");
+
+		assertEquals(Collections.singletonList(995), bankTagIndex.getItemsForTag("melee"));
+		assertEquals(Collections.singletonList(4151), bankTagIndex.getItemsForTag("herb"));
+		assertEquals(Collections.singletonList(11802), bankTagIndex.getItemsForTag("spec"));
+		assertArrayEquals(new String[]{"slayer", "herb"}, bankTagIndex.getTags(4151));
+
+		// the index is built once and then maintained incrementally
+		verify(configManager, times(1)).getConfigurationKeys(CONFIG_GROUP + "." + ITEM_KEY_PREFIX);
+	}
+
+	private void configChanged(int id, String value)
+	{
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(CONFIG_GROUP);
+		configChanged.setKey(ITEM_KEY_PREFIX + id);
+		configChanged.setNewValue(value);
+		eventBus.post(configChanged);
+	}
+}
@@ -35,6 +35,8 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
 import net.runelite.client.plugins.banktags.tabs.TabInterface;
@@ -83,6 +85,9 @@ public class BankTagsPluginTest
 	@Bind
 	private ChatMessageManager chatMessageManager;
 
+	@Bind
+	private final EventBus eventBus = new EventBus();
+
 	@Bind
 	@Named("developerMode")
 	boolean developerMode;
@@ -113,22 +118,19 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"tag:whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip");
+		setWhipTags("herb,bossing,whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should be found at the start of the tag
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setWhipTags("herb,bossing,whip long tag");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should not be be found in the middle of the tag
 		// and explicit search does not allow fall through
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing whip");
+		setWhipTags("herb,bossing whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(0, client.getIntStack()[0]);
 	}
@@ -139,8 +141,7 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{1, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing");
+		setWhipTags("herb,bossing");
 
 		assertFalse(tagManager.findTag(ItemID.ABYSSAL_WHIP, "whip"));
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
@@ -153,10 +154,18 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setWhipTags("herb,bossing,whip long tag");
 
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 	}
+
+	private void setWhipTags(String tags)
+	{
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(BankTagsPlugin.CONFIG_GROUP);
+		configChanged.setKey(ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP);
+		configChanged.setNewValue(tags);
+		eventBus.post(configChanged);
+	}
 }
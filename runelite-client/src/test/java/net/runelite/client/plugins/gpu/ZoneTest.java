@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ZoneTest
+{
+	private static final int ZX = 6, ZZ = 9;
+
+	@Test
+	public void testAlphaSort()
+	{
+		Zone zone = zone(200, new Random(42));
+		int cx = (ZX << 10) + 300, cy = -800, cz = (ZZ << 10) - 2000;
+
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		assertSorted(zone, cx, cy, cz);
+	}
+
+	@Test
+	public void testAlphaSortIsCached()
+	{
+		Zone zone = zone(200, new Random(42));
+		int cx = (ZX << 10) + 300, cy = -800, cz = (ZZ << 10) - 2000;
+
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		List<Zone.AlphaModel> order = new ArrayList<>(zone.alphaModels);
+
+		// small camera movements keep the previous order
+		zone.alphaSort(ZX, ZZ, cx + Zone.ALPHA_SORT_THRESHOLD, cy - Zone.ALPHA_SORT_THRESHOLD, cz);
+		assertEquals(order, zone.alphaModels);
+
+		// larger movements re-sort
+		cx += 5000;
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		assertSorted(zone, cx, cy, cz);
+	}
+
+	@Test
+	public void testAlphaSortTempModels()
+	{
+		Random random = new Random(42);
+		Zone zone = zone(100, random);
+		int cx = (ZX << 10) - 1500, cy = -600, cz = (ZZ << 10) + 700;
+
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		List<Zone.AlphaModel> order = new ArrayList<>(zone.alphaModels);
+
+		for (int i = 0; i < 10; ++i)
+		{
+			zone.addTempAlphaModel(1, 0, 0, 0, random.nextInt(1024), -random.nextInt(300), random.nextInt(1024));
+		}
+
+		// temp models are inserted into the cached order
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		assertEquals(110, zone.alphaModels.size());
+		assertSorted(zone, cx, cy, cz);
+
+		// and removing them restores it
+		zone.removeTemp();
+		assertEquals(order, zone.alphaModels);
+	}
+
+	@Test
+	public void testAlphaSortReversed()
+	{
+		Zone zone = zone(500, new Random(42));
+		int cx = ZX << 10, cy = 0, cz = ZZ << 10;
+
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		assertSorted(zone, cx, cy, cz);
+
+		// moving the camera to the other side of the zone reverses most of the order, which
+		// is too much for an insertion sort
+		cx += 1024;
+		cz += 1024;
+		zone.alphaSort(ZX, ZZ, cx, cy, cz);
+		assertSorted(zone, cx, cy, cz);
+	}
+
+	@Test
+	public void testRoofMask()
+	{
+		RoofMask mask = new RoofMask();
+		assertTrue(mask.isEmpty());
+
+		mask.set(Set.of(3, 64, 1000));
+		assertFalse(mask.isEmpty());
+		assertTrue(mask.contains(3));
+		assertTrue(mask.contains(64));
+		assertTrue(mask.contains(1000));
+		assertFalse(mask.contains(0));
+		assertFalse(mask.contains(4));
+		assertFalse(mask.contains(1001));
+		assertFalse(mask.contains(-3));
+
+		mask.set(Set.of(5));
+		assertTrue(mask.contains(5));
+		assertFalse(mask.contains(1000));
+		assertFalse(mask.contains(3));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// a scene worth of zones with lots of alpha models, such as water and foliage
+		final int zones = 200;
+		final int models = 150;
+		final int frames = 2000;
+
+		Random random = new Random(42);
+		Zone[] cached = new Zone[zones];
+		List<List<Zone.AlphaModel>> lists = new ArrayList<>();
+		for (int i = 0; i < zones; ++i)
+		{
+			cached[i] = zone(models, random);
+			lists.add(new ArrayList<>(cached[i].alphaModels));
+		}
+
+		for (int pass = 0; pass < 3; ++pass)
+		{
+			long start = System.nanoTime();
+			for (int frame = 0; frame < frames; ++frame)
+			{
+				// the camera slowly circling the zone
+				int cx = (ZX << 10) + (int) (3000 * Math.cos(frame / 500.0)), cy = -1000, cz = (ZZ << 10) + (int) (3000 * Math.sin(frame / 500.0));
+				for (List<Zone.AlphaModel> list : lists)
+				{
+					list.sort(order(cx, cy, cz));
+				}
+			}
+			long comparator = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int frame = 0; frame < frames; ++frame)
+			{
+				int cx = (ZX << 10) + (int) (3000 * Math.cos(frame / 500.0)), cy = -1000, cz = (ZZ << 10) + (int) (3000 * Math.sin(frame / 500.0));
+				for (Zone zone : cached)
+				{
+					zone.alphaSort(ZX, ZZ, cx, cy, cz);
+				}
+			}
+			long sort = System.nanoTime() - start;
+
+			log.info("comparator sort: {}ns/frame, alphaSort: {}ns/frame",
+				comparator / frames, sort / frames);
+		}
+	}
+
+	private static Zone zone(int models, Random random)
+	{
+		Zone zone = new Zone();
+		for (int i = 0; i < models; ++i)
+		{
+			Zone.AlphaModel m = new Zone.AlphaModel();
+			m.x = (short) random.nextInt(1024);
+			m.y = (short) -random.nextInt(500);
+			m.z = (short) random.nextInt(1024);
+			m.packedFaces = new int[1];
+			zone.alphaModels.add(m);
+		}
+		return zone;
+	}
+
+	private static Comparator<Zone.AlphaModel> order(int cx, int cy, int cz)
+	{
+		return Comparator.comparingInt((Zone.AlphaModel m) ->
+		{
+			int mx = m.x + ((ZX - m.zofx) << 10) - cx;
+			int my = m.y - cy;
+			int mz = m.z + ((ZZ - m.zofz) << 10) - cz;
+			return mx * mx + my * my + mz * mz;
+		}).reversed();
+	}
+
+	private static void assertSorted(Zone zone, int cx, int cy, int cz)
+	{
+		Comparator<Zone.AlphaModel> order = order(cx, cy, cz);
+		List<Zone.AlphaModel> models = zone.alphaModels;
+		for (int i = 1; i < models.size(); ++i)
+		{
+			assertFalse("models " + (i - 1) + " and " + i + " are out of order", order.compare(models.get(i - 1), models.get(i)) > 0);
+		}
+	}
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import java.nio.IntBuffer;
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.DynamicObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.Model;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.SceneTilePaint;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.client.callback.RenderCallback;
+import net.runelite.client.callback.RenderCallbackManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@Slf4j
+public class ZoneUploaderTest
+{
+	private static final int ZONES = 4;
+	// ints per face, see GpuIntBuffer.put22224 and put2222
+	private static final int FACE_INTS = 3 * 5;
+
+	private final RenderCallbackManager renderCallbackManager = new RenderCallbackManager();
+
+	@Test
+	public void testParallelMatchesSerial()
+	{
+		Scene scene = buildScene(ZONES, 40, new Random(42));
+
+		Zone[][] serial = upload(new ZoneUploader(renderCallbackManager, 0), scene, ZONES);
+		Zone[][] parallel = upload(new ZoneUploader(renderCallbackManager, 3), scene, ZONES);
+
+		int alphaModels = 0;
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				Zone a = serial[x][z], b = parallel[x][z];
+				assertEquals(a.sizeO, b.sizeO);
+				assertEquals(a.sizeA, b.sizeA);
+				assertEquals(contents(a.vboO), contents(b.vboO));
+				assertEquals(contents(a.vboA), contents(b.vboA));
+				assertArrayEquals(a.levelOffsets, b.levelOffsets);
+				assertArrayEquals(a.rids, b.rids);
+				assertArrayEquals(a.roofStart, b.roofStart);
+				assertArrayEquals(a.roofEnd, b.roofEnd);
+
+				assertEquals(a.alphaModels.size(), b.alphaModels.size());
+				for (int i = 0; i < a.alphaModels.size(); ++i)
+				{
+					Zone.AlphaModel ma = a.alphaModels.get(i), mb = b.alphaModels.get(i);
+					assertEquals(ma.startpos, mb.startpos);
+					assertEquals(ma.endpos, mb.endpos);
+					assertEquals(ma.radius, mb.radius);
+					assertArrayEquals(ma.packedFaces, mb.packedFaces);
+				}
+				alphaModels += a.alphaModels.size();
+			}
+		}
+
+		// make sure the scene exercised the alpha and roof paths
+		assertTrue(alphaModels > 0);
+		assertTrue(serial[0][0].rids[1].length > 0);
+	}
+
+	@Test
+	public void testRenderCallbacksOnCallingThread()
+	{
+		Scene scene = buildScene(ZONES, 20, new Random(42));
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		RenderCallbackManager callbacks = new RenderCallbackManager();
+		callbacks.register(new RenderCallback()
+		{
+			@Override
+			public boolean drawTile(Scene scene, Tile tile)
+			{
+				threads.add(Thread.currentThread());
+				return true;
+			}
+
+			@Override
+			public boolean drawObject(Scene scene, TileObject object)
+			{
+				threads.add(Thread.currentThread());
+				return (object.getId() & 1) == 0;
+			}
+		});
+
+		Zone[][] all = upload(new ZoneUploader(renderCallbackManager, 0), scene, ZONES);
+		Zone[][] serial = upload(new ZoneUploader(callbacks, 0), scene, ZONES);
+		Zone[][] parallel = upload(new ZoneUploader(callbacks, 3), scene, ZONES);
+
+		assertEquals(Collections.singleton(Thread.currentThread()), threads);
+
+		int hidden = 0;
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				assertEquals(contents(serial[x][z].vboO), contents(parallel[x][z].vboO));
+				assertEquals(contents(serial[x][z].vboA), contents(parallel[x][z].vboA));
+				hidden += contents(all[x][z].vboO).remaining() - contents(serial[x][z].vboO).remaining();
+			}
+		}
+
+		// the hidden objects were not uploaded
+		assertTrue(hidden > 0);
+	}
+
+	@Test
+	public void testDynamicObjectsOnCallingThread()
+	{
+		Scene scene = buildScene(ZONES, 20, new Random(42));
+		Tile[][][] tiles = scene.getExtendedTiles();
+
+		// animated objects, whose models are built by the client
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		Random random = new Random(7);
+		for (int x = 0; x < ZONES * 8; x += 3)
+		{
+			for (int y = 1; y < ZONES * 8; y += 5)
+			{
+				Model model = model(20, random);
+				DynamicObject dynamicObject = mock(DynamicObject.class, withSettings().stubOnly());
+				when(dynamicObject.getModelZbuf()).then(invocation ->
+				{
+					threads.add(Thread.currentThread());
+					return model;
+				});
+
+				GameObject gameObject = gameObject(x, y, 0, null, 0, x * 1000 + y);
+				when(gameObject.getRenderable()).thenReturn(dynamicObject);
+				tiles[0][x][y].getGameObjects()[1] = gameObject;
+			}
+		}
+
+		Zone[][] serial = upload(new ZoneUploader(renderCallbackManager, 0), scene, ZONES);
+		Zone[][] parallel = upload(new ZoneUploader(renderCallbackManager, 3), scene, ZONES);
+
+		assertEquals(Collections.singleton(Thread.currentThread()), threads);
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				assertEquals(contents(serial[x][z].vboO), contents(parallel[x][z].vboO));
+				assertEquals(contents(serial[x][z].vboA), contents(parallel[x][z].vboA));
+			}
+		}
+	}
+
+	@Test
+	public void testInitializedZonesAreSkipped()
+	{
+		Scene scene = buildScene(ZONES, 20, new Random(42));
+
+		Zone[][] zones = newZones(ZONES);
+		zones[1][2].initialized = true;
+
+		ZoneUploader uploader = new ZoneUploader(renderCallbackManager, 2);
+		uploader.sizeZones(scene, zones, ZONES, ZONES);
+		uploader.shutdown();
+
+		assertEquals(0, zones[1][2].sizeO);
+		assertTrue(zones[2][1].sizeO > 0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testFailurePropagates()
+	{
+		Scene scene = buildScene(ZONES, 20, new Random(42));
+		Tile[][][] tiles = scene.getExtendedTiles();
+		// a tile deep in the scene, so that it is most likely processed by a worker
+		tiles[0][ZONES * 8 - 3][ZONES * 8 - 3] = mock(Tile.class, invocation ->
+		{
+			throw new IllegalStateException();
+		});
+
+		ZoneUploader uploader = new ZoneUploader(renderCallbackManager, 2);
+		try
+		{
+			uploader.sizeZones(scene, newZones(ZONES), ZONES, ZONES);
+		}
+		finally
+		{
+			uploader.shutdown();
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// the size of a top level scene
+		final int zones = 23;
+		Scene scene = buildScene(zones, 1500, new Random(42));
+		int threads = Runtime.getRuntime().availableProcessors();
+
+		ZoneUploader serial = new ZoneUploader(renderCallbackManager, 0);
+		ZoneUploader parallel = new ZoneUploader(renderCallbackManager, threads - 1);
+		for (int i = 0; i < 5; ++i)
+		{
+			upload(serial, scene, zones);
+			upload(parallel, scene, zones);
+		}
+
+		final int iterations = 20;
+		long serialTime = 0, parallelTime = 0;
+		for (int i = 0; i < iterations; ++i)
+		{
+			long start = System.nanoTime();
+			upload(serial, scene, zones);
+			serialTime += System.nanoTime() - start;
+
+			start = System.nanoTime();
+			upload(parallel, scene, zones);
+			parallelTime += System.nanoTime() - start;
+		}
+
+		serial.shutdown();
+		parallel.shutdown();
+
+		log.info("serial: {}ms, parallel ({} threads): {}ms",
+			serialTime / 1_000_000 / iterations, threads, parallelTime / 1_000_000 / iterations);
+	}
+
+	private static Zone[][] newZones(int size)
+	{
+		Zone[][] zones = new Zone[size][size];
+		for (int x = 0; x < size; ++x)
+		{
+			for (int z = 0; z < size; ++z)
+			{
+				zones[x][z] = new Zone();
+			}
+		}
+		return zones;
+	}
+
+	private static Zone[][] upload(ZoneUploader uploader, Scene scene, int size)
+	{
+		Zone[][] zones = newZones(size);
+		uploader.sizeZones(scene, zones, size, size);
+
+		// stand in for the vbos which GpuPlugin creates and maps on the client thread
+		for (int x = 0; x < size; ++x)
+		{
+			for (int z = 0; z < size; ++z)
+			{
+				Zone zone = zones[x][z];
+				zone.vboO = buffer(zone.sizeO);
+				zone.vboA = buffer(zone.sizeA);
+			}
+		}
+
+		uploader.uploadZones(scene, zones, size, size);
+		return zones;
+	}
+
+	private static VBO buffer(int faces)
+	{
+		if (faces == 0)
+		{
+			return null;
+		}
+
+		VBO vbo = new VBO(faces * Zone.VERT_SIZE * 3);
+		vbo.vb = IntBuffer.allocate(faces * FACE_INTS);
+		return vbo;
+	}
+
+	private static IntBuffer contents(VBO vbo)
+	{
+		if (vbo == null)
+		{
+			return IntBuffer.allocate(0);
+		}
+
+		IntBuffer buf = vbo.vb.duplicate();
+		buf.flip();
+		return buf;
+	}
+
+	/**
+	 * Builds a sub scene with painted tiles, roofs on the upper levels, and an object with
+	 * partially transparent model on every fourth tile.
+	 */
+	private static Scene buildScene(int zones, int faces, Random random)
+	{
+		final int size = zones * 8;
+		final Tile[][][] tiles = new Tile[4][size][size];
+		final int[][][] heights = new int[4][size + 1][size + 1];
+		final byte[][][] settings = new byte[4][size][size];
+		final int[][][] roofs = new int[4][size][size];
+
+		Model[] models = new Model[8];
+		for (int i = 0; i < models.length; ++i)
+		{
+			models[i] = model(faces, random);
+		}
+
+		for (int level = 0; level < 4; ++level)
+		{
+			for (int x = 0; x <= size; ++x)
+			{
+				for (int y = 0; y <= size; ++y)
+				{
+					heights[level][x][y] = -level * 240 - random.nextInt(64);
+				}
+			}
+		}
+
+		for (int x = 0; x < size; ++x)
+		{
+			for (int y = 0; y < size; ++y)
+			{
+				// a building with a roof in every other zone
+				boolean building = ((x >> 3) + (y >> 3) & 1) == 0 && (x & 7) > 1 && (y & 7) > 1;
+				int levels = building ? 2 : 1;
+				if (building)
+				{
+					roofs[0][x][y] = 1 + (x >> 3) * zones + (y >> 3);
+				}
+
+				for (int level = 0; level < levels; ++level)
+				{
+					GameObject object = null;
+					if (((x + y + level) & 3) == 0)
+					{
+						object = gameObject(x, y, heights[level][x][y], models[random.nextInt(models.length)], random.nextInt(4) * 512, random.nextInt(10000));
+					}
+					tiles[level][x][y] = tile(x, y, level, paint(random), object);
+				}
+			}
+		}
+
+		Scene scene = stub(Scene.class);
+		when(scene.getExtendedTiles()).thenReturn(tiles);
+		when(scene.getTileHeights()).thenReturn(heights);
+		when(scene.getExtendedTileSettings()).thenReturn(settings);
+		when(scene.getRoofs()).thenReturn(roofs);
+		when(scene.getWorldViewId()).thenReturn(1);
+		return scene;
+	}
+
+	private static Tile tile(int x, int y, int level, SceneTilePaint paint, GameObject object)
+	{
+		GameObject[] objects = new GameObject[5];
+		objects[0] = object;
+		Tile tile = stub(Tile.class);
+		when(tile.getSceneLocation()).thenReturn(new Point(x, y));
+		when(tile.getRenderLevel()).thenReturn(level);
+		when(tile.getSceneTilePaint()).thenReturn(paint);
+		when(tile.getGameObjects()).thenReturn(objects);
+		return tile;
+	}
+
+	private static SceneTilePaint paint(Random random)
+	{
+		int color = random.nextInt(65536);
+		SceneTilePaint paint = stub(SceneTilePaint.class);
+		when(paint.getSwColor()).thenReturn(color);
+		when(paint.getSeColor()).thenReturn(color);
+		when(paint.getNeColor()).thenReturn(color);
+		when(paint.getNwColor()).thenReturn(color);
+		when(paint.getTexture()).thenReturn(-1);
+		return paint;
+	}
+
+	private static GameObject gameObject(int x, int y, int height, Model model, int orientation, int id)
+	{
+		Point location = new Point(x, y);
+		GameObject object = stub(GameObject.class);
+		when(object.getSceneMinLocation()).thenReturn(location);
+		when(object.getSceneMaxLocation()).thenReturn(location);
+		when(object.getRenderable()).thenReturn(model);
+		when(object.getModelOrientation()).thenReturn(orientation);
+		when(object.getX()).thenReturn(x * 128 + 64);
+		when(object.getY()).thenReturn(y * 128 + 64);
+		when(object.getZ()).thenReturn(height);
+		when(object.getId()).thenReturn(id);
+		return object;
+	}
+
+	private static Model model(int faces, Random random)
+	{
+		final int vertices = faces / 2 + 3;
+		final float[] vx = new float[vertices], vy = new float[vertices], vz = new float[vertices];
+		for (int v = 0; v < vertices; ++v)
+		{
+			vx[v] = random.nextInt(256) - 128;
+			vy[v] = -random.nextInt(512);
+			vz[v] = random.nextInt(256) - 128;
+		}
+
+		final int[] i1 = new int[faces], i2 = new int[faces], i3 = new int[faces];
+		final int[] c1 = new int[faces], c2 = new int[faces], c3 = new int[faces];
+		final byte[] transparencies = new byte[faces];
+		for (int f = 0; f < faces; ++f)
+		{
+			i1[f] = random.nextInt(vertices);
+			i2[f] = random.nextInt(vertices);
+			i3[f] = random.nextInt(vertices);
+			c1[f] = random.nextInt(65536);
+			c2[f] = random.nextInt(65536);
+			c3[f] = random.nextInt(8) == 0 ? -1 : random.nextInt(65536);
+			transparencies[f] = (byte) (random.nextInt(10) == 0 ? 128 : 0);
+		}
+
+		Model model = stub(Model.class);
+		when(model.getFaceCount()).thenReturn(faces);
+		when(model.getVerticesCount()).thenReturn(vertices);
+		when(model.getVerticesX()).thenReturn(vx);
+		when(model.getVerticesY()).thenReturn(vy);
+		when(model.getVerticesZ()).thenReturn(vz);
+		when(model.getFaceIndices1()).thenReturn(i1);
+		when(model.getFaceIndices2()).thenReturn(i2);
+		when(model.getFaceIndices3()).thenReturn(i3);
+		when(model.getFaceColors1()).thenReturn(c1);
+		when(model.getFaceColors2()).thenReturn(c2);
+		when(model.getFaceColors3()).thenReturn(c3);
+		when(model.getFaceTransparencies()).thenReturn(transparencies);
+		return model;
+	}
+
+	/**
+	 * Mocks which are called from several threads, and don't record their invocations
+	 */
+	private static <T> T stub(Class<T> type)
+	{
+		return mock(type, withSettings().stubOnly());
+	}
+}
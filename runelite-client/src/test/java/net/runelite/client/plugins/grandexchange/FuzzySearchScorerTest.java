@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grandexchange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import net.runelite.api.ItemComposition;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FuzzySearchScorerTest
+{
+	private static final List<String> NAMES = Arrays.asList(
+		"Anti-venom(4)", "Anti-venom+(4)", "Antipoison(4)", "Superantipoison(4)", "Abyssal whip", "Abyssal dagger",
+		"Abyssal bludgeon", "Rune platebody", "Rune platelegs", "Rune pouch", "Runite bar", "Runite ore",
+		"Dragon bones", "Superior dragon bones", "Dragon scimitar", "Dragon dagger(p++)", "Shark", "Cooked karambwan",
+		"Saradomin brew(4)", "Super restore(4)", "Prayer potion(4)", "Ranging potion(4)", "Twisted bow", "Toxic blowpipe",
+		"Amulet of glory(6)", "Amulet of fury", "Berserker ring", "Ring of wealth (5)", "Zulrah's scales", "Yew logs",
+		"Magic logs", "Magic shortbow", "Magic longbow", "Death rune", "Blood rune", "Nature rune", "Law rune"
+	);
+
+	private final FuzzySearchScorer scorer = new FuzzySearchScorer();
+
+	@Test
+	public void testSearchMatchesComparator()
+	{
+		List<ItemComposition> items = items();
+		for (String query : new String[]{"anti venom", "antivenom", "whip", "abysal", "rune", "rune plat", "dragn bones",
+			"sara brew", "glory", "mgic bow", "z", "bl", "super", "ring of", "xyz", "", " rune", "rune  pouch"})
+		{
+			assertEquals(query, names(sortByComparator(query, items, 250)), names(scorer.search(query, items, 250)));
+			assertEquals(query, names(sortByComparator(query, items, 3)), names(scorer.search(query, items, 3)));
+		}
+	}
+
+	@Test
+	public void testSearch()
+	{
+		assertEquals(Arrays.asList("Anti-venom(4)", "Anti-venom+(4)"), names(scorer.search("anti venom", items(), 2)));
+	}
+
+	// the filtering and ordering the grand exchange plugin used before search()
+	private List<ItemComposition> sortByComparator(String query, List<ItemComposition> items, int limit)
+	{
+		ToDoubleFunction<ItemComposition> comparator = scorer.comparator(query);
+		return items.stream()
+			.filter(item -> comparator.applyAsDouble(item) > 0)
+			.sorted(Comparator.comparingDouble(comparator).reversed()
+				.thenComparing(ItemComposition::getName))
+			.limit(limit)
+			.collect(Collectors.toList());
+	}
+
+	private static List<ItemComposition> items()
+	{
+		List<ItemComposition> items = new ArrayList<>();
+		for (String name : NAMES)
+		{
+			ItemComposition item = mock(ItemComposition.class);
+			when(item.getName()).thenReturn(name);
+			items.add(item);
+		}
+		return items;
+	}
+
+	private static List<String> names(List<ItemComposition> items)
+	{
+		return items.stream()
+			.map(ItemComposition::getName)
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	private static final Instant T0 = Instant.parse("2026-10-01T12:00:00Z");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File dir;
+
+	@Before
+	public void before() throws IOException
+	{
+		dir = folder.newFolder("loot");
+	}
+
+	@Test
+	public void testAggregate()
+	{
+		LootStore store = new LootStore(dir);
+		store.append(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1),
+			loot(LootRecordType.NPC, "Zulrah", T0, 1, ItemID.SNAKEBOSS_SCALE, 100)));
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0.plusSeconds(60), 2, ItemID.BONES, 2, ItemID.COINS, 5)));
+
+		ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+		assertEquals(3, goblin.kills);
+		assertEquals(T0, goblin.first);
+		assertEquals(T0.plusSeconds(60), goblin.last);
+		assertArrayEquals(new int[]{ItemID.BONES, 3, ItemID.COINS, 5}, goblin.drops);
+		assertEquals(2, store.getAll().size());
+		assertNull(store.get(LootRecordType.EVENT, "Goblin"));
+
+		// returned loot is a copy
+		goblin.add(ItemID.BONES, 10);
+		assertArrayEquals(new int[]{ItemID.BONES, 3, ItemID.COINS, 5}, store.get(LootRecordType.NPC, "Goblin").drops);
+	}
+
+	@Test
+	public void testReopen()
+	{
+		LootStore store = new LootStore(dir);
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1)));
+		store.close();
+
+		// written after the index, so replayed from the log
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0.plusSeconds(1), 1, ItemID.BONES, 1)));
+
+		store = new LootStore(dir);
+		ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin");
+		assertEquals(2, goblin.kills);
+		assertArrayEquals(new int[]{ItemID.BONES, 2}, goblin.drops);
+
+		// and without an index the whole log is replayed
+		assertTrue(new File(dir, "index.bin").delete());
+		store = new LootStore(dir);
+		assertEquals(2, store.get(LootRecordType.NPC, "Goblin").kills);
+	}
+
+	@Test
+	public void testTruncatedRecord() throws IOException
+	{
+		LootStore store = new LootStore(dir);
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1)));
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1)));
+
+		File segment = new File(dir, "0-0.seg");
+		try (RandomAccessFile raf = new RandomAccessFile(segment, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		store = new LootStore(dir);
+		assertEquals(1, store.get(LootRecordType.NPC, "Goblin").kills);
+
+		// appends continue after the last good record
+		store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1)));
+		store = new LootStore(dir);
+		assertEquals(2, store.get(LootRecordType.NPC, "Goblin").kills);
+	}
+
+	@Test
+	public void testQuery()
+	{
+		LootStore store = new LootStore(dir);
+		for (int day = 0; day < 10; ++day)
+		{
+			store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0.plus(Duration.ofDays(day)), 1, ItemID.COINS, day + 1)));
+		}
+
+		List<ConfigLoot> loots = store.query(T0.plus(Duration.ofDays(2)), T0.plus(Duration.ofDays(5)));
+		assertEquals(1, loots.size());
+		assertEquals(3, loots.get(0).kills);
+		assertArrayEquals(new int[]{ItemID.COINS, 3 + 4 + 5}, loots.get(0).drops);
+
+		assertTrue(store.query(T0.minus(Duration.ofDays(2)), T0).isEmpty());
+	}
+
+	@Test
+	public void testRemoveCompacts()
+	{
+		LootStore store = new LootStore(dir);
+		for (int i = 0; i < 100; ++i)
+		{
+			store.append(Arrays.asList(
+				loot(LootRecordType.NPC, "Goblin", T0.plusSeconds(i), 1, ItemID.BONES, 1),
+				loot(LootRecordType.NPC, "Zulrah", T0.plus(Duration.ofDays(i % 2)), 1, ItemID.SNAKEBOSS_SCALE, 10)));
+		}
+
+		long size = logSize();
+		store.remove(LootRecordType.NPC, "Goblin");
+		assertNull(store.get(LootRecordType.NPC, "Goblin"));
+
+		// the zulrah records are merged into one per day
+		assertEquals(1, store.segmentCount());
+		assertTrue(logSize() < size / 50);
+		List<ConfigLoot> day = store.query(T0, T0.plus(Duration.ofDays(1)));
+		assertEquals(1, day.size());
+		assertEquals(50, day.get(0).kills);
+
+		store = new LootStore(dir);
+		assertNull(store.get(LootRecordType.NPC, "Goblin"));
+		ConfigLoot zulrah = store.get(LootRecordType.NPC, "Zulrah");
+		assertEquals(100, zulrah.kills);
+		assertArrayEquals(new int[]{ItemID.SNAKEBOSS_SCALE, 1000}, zulrah.drops);
+		assertEquals(1, dir.list((d, name) -> name.endsWith(".seg")).length);
+	}
+
+	@Test
+	public void testExpire()
+	{
+		LootStore store = new LootStore(dir);
+		store.append(Arrays.asList(
+			loot(LootRecordType.NPC, "Goblin", T0, 1, ItemID.BONES, 1),
+			loot(LootRecordType.NPC, "Zulrah", T0.plus(Duration.ofDays(30)), 1, ItemID.SNAKEBOSS_SCALE, 10)));
+
+		assertEquals(1, store.expire(T0.plus(Duration.ofDays(1))));
+		assertNull(store.get(LootRecordType.NPC, "Goblin"));
+		assertEquals(1, store.getAll().size());
+
+		store.clear();
+		assertTrue(store.isEmpty());
+		assertTrue(new LootStore(dir).isEmpty());
+	}
+
+	@Test
+	public void testSegments()
+	{
+		LootStore store = new LootStore(dir);
+		int[] drops = new int[512];
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			drops[i] = i;
+			drops[i + 1] = 1;
+		}
+
+		// ~2KB per record
+		int records = (int) (LootStore.SEGMENT_SIZE * 3 / 2048);
+		for (int i = 0; i < records; ++i)
+		{
+			store.append(Collections.singletonList(loot(LootRecordType.NPC, "Goblin", T0.plusSeconds(i), 1, drops)));
+		}
+		assertTrue(store.segmentCount() >= 3);
+
+		store = new LootStore(dir);
+		assertEquals(records, store.get(LootRecordType.NPC, "Goblin").kills);
+	}
+
+	private long logSize()
+	{
+		long size = 0;
+		for (File file : dir.listFiles((d, name) -> name.endsWith(".seg")))
+		{
+			size += file.length();
+		}
+		return size;
+	}
+
+	private static ConfigLoot loot(LootRecordType type, String name, Instant time, int kills, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot(type, name);
+		loot.first = loot.last = time;
+		loot.kills = kills;
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+}
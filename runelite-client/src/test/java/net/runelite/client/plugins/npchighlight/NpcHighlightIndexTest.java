@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.npchighlight;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class NpcHighlightIndexTest
+{
+	@Test
+	public void testMatches()
+	{
+		NpcHighlightIndex index = new NpcHighlightIndex();
+		assertTrue(index.setHighlights(Arrays.asList("goblin", "*wyvern")));
+
+		assertTrue(index.matches(1, "Goblin"));
+		assertTrue(index.matches(2, "Spitting Wyvern"));
+		assertFalse(index.matches(3, "Hobgoblin"));
+		// cached
+		assertTrue(index.matches(1, "Goblin"));
+	}
+
+	@Test
+	public void testHighlightsChanged()
+	{
+		NpcHighlightIndex index = new NpcHighlightIndex();
+		index.setHighlights(Collections.singletonList("goblin"));
+		assertTrue(index.matches(1, "Goblin"));
+
+		assertFalse(index.setHighlights(Collections.singletonList("goblin")));
+		assertTrue(index.setHighlights(Collections.singletonList("hob*")));
+		assertFalse(index.matches(1, "Goblin"));
+		assertTrue(index.matches(3, "Hobgoblin"));
+
+		index.clear();
+		assertFalse(index.matches(3, "Hobgoblin"));
+	}
+
+	@Test
+	public void testNameChanged()
+	{
+		NpcHighlightIndex index = new NpcHighlightIndex();
+		index.setHighlights(Collections.singletonList("Werewolf"));
+
+		assertFalse(index.matches(1, "Joseph"));
+		assertTrue(index.matches(1, "Werewolf"));
+	}
+}
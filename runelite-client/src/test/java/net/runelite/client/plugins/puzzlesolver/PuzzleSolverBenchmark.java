@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PackedIDAStar;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares {@link IDAStar} with {@link ManhattanDistance} against {@link PackedIDAStar}
+ * over a fixed corpus of boards, scrambled by random walks from the goal state.
+ */
+@Slf4j
+public class PuzzleSolverBenchmark
+{
+	private static final long SEED = 0x5eed;
+	private static final int BOARDS = 20;
+	private static final int WALK_LENGTH = 60;
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final List<int[]> corpus = generateCorpus(new Random(SEED), BOARDS, WALK_LENGTH);
+
+		long start = System.nanoTime();
+		final PatternDatabase patternDatabase = PatternDatabase.compute();
+		log.info("Pattern database computed in {}ms", (System.nanoTime() - start) / 1_000_000);
+
+		long idaNodes = 0, idaNanos = 0, packedNodes = 0, packedNanos = 0;
+		for (int[] board : corpus)
+		{
+			final long[] count = new long[1];
+			final ManhattanDistance manhattanDistance = new ManhattanDistance();
+			// the Manhattan distance is computed once for each expanded node
+			final Heuristic counting = state ->
+			{
+				++count[0];
+				return manhattanDistance.computeValue(state);
+			};
+
+			start = System.nanoTime();
+			final int idaMoves = new IDAStar(counting).computePath(new PuzzleState(board.clone())).size() - 1;
+			final long idaTime = System.nanoTime() - start;
+
+			final PackedIDAStar packed = new PackedIDAStar(patternDatabase);
+			start = System.nanoTime();
+			final int packedMoves = packed.computePath(new PuzzleState(board.clone())).size() - 1;
+			final long packedTime = System.nanoTime() - start;
+
+			log.info("moves {}/{} time {}ms/{}ms nodes {}/{}", idaMoves, packedMoves,
+				idaTime / 1_000_000, packedTime / 1_000_000, count[0], packed.getNodes());
+
+			idaNodes += count[0];
+			idaNanos += idaTime;
+			packedNodes += packed.getNodes();
+			packedNanos += packedTime;
+		}
+
+		log.info("IDAStar:       {}ms total, {} nodes, {} nodes/s", idaNanos / 1_000_000, idaNodes, idaNodes * 1_000_000_000L / Math.max(1, idaNanos));
+		log.info("PackedIDAStar: {}ms total, {} nodes, {} nodes/s", packedNanos / 1_000_000, packedNodes, packedNodes * 1_000_000_000L / Math.max(1, packedNanos));
+	}
+
+	private static List<int[]> generateCorpus(Random random, int count, int walkLength)
+	{
+		final List<int[]> corpus = new ArrayList<>(count);
+		for (int n = 0; n < count; ++n)
+		{
+			final int[] board = new int[DIMENSION * DIMENSION];
+			for (int i = 0; i < board.length - 1; ++i)
+			{
+				board[i] = i;
+			}
+			board[board.length - 1] = BLANK_TILE_VALUE;
+
+			// random walks from the goal state are always solvable
+			int blank = board.length - 1;
+			int previous = -1;
+			for (int i = 0; i < walkLength; ++i)
+			{
+				final List<Integer> moves = new ArrayList<>(4);
+				final int x = blank % DIMENSION, y = blank / DIMENSION;
+				if (x > 0)
+				{
+					moves.add(blank - 1);
+				}
+				if (x < DIMENSION - 1)
+				{
+					moves.add(blank + 1);
+				}
+				if (y > 0)
+				{
+					moves.add(blank - DIMENSION);
+				}
+				if (y < DIMENSION - 1)
+				{
+					moves.add(blank + DIMENSION);
+				}
+				moves.remove((Integer) previous);
+
+				final int next = moves.get(random.nextInt(moves.size()));
+				board[blank] = board[next];
+				board[next] = BLANK_TILE_VALUE;
+				previous = blank;
+				blank = next;
+			}
+
+			corpus.add(board);
+		}
+		return corpus;
+	}
+}
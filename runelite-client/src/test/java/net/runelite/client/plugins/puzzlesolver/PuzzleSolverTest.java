@@ -25,17 +25,30 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PackedIDAStar;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class PuzzleSolverTest
 {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private static final PuzzleState[] START_STATES =
 	{
 		new PuzzleState(new int[]{0, 11, 1, 3, 4, 5, 12, 2, 7, 9, 6, 20, 18, 16, 8, 15, 22, 10, 14, 13, 21, -1, 17, 23, 19}),
@@ -163,4 +176,84 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testPackedSolver()
+	{
+		PatternDatabase patternDatabase = PatternDatabase.compute();
+
+		for (PuzzleState state : START_STATES)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new PackedIDAStar(patternDatabase), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertFalse(solver.hasFailed());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+
+			// both solvers are optimal, so must find solutions of the same length
+			PuzzleSolver reference = new PuzzleSolver(new IDAStar(new ManhattanDistance()), state);
+			reference.run();
+			assertEquals(reference.getStepCount(), solver.getStepCount());
+		}
+	}
+
+	@Test
+	public void testPackedSolverUnsolvable()
+	{
+		PuzzleState state = new PuzzleState(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1});
+		PuzzleSolver solver = new PuzzleSolver(new PackedIDAStar(PatternDatabase.compute()), state);
+		solver.run();
+
+		assertTrue(solver.hasFailed());
+	}
+
+	@Test
+	public void testPatternDatabaseRoundTrip()
+	{
+		File file = new File(folder.getRoot(), "pdb.gz");
+		PatternDatabase computed = PatternDatabase.load(file);
+		assertTrue(file.exists());
+		assertTrue(file.setLastModified(0));
+
+		// the second load reads the file rather than computing and rewriting it
+		PatternDatabase read = PatternDatabase.load(file);
+		assertEquals(0, file.lastModified());
+		for (PuzzleState state : START_STATES)
+		{
+			assertEquals(computed.computeValue(state), read.computeValue(state));
+		}
+	}
+
+	@Test
+	public void testCorruptPatternDatabase() throws IOException
+	{
+		File file = folder.newFile("pdb.gz");
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(file))))
+		{
+			out.writeInt(0x50444231);
+			out.writeInt(1);
+			out.writeInt(PatternDatabase.GROUPS.length);
+			out.writeInt(PatternDatabase.GROUPS[0].length);
+			for (int tile : PatternDatabase.GROUPS[0])
+			{
+				out.writeInt(tile);
+			}
+			out.writeInt(-1);
+		}
+
+		// a corrupt file is recomputed rather than failing
+		PatternDatabase patternDatabase = PatternDatabase.load(file);
+		PatternDatabase reference = PatternDatabase.compute();
+		for (PuzzleState state : START_STATES)
+		{
+			assertEquals(reference.computeValue(state), patternDatabase.computeValue(state));
+		}
+
+		// and is replaced with a valid one
+		assertTrue(file.setLastModified(0));
+		patternDatabase = PatternDatabase.load(file);
+		assertEquals(0, file.lastModified());
+		assertEquals(reference.computeValue(START_STATES[0]), patternDatabase.computeValue(START_STATES[0]));
+	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PingEngineTest
+{
+	private final List<ServerSocket> listeners = new ArrayList<>();
+
+	@Before
+	public void before() throws IOException
+	{
+		for (int i = 0; i < 8; ++i)
+		{
+			listeners.add(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+		}
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		for (ServerSocket listener : listeners)
+		{
+			listener.close();
+		}
+	}
+
+	@Test
+	public void testProbeLoopback() throws IOException
+	{
+		Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (int i = 0; i < listeners.size(); ++i)
+		{
+			targets.put(i, (InetSocketAddress) listeners.get(i).getLocalSocketAddress());
+		}
+
+		Map<Integer, Integer> results = new HashMap<>();
+		// fewer in flight than targets, so the queue has to drain
+		new PingEngine(3, 2000).probe(targets, results::put);
+
+		assertEquals(targets.size(), results.size());
+		for (int rtt : results.values())
+		{
+			assertTrue(rtt >= 0);
+		}
+	}
+
+	@Test
+	public void testProbeRefused() throws IOException
+	{
+		ServerSocket closed = listeners.remove(0);
+		InetSocketAddress address = (InetSocketAddress) closed.getLocalSocketAddress();
+		closed.close();
+
+		Map<String, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put("closed", address);
+		targets.put("open", (InetSocketAddress) listeners.get(0).getLocalSocketAddress());
+
+		Map<String, Integer> results = new HashMap<>();
+		new PingEngine(1, 2000).probe(targets, results::put);
+
+		assertEquals(-1, (int) results.get("closed"));
+		assertTrue(results.get("open") >= 0);
+	}
+
+	@Test
+	public void testProbeCountedOnce() throws IOException
+	{
+		Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (int i = 0; i < 64; ++i)
+		{
+			targets.put(i, (InetSocketAddress) listeners.get(i % listeners.size()).getLocalSocketAddress());
+		}
+
+		// with a 1ms timeout probes race between completing and expiring, and each
+		// must still be reported exactly once
+		Map<Integer, Integer> counts = new HashMap<>();
+		new PingEngine(4, 1).probe(targets, (target, rtt) -> counts.merge(target, 1, Integer::sum));
+
+		assertEquals(targets.size(), counts.size());
+		for (int count : counts.values())
+		{
+			assertEquals(1, count);
+		}
+	}
+
+	@Test
+	public void testSmoothing()
+	{
+		PingEngine engine = new PingEngine();
+		assertEquals(-1, engine.getPing(301));
+
+		assertEquals(100, engine.record(301, 100));
+		// srtt moves 1/8 of the way to the sample
+		assertEquals(113, engine.record(301, 200));
+		assertEquals(113, engine.getPing(301));
+
+		// samples which may include a retransmit don't move an existing estimate
+		assertEquals(113, engine.record(301, 1100, true));
+		// but do seed a new one
+		assertEquals(1100, engine.record(302, 1100, true));
+
+		// unreachable resets the estimate
+		assertEquals(-1, engine.record(301, -1));
+		assertEquals(-1, engine.getPing(301));
+		assertEquals(50, engine.record(301, 50));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.config.RuneLiteConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OverlayProfilerTest
+{
+	private static class TestOverlay extends Overlay
+	{
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return null;
+		}
+	}
+
+	private RuneLiteConfig runeLiteConfig;
+	private OverlayProfiler overlayProfiler;
+
+	@Before
+	public void before()
+	{
+		runeLiteConfig = mock(RuneLiteConfig.class);
+		overlayProfiler = new OverlayProfiler(runeLiteConfig);
+	}
+
+	@Test
+	public void testPercentiles()
+	{
+		Overlay overlay = new TestOverlay();
+		overlayProfiler.frame();
+		for (int i = 1; i <= 100; ++i)
+		{
+			overlayProfiler.record(overlay, OverlayLayer.ABOVE_SCENE, i);
+		}
+
+		List<OverlayProfiler.Stats> stats = overlayProfiler.getOverlayStats();
+		assertEquals(1, stats.size());
+
+		OverlayProfiler.Stats s = stats.get(0);
+		assertEquals("TestOverlay", s.getName());
+		assertEquals(100, s.getSamples());
+		assertEquals(50, s.getP50());
+		assertEquals(95, s.getP95());
+		assertEquals(99, s.getP99());
+		assertEquals(100, s.getMax());
+	}
+
+	@Test
+	public void testLayerTiming()
+	{
+		Overlay a = new TestOverlay();
+		Overlay b = new TestOverlay();
+
+		overlayProfiler.frame();
+		overlayProfiler.record(a, OverlayLayer.ABOVE_SCENE, 100);
+		overlayProfiler.record(b, OverlayLayer.ABOVE_SCENE, 200);
+		overlayProfiler.frame();
+
+		OverlayProfiler.Stats s = overlayProfiler.getLayerStats().get(OverlayLayer.ABOVE_SCENE);
+		assertEquals(1, s.getSamples());
+		assertEquals(300, s.getMax());
+		assertEquals(0, overlayProfiler.getLayerStats().get(OverlayLayer.ALWAYS_ON_TOP).getSamples());
+	}
+
+	@Test
+	public void testThrottle()
+	{
+		when(runeLiteConfig.overlayRenderBudget()).thenReturn(1);
+		final long slow = TimeUnit.MILLISECONDS.toNanos(5);
+
+		Overlay overlay = new TestOverlay();
+		for (int i = 0; i < OverlayProfiler.THROTTLE_THRESHOLD; ++i)
+		{
+			overlayProfiler.frame();
+			assertTrue(overlayProfiler.shouldRender(overlay));
+			overlayProfiler.record(overlay, OverlayLayer.ABOVE_SCENE, slow);
+		}
+
+		// throttled overlays skip frames until the interval has passed
+		for (int i = 1; i < OverlayProfiler.THROTTLE_INTERVAL; ++i)
+		{
+			overlayProfiler.frame();
+			assertFalse(overlayProfiler.shouldRender(overlay));
+		}
+		overlayProfiler.frame();
+		assertTrue(overlayProfiler.shouldRender(overlay));
+
+		OverlayProfiler.Stats s = overlayProfiler.getOverlayStats().get(0);
+		assertTrue(s.isThrottled());
+		assertEquals(OverlayProfiler.THROTTLE_INTERVAL - 1, s.getSkipped());
+
+		// rendering within budget lifts the throttle
+		overlayProfiler.record(overlay, OverlayLayer.ABOVE_SCENE, 0);
+		overlayProfiler.frame();
+		assertTrue(overlayProfiler.shouldRender(overlay));
+		assertFalse(overlayProfiler.getOverlayStats().get(0).isThrottled());
+	}
+}
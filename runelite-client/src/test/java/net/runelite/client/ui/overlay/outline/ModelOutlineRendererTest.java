@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.NPC;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+public class ModelOutlineRendererTest
+{
+	private static final int WIDTH = 765;
+	private static final int HEIGHT = 503;
+	// With the camera looking along the y axis with no pitch or yaw, models placed this far in
+	// front of it are projected one pixel per local unit, around the center of the viewport.
+	private static final int DEPTH = 1000;
+	private static final int CAMERA_X = 52 * 128;
+
+	private Client client;
+	private WorldView wv;
+	private BufferedImage image;
+	private ModelOutlineRenderer renderer;
+
+	@Before
+	public void before()
+	{
+		image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenReturn(image);
+
+		wv = mock(WorldView.class);
+		when(wv.isTopLevel()).thenReturn(true);
+		when(wv.getTileSettings()).thenReturn(new byte[4][104][104]);
+
+		client = mock(Client.class);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(client.getViewportWidth()).thenReturn(WIDTH);
+		when(client.getViewportHeight()).thenReturn(HEIGHT);
+		when(client.getScale()).thenReturn(DEPTH);
+		when(client.getCameraX()).thenReturn(CAMERA_X);
+		when(client.getWorldView(anyInt())).thenReturn(wv);
+
+		renderer = new ModelOutlineRenderer(client);
+	}
+
+	@Test
+	public void testBatchMatchesSeparateOutlines()
+	{
+		Random random = new Random(1);
+		List<NPC> npcs = new ArrayList<>();
+		for (int i = 0; i < 6; i++)
+		{
+			// spaced far enough apart that the outlines do not touch
+			npcs.add(npc(blob(random, 30, 200), -300 + i * 110, (i % 2) * 120 - 60));
+		}
+
+		for (int width : new int[]{1, 4, 12})
+		{
+			for (Color color : new Color[]{Color.RED, new Color(0, 255, 0, 128)})
+			{
+				clear();
+				for (NPC npc : npcs)
+				{
+					renderer.drawOutline(npc, width, color, 2);
+				}
+				int[] separate = pixels();
+
+				clear();
+				renderer.drawOutlines(npcs, width, color, 2);
+				int[] batched = pixels();
+
+				assertNotEquals(0, Arrays.stream(batched).filter(p -> p != 0).count());
+				assertArrayEquals(separate, batched);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelRasterization()
+	{
+		Random random = new Random(2);
+		List<NPC> npcs = new ArrayList<>();
+		for (int i = 0; i < 40; i++)
+		{
+			npcs.add(npc(blob(random, 40, 500), random.nextInt(600) - 300, random.nextInt(360) - 180));
+		}
+
+		clear();
+		renderer.drawOutlines(npcs, 3, Color.CYAN, 0);
+		int[] serial = pixels();
+
+		renderer.setParallelRasterFaceThreshold(0);
+		clear();
+		renderer.drawOutlines(npcs, 3, Color.CYAN, 0);
+		int[] parallel = pixels();
+
+		assertArrayEquals(serial, parallel);
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Random random = new Random(3);
+		List<NPC> npcs = new ArrayList<>();
+		for (int i = 0; i < 60; i++)
+		{
+			npcs.add(npc(blob(random, 35, 2000), random.nextInt(600) - 300, random.nextInt(360) - 180));
+		}
+
+		final int frames = 200;
+		for (int round = 0; round < 3; round++)
+		{
+			long start = System.nanoTime();
+			for (int f = 0; f < frames; f++)
+			{
+				for (NPC npc : npcs)
+				{
+					renderer.drawOutline(npc, 4, Color.RED, 2);
+				}
+			}
+			long separate = System.nanoTime() - start;
+
+			renderer.setParallelRasterFaceThreshold(Integer.MAX_VALUE);
+			start = System.nanoTime();
+			for (int f = 0; f < frames; f++)
+			{
+				renderer.drawOutlines(npcs, 4, Color.RED, 2);
+			}
+			long batched = System.nanoTime() - start;
+
+			renderer.setParallelRasterFaceThreshold(0);
+			start = System.nanoTime();
+			for (int f = 0; f < frames; f++)
+			{
+				renderer.drawOutlines(npcs, 4, Color.RED, 2);
+			}
+			long parallel = System.nanoTime() - start;
+
+			log.info("{} npcs: separate {}us, batched {}us, batched parallel {}us per frame",
+				npcs.size(), separate / 1000 / frames, batched / 1000 / frames, parallel / 1000 / frames);
+		}
+	}
+
+	private NPC npc(Model model, int screenX, int screenY)
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(CAMERA_X + screenX, DEPTH, WorldView.TOPLEVEL));
+		when(npc.getModel()).thenReturn(model);
+		when(npc.getWorldView()).thenReturn(wv);
+		// The vertical screen position comes from the vertices, as the model is placed at height 0
+		float[] ys = model.getVerticesY();
+		for (int i = 0; i < ys.length; i++)
+		{
+			ys[i] += screenY;
+		}
+		return npc;
+	}
+
+	/**
+	 * Creates a mesh of random triangles inside a circle, all facing the camera.
+	 */
+	private static Model blob(Random random, int radius, int faces)
+	{
+		int vertices = faces * 3;
+		float[] xs = new float[vertices];
+		float[] ys = new float[vertices];
+		float[] zs = new float[vertices];
+		int[] i1 = new int[faces], i2 = new int[faces], i3 = new int[faces];
+		for (int f = 0; f < faces; f++)
+		{
+			for (int v = 0; v < 3; v++)
+			{
+				double angle = random.nextDouble() * Math.PI * 2;
+				double dist = Math.sqrt(random.nextDouble()) * radius;
+				xs[f * 3 + v] = (float) (Math.cos(angle) * dist);
+				ys[f * 3 + v] = (float) (Math.sin(angle) * dist);
+			}
+
+			int a = f * 3, b = a + 1, c = a + 2;
+			float cross = (ys[b] - ys[a]) * (xs[c] - xs[b]) - (xs[b] - xs[a]) * (ys[c] - ys[b]);
+			i1[f] = a;
+			i2[f] = cross > 0 ? b : c;
+			i3[f] = cross > 0 ? c : b;
+		}
+
+		Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(vertices);
+		when(model.getVerticesX()).thenReturn(xs);
+		when(model.getVerticesY()).thenReturn(ys);
+		when(model.getVerticesZ()).thenReturn(zs);
+		when(model.getFaceCount()).thenReturn(faces);
+		when(model.getFaceIndices1()).thenReturn(i1);
+		when(model.getFaceIndices2()).thenReturn(i2);
+		when(model.getFaceIndices3()).thenReturn(i3);
+		return model;
+	}
+
+	private void clear()
+	{
+		Arrays.fill(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0);
+	}
+
+	private int[] pixels()
+	{
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData().clone();
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class WorldMapPointManagerTest
+{
+	private final WorldMapPointManager manager = new WorldMapPointManager();
+
+	private static WorldMapPoint point(int x, int y)
+	{
+		return new WorldMapPoint(new WorldPoint(x, y, 0), null);
+	}
+
+	@Test
+	public void testQuery()
+	{
+		WorldMapPoint a = point(3200, 3200);
+		WorldMapPoint b = point(3263, 3263);
+		WorldMapPoint c = point(3300, 3200);
+		WorldMapPoint d = point(2000, 2000);
+		d.setSnapToEdge(true);
+		manager.add(a);
+		manager.add(b);
+		manager.add(c);
+		manager.add(d);
+
+		assertEquals(Arrays.asList(a, b, d), manager.getWorldMapPoints(3200, 3200, 3263, 3263));
+		assertEquals(Arrays.asList(a, d), manager.getWorldMapPoints(3190, 3190, 3210, 3210));
+		assertEquals(Arrays.asList(a, b, c, d), manager.getWorldMapPoints(0, 0, 20000, 20000));
+	}
+
+	@Test
+	public void testMove()
+	{
+		WorldMapPoint a = point(3200, 3200);
+		WorldMapPoint b = point(3210, 3210);
+		manager.add(a);
+		manager.add(b);
+
+		a.setWorldPoint(new WorldPoint(1000, 1000, 0));
+		assertEquals(Collections.singletonList(b), manager.getWorldMapPoints(3190, 3190, 3220, 3220));
+		// moving keeps the draw order
+		a.setWorldPoint(new WorldPoint(3205, 3205, 0));
+		assertEquals(Arrays.asList(a, b), manager.getWorldMapPoints(3190, 3190, 3220, 3220));
+
+		a.setSnapToEdge(true);
+		assertEquals(Collections.singletonList(a), manager.getWorldMapPoints(0, 0, 10, 10));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		WorldMapPoint a = point(3200, 3200);
+		WorldMapPoint b = point(3201, 3201);
+		WorldMapPoint c = point(3202, 3202);
+		manager.add(a);
+		manager.add(b);
+		manager.add(c);
+
+		manager.remove(b);
+		assertEquals(Arrays.asList(a, c), manager.getWorldMapPoints(3190, 3190, 3210, 3210));
+
+		manager.removeIf(p -> p == c);
+		assertEquals(Collections.singletonList(a), manager.getWorldMapPoints(3190, 3190, 3210, 3210));
+
+		// removed points no longer update the index
+		c.setWorldPoint(new WorldPoint(3203, 3203, 0));
+		assertEquals(Collections.singletonList(a), manager.getWorldMapPoints(3190, 3190, 3210, 3210));
+
+		manager.remove(a);
+		assertTrue(manager.isEmpty());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		final int count = 50_000;
+		final int frames = 1000;
+		Random random = new Random(0x5eed);
+
+		List<WorldMapPoint> all = new ArrayList<>(count);
+		long start = System.nanoTime();
+		for (int i = 0; i < count; ++i)
+		{
+			WorldMapPoint point = point(1024 + random.nextInt(3072), 2496 + random.nextInt(7680));
+			all.add(point);
+			manager.add(point);
+		}
+		log.info("insert {} points: {}us", count, (System.nanoTime() - start) / 1000);
+
+		// a viewport at the default zoom, panning across the map
+		int visible = 0;
+		start = System.nanoTime();
+		for (int i = 0; i < frames; ++i)
+		{
+			int x = 1200 + (i * 7) % 2600, y = 2600 + (i * 11) % 7000;
+			visible += manager.getWorldMapPoints(x - 100, y - 80, x + 100, y + 80).size();
+		}
+		long indexed = System.nanoTime() - start;
+
+		int scanned = 0;
+		start = System.nanoTime();
+		for (int i = 0; i < frames; ++i)
+		{
+			int x = 1200 + (i * 7) % 2600, y = 2600 + (i * 11) % 7000;
+			scanned += all.stream().filter(p ->
+			{
+				WorldPoint wp = p.getWorldPoint();
+				return wp.getX() >= x - 100 && wp.getX() <= x + 100 && wp.getY() >= y - 80 && wp.getY() <= y + 80;
+			}).collect(Collectors.toList()).size();
+		}
+		long linear = System.nanoTime() - start;
+
+		assertEquals(scanned, visible);
+		log.info("{} frames, {} points visible: indexed {}us/frame, linear {}us/frame",
+			frames, visible / frames, indexed / 1000 / frames, linear / 1000 / frames);
+
+		start = System.nanoTime();
+		for (WorldMapPoint point : all)
+		{
+			manager.remove(point);
+		}
+		log.info("remove {} points: {}us", count, (System.nanoTime() - start) / 1000);
+		assertTrue(manager.isEmpty());
+	}
+}
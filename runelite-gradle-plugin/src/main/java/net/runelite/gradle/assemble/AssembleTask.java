@@ -27,19 +27,20 @@ package net.runelite.gradle.assemble;
 
 import com.google.common.io.Files;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.inject.Inject;
 import net.runelite.cache.IndexType;
-import net.runelite.cache.definitions.ScriptDefinition;
-import net.runelite.cache.definitions.savers.ScriptSaver;
-import net.runelite.cache.script.RuneLiteInstructions;
-import net.runelite.cache.script.assembler.Assembler;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.provider.Property;
@@ -48,17 +49,24 @@ import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
-import org.tomlj.Toml;
-import org.tomlj.TomlParseError;
-import org.tomlj.TomlParseResult;
-import org.tomlj.TomlTable;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 
 @CacheableTask
 public abstract class AssembleTask extends DefaultTask
 {
+	private static final String SCRIPT_EXTENSION = "rs2asm";
+	private static final String HASH_EXTENSION = "hash";
+	private static final int BATCH_SIZE = 8;
+
+	@Incremental
 	@InputDirectory
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract DirectoryProperty getScriptDirectory();
@@ -73,117 +81,152 @@ public abstract class AssembleTask extends DefaultTask
 	@Input
 	public abstract Property<Boolean> getLongSupport();
 
+	/**
+	 * The id each script was last assembled to, which is used to find the outputs of
+	 * changed and removed scripts on incremental builds
+	 */
+	@OutputFile
+	public abstract RegularFileProperty getScriptIdsFile();
+
+	@Inject
+	public abstract WorkerExecutor getWorkerExecutor();
+
 	private final Logger log = getLogger();
 
 	@TaskAction
-	public void assembleRs2Asm() throws IOException
+	public void assembleRs2Asm(InputChanges inputChanges) throws IOException
 	{
 		File scriptDirectory = getScriptDirectory().getAsFile().get();
 		File outputDirectory = getOutputDirectory().getAsFile().get();
-		File componentsFile = getComponentsFile().getAsFile().get();
+		File scriptIdsFile = getScriptIdsFile().getAsFile().get();
 
-		RuneLiteInstructions instructions = new RuneLiteInstructions();
-		instructions.init();
-
-		Assembler assembler = new Assembler(instructions, buildComponentSymbols(componentsFile));
-		ScriptSaver saver = new ScriptSaver(getLongSupport().getOrElse(true));
-
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 
-		getProject().delete(scriptOut);
-		scriptOut.mkdirs();
+		Map<String, Integer> scriptIds = new TreeMap<>();
+		TreeSet<File> scripts = new TreeSet<>();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+		// Changes to the components file or long support aren't incremental, and Gradle
+		// reports those as a non-incremental build
+		if (inputChanges.isIncremental() && scriptIdsFile.exists())
 		{
-			log.debug("Assembling {}", scriptFile);
+			scriptIds.putAll(readScriptIds(scriptIdsFile));
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+			for (FileChange change : inputChanges.getFileChanges(getScriptDirectory()))
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
-
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
-
-				// Copy hash file
-
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
+				File file = change.getFile();
+				String extension = Files.getFileExtension(file.getName());
+				if (change.getFileType() == FileType.DIRECTORY
+					|| !scriptDirectory.equals(file.getParentFile())
+					|| !(extension.equals(SCRIPT_EXTENSION) || extension.equals(HASH_EXTENSION)))
 				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					continue;
 				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+
+				// A change to either the script or its hash reassembles the script
+				String name = Files.getNameWithoutExtension(file.getName());
+				Integer id = scriptIds.remove(name);
+				if (id != null && !scriptIds.containsValue(id))
 				{
-					throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+					log.debug("Removing {} for {} {}", id, name, change.getChangeType());
+					deleteScript(scriptOut, id);
 				}
 
-				++count;
+				File scriptFile = new File(scriptDirectory, name + "." + SCRIPT_EXTENSION);
+				if (scriptFile.exists())
+				{
+					scripts.add(scriptFile);
+				}
 			}
 		}
-
-		log.lifecycle("Assembled {} scripts", count);
-	}
-
-	private Map<String, Object> buildComponentSymbols(File file)
-	{
-		TomlParseResult result;
-		try
+		else
 		{
-			result = Toml.parse(file.toPath());
-		}
-		catch (IOException e)
-		{
-			throw new RuntimeException("unable to read component file " + file.getName(), e);
-		}
+			getProject().delete(scriptOut);
+			scriptOut.mkdirs();
 
-		if (result.hasErrors())
-		{
-			for (TomlParseError err : result.errors())
+			for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith("." + SCRIPT_EXTENSION)))
 			{
-				log.error(err.toString());
+				scripts.add(scriptFile);
 			}
-			throw new RuntimeException("unable to parse component file " + file.getName());
 		}
 
-		Map<String, Object> symbols = new HashMap<>();
-		for (var entry : result.entrySet())
+		List<File> results = new ArrayList<>();
+		if (!scripts.isEmpty())
 		{
-			var interfaceName = entry.getKey();
-			TomlTable tbl = (TomlTable) entry.getValue();
-
-			if (!tbl.contains("id"))
+			File temporaryDir = getTemporaryDir();
+			WorkQueue queue = getWorkerExecutor().noIsolation();
+			List<File> batch = new ArrayList<>(BATCH_SIZE);
+			for (File scriptFile : scripts)
 			{
-				throw new RuntimeException("interface " + interfaceName + " has no id");
+				batch.add(scriptFile);
+				if (batch.size() == BATCH_SIZE || scriptFile == scripts.last())
+				{
+					File resultFile = new File(temporaryDir, "batch-" + results.size());
+					List<File> batchScripts = new ArrayList<>(batch);
+					queue.submit(AssembleWorkAction.class, params ->
+					{
+						params.getScripts().from(batchScripts);
+						params.getScriptDirectory().set(scriptDirectory);
+						params.getOutputDirectory().set(scriptOut);
+						params.getComponentsFile().set(getComponentsFile());
+						params.getLongSupport().set(getLongSupport().orElse(true));
+						params.getResultFile().set(resultFile);
+					});
+					results.add(resultFile);
+					batch.clear();
+				}
 			}
 
-			int interfaceId = (int) (long) tbl.getLong("id");
-			if (interfaceId < 0 || interfaceId > 0xffff)
-			{
-				throw new RuntimeException("interface id out of range for " + interfaceName);
-			}
+			queue.await();
+		}
 
-			for (var entry2 : tbl.entrySet())
+		Map<Integer, String> owners = new HashMap<>();
+		scriptIds.forEach((name, id) -> owners.put(id, name));
+		for (File resultFile : results)
+		{
+			for (Map.Entry<String, Integer> entry : readScriptIds(resultFile).entrySet())
 			{
-				var componentName = entry2.getKey();
-				if (componentName.equals("id"))
+				String owner = owners.put(entry.getValue(), entry.getKey());
+				if (owner != null && !owner.equals(entry.getKey()))
 				{
-					continue;
+					throw new GradleException("Scripts " + owner + " and " + entry.getKey() + " both have id " + entry.getValue());
 				}
+				scriptIds.put(entry.getKey(), entry.getValue());
+			}
+		}
 
-				int id = (int) (long) entry2.getValue();
-				if (id < 0 || id > 0xffff)
-				{
-					throw new RuntimeException("component id out of range for " + componentName);
-				}
+		writeScriptIds(scriptIdsFile, scriptIds);
 
-				var fullName = interfaceName.toLowerCase(Locale.ENGLISH) + ":" + componentName.toLowerCase(Locale.ENGLISH);
-				int componentId = (interfaceId << 16) | id;
+		log.lifecycle("Assembled {} scripts", scripts.size());
+	}
 
-				symbols.put(fullName, componentId);
+	private static void deleteScript(File scriptOut, int id)
+	{
+		new File(scriptOut, Integer.toString(id)).delete();
+		new File(scriptOut, id + "." + HASH_EXTENSION).delete();
+	}
+
+	static Map<String, Integer> readScriptIds(File file) throws IOException
+	{
+		Map<String, Integer> scriptIds = new TreeMap<>();
+		for (String line : Files.readLines(file, StandardCharsets.UTF_8))
+		{
+			int idx = line.lastIndexOf('=');
+			if (idx != -1)
+			{
+				scriptIds.put(line.substring(0, idx), Integer.parseInt(line.substring(idx + 1)));
 			}
 		}
+		return scriptIds;
+	}
 
-		return symbols;
+	static void writeScriptIds(File file, Map<String, Integer> scriptIds) throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Integer> entry : new TreeMap<>(scriptIds).entrySet())
+		{
+			sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+		}
+		file.getParentFile().mkdirs();
+		Files.asCharSink(file, StandardCharsets.UTF_8).write(sb);
 	}
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.assemble;
+
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.script.RuneLiteInstructions;
+import net.runelite.cache.script.assembler.Assembler;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+import org.tomlj.Toml;
+import org.tomlj.TomlParseError;
+import org.tomlj.TomlParseResult;
+import org.tomlj.TomlTable;
+
+public abstract class AssembleWorkAction implements WorkAction<AssembleParameters>
+{
+	private static final Logger log = Logging.getLogger(AssembleWorkAction.class);
+
+	/*
+	 * Workers run without isolation, so the assembler is shared by all workers in the daemon
+	 * and is only rebuilt when the components file changes. This saves initializing the
+	 * instruction set and parsing the components file for every batch.
+	 */
+	private static String cachedAssemblerKey;
+	private static Assembler cachedAssembler;
+
+	@Override
+	public void execute()
+	{
+		AssembleParameters params = getParameters();
+		File scriptDirectory = params.getScriptDirectory().getAsFile().get();
+		File scriptOut = params.getOutputDirectory().getAsFile().get();
+
+		Assembler assembler = getAssembler(params.getComponentsFile().getAsFile().get());
+		ScriptSaver saver = new ScriptSaver(params.getLongSupport().get());
+
+		Map<String, Integer> scriptIds = new TreeMap<>();
+		try
+		{
+			for (File scriptFile : params.getScripts())
+			{
+				log.debug("Assembling {}", scriptFile);
+
+				try (FileInputStream fin = new FileInputStream(scriptFile))
+				{
+					ScriptDefinition script = assembler.assemble(fin);
+					byte[] packedScript = saver.save(script);
+
+					File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+					Files.write(packedScript, targetFile);
+
+					// Copy hash file
+
+					String name = Files.getNameWithoutExtension(scriptFile.getName());
+					File hashFile = new File(scriptDirectory, name + ".hash");
+					if (hashFile.exists())
+					{
+						Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					}
+					else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+					{
+						throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+					}
+
+					scriptIds.put(name, script.getId());
+				}
+			}
+
+			AssembleTask.writeScriptIds(params.getResultFile().getAsFile().get(), scriptIds);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static synchronized Assembler getAssembler(File componentsFile)
+	{
+		String key = componentsFile.getAbsolutePath() + ":" + componentsFile.lastModified() + ":" + componentsFile.length();
+		if (!key.equals(cachedAssemblerKey))
+		{
+			RuneLiteInstructions instructions = new RuneLiteInstructions();
+			instructions.init();
+
+			cachedAssembler = new Assembler(instructions, buildComponentSymbols(componentsFile));
+			cachedAssemblerKey = key;
+		}
+		return cachedAssembler;
+	}
+
+	private static Map<String, Object> buildComponentSymbols(File file)
+	{
+		TomlParseResult result;
+		try
+		{
+			result = Toml.parse(file.toPath());
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException("unable to read component file " + file.getName(), e);
+		}
+
+		if (result.hasErrors())
+		{
+			for (TomlParseError err : result.errors())
+			{
+				log.error(err.toString());
+			}
+			throw new RuntimeException("unable to parse component file " + file.getName());
+		}
+
+		Map<String, Object> symbols = new HashMap<>();
+		for (var entry : result.entrySet())
+		{
+			var interfaceName = entry.getKey();
+			TomlTable tbl = (TomlTable) entry.getValue();
+
+			if (!tbl.contains("id"))
+			{
+				throw new RuntimeException("interface " + interfaceName + " has no id");
+			}
+
+			int interfaceId = (int) (long) tbl.getLong("id");
+			if (interfaceId < 0 || interfaceId > 0xffff)
+			{
+				throw new RuntimeException("interface id out of range for " + interfaceName);
+			}
+
+			for (var entry2 : tbl.entrySet())
+			{
+				var componentName = entry2.getKey();
+				if (componentName.equals("id"))
+				{
+					continue;
+				}
+
+				int id = (int) (long) entry2.getValue();
+				if (id < 0 || id > 0xffff)
+				{
+					throw new RuntimeException("component id out of range for " + componentName);
+				}
+
+				var fullName = interfaceName.toLowerCase(Locale.ENGLISH) + ":" + componentName.toLowerCase(Locale.ENGLISH);
+				int componentId = (interfaceId << 16) | id;
+
+				symbols.put(fullName, componentId);
+			}
+		}
+
+		return symbols;
+	}
+}